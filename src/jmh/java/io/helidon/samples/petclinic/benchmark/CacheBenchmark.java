@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.benchmark;
+
+import io.helidon.samples.petclinic.cache.Cache;
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.cache.LruCache;
+import io.helidon.samples.petclinic.cache.StatsCounter;
+import io.helidon.samples.petclinic.cache.TinyLfuCache;
+import io.helidon.samples.petclinic.cache.Weigher;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-through lookups of {@link TinyLfuCache} and of the {@link LruCache} baseline on a Zipfian trace of a million
+ * owner ids, where a few thousand are popular. A miss caches an entry of 128 to 1024 bytes, and the caches are
+ * bounded by the bytes of {@code entries} entries of 576 bytes on average. The {@code hits} and {@code misses}
+ * counters give the hit ratio of each policy next to its throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CacheBenchmark {
+    private static final int KEYS = 1_000_000;
+    private static final double ZIPF_EXPONENT = 0.99;
+    private static final int TRACE_LENGTH = 1 << 22;
+    private static final int AVERAGE_ENTRY_BYTES = 576;
+    private static final byte[][] VALUES = new byte[8][];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = new byte[128 * (i + 1)];
+        }
+    }
+
+    @Param({Caches.TINY_LFU, Caches.LRU})
+    String policy;
+
+    @Param({"2000", "20000"})
+    int entries;
+
+    private Cache<Integer, byte[]> cache;
+    private int[] trace;
+
+    @Setup
+    public void setup() {
+        Weigher<Integer, byte[]> weigher = (key, value) -> value.length;
+        long maximumWeight = (long) entries * AVERAGE_ENTRY_BYTES;
+        cache = policy.equals(Caches.LRU)
+                ? new LruCache<>(maximumWeight, weigher, StatsCounter.DISABLED)
+                : new TinyLfuCache<>(maximumWeight, weigher, StatsCounter.DISABLED);
+        trace = zipfTrace();
+    }
+
+    @Benchmark
+    public byte[] readThrough(TracePosition position, Lookups lookups) {
+        var key = trace[position.next()];
+        var value = cache.getIfPresent(key);
+        if (value == null) {
+            lookups.misses++;
+            value = VALUES[key & (VALUES.length - 1)];
+            cache.put(key, value);
+        } else {
+            lookups.hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Position of a thread in the trace, each thread starts at a random position.
+     */
+    @State(Scope.Thread)
+    public static class TracePosition {
+        private int index = ThreadLocalRandom.current().nextInt(TRACE_LENGTH);
+
+        int next() {
+            index = (index + 1) & (TRACE_LENGTH - 1);
+            return index;
+        }
+    }
+
+    /**
+     * Hits and misses of an iteration.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Lookups {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    private static int[] zipfTrace() {
+        var cumulative = new double[KEYS];
+        double sum = 0;
+        for (int rank = 0; rank < KEYS; rank++) {
+            sum += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+        var random = new SplittableRandom(42);
+        var trace = new int[TRACE_LENGTH];
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            var rank = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            // the ids of the popular owners are spread over the whole range
+            trace[i] = (int) (((rank < 0 ? -rank - 1 : rank) * 0x9E3779B1L) % KEYS);
+        }
+        return trace;
+    }
+}
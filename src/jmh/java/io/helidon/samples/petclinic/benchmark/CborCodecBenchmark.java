@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.benchmark;
+
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import io.helidon.samples.petclinic.rest.json.CborGenerator;
+import io.helidon.samples.petclinic.rest.json.CborParser;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+import jakarta.json.stream.JsonParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of writing and reading a {@code GET /owners} response as JSON and as CBOR with the same
+ * generated codecs. The {@code bytes} counter reports the payload size of each format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CborCodecBenchmark {
+    @Param({"1", "100"})
+    int owners;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(256 * 1024);
+    private List<OwnerDto> ownerDtos;
+    private byte[] ownersJson;
+    private byte[] ownersCbor;
+
+    @Setup
+    public void setup() {
+        ownerDtos = new ArrayList<>();
+        for (int i = 1; i <= owners; i++) {
+            ownerDtos.add(owner(i));
+        }
+        ownersJson = writeJson().toByteArray();
+        ownersCbor = writeCbor().toByteArray();
+    }
+
+    @Benchmark
+    public int writeOwnersJson(PayloadSize size) {
+        size.bytes = writeJson().size();
+        return size.bytes;
+    }
+
+    @Benchmark
+    public int writeOwnersCbor(PayloadSize size) {
+        size.bytes = writeCbor().size();
+        return size.bytes;
+    }
+
+    @Benchmark
+    public List<OwnerDto> readOwnersJson() {
+        return read(JsonCodecs.parser(new ByteArrayInputStream(ownersJson)));
+    }
+
+    @Benchmark
+    public List<OwnerDto> readOwnersCbor() {
+        return read(new CborParser(new ByteArrayInputStream(ownersCbor)));
+    }
+
+    private ByteArrayOutputStream writeJson() {
+        output.reset();
+        try (var generator = JsonCodecs.generator(output)) {
+            JsonCodecs.writeValue(generator, ownerDtos);
+        }
+        return output;
+    }
+
+    private ByteArrayOutputStream writeCbor() {
+        output.reset();
+        try (var generator = new CborGenerator(output)) {
+            JsonCodecs.writeValue(generator, ownerDtos);
+        }
+        return output;
+    }
+
+    private static List<OwnerDto> read(JsonParser parser) {
+        try (parser) {
+            parser.next();
+            return JsonCodecs.readList(parser, element -> JsonCodecs.readObject(element, OwnerDto.class));
+        }
+    }
+
+    /**
+     * Size of the payload written by the last operation of an iteration.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadSize {
+        public int bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    private static OwnerDto owner(int id) {
+        var pets = new ArrayList<PetDto>();
+        for (int i = 1; i <= 2; i++) {
+            var petId = id * 10 + i;
+            var visits = new ArrayList<VisitDto>();
+            for (int j = 1; j <= 3; j++) {
+                var visit = new VisitDto(petId * 10 + j, petId);
+                visit.setDate(LocalDate.of(2024, j, 1));
+                visit.setDescription("rabies shot");
+                visits.add(visit);
+            }
+            var type = new PetTypeDto(2);
+            type.setName("dog");
+            var pet = new PetDto(petId, id, visits);
+            pet.setName("Pet " + petId);
+            pet.setBirthDate(LocalDate.of(2020, 1, 1));
+            pet.setType(type);
+            pets.add(pet);
+        }
+        var owner = new OwnerDto(id, pets);
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        return owner;
+    }
+}
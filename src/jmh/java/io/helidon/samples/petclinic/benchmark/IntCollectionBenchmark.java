@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.benchmark;
+
+import io.helidon.samples.petclinic.collection.IntArrayList;
+import io.helidon.samples.petclinic.collection.IntHashSet;
+import io.helidon.samples.petclinic.collection.IntObjectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The primitive {@code int} collections against their boxed JDK equivalents for {@code size} ids. The
+ * {@code build} benchmarks add all the ids to an empty collection, the {@code get} and {@code contains} benchmarks
+ * look up {@value #LOOKUPS} ids, half of them present, and the {@code sum} benchmarks read a whole list. Run with
+ * {@code -prof gc} to compare the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IntCollectionBenchmark {
+    private static final int LOOKUPS = 1024;
+    private static final Object VALUE = new Object();
+
+    @Param({"1000000"})
+    int size;
+
+    private int[] ids;
+    private int[] lookups;
+    private IntObjectMap<Object> intObjectMap;
+    private HashMap<Integer, Object> hashMap;
+    private IntHashSet intHashSet;
+    private HashSet<Integer> hashSet;
+    private IntArrayList intArrayList;
+    private ArrayList<Integer> arrayList;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(42);
+        // sparse ids beyond the Integer cache, as the ids of a large table
+        ids = random.ints(size, 1, Integer.MAX_VALUE).toArray();
+        lookups = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = i % 2 == 0 ? ids[random.nextInt(size)] : -random.nextInt(1, Integer.MAX_VALUE);
+        }
+        intObjectMap = buildIntObjectMap();
+        hashMap = buildHashMap();
+        intHashSet = buildIntHashSet();
+        hashSet = buildHashSet();
+        intArrayList = buildIntArrayList();
+        arrayList = buildArrayList();
+    }
+
+    @Benchmark
+    public IntObjectMap<Object> buildIntObjectMap() {
+        var map = new IntObjectMap<>();
+        for (var id : ids) {
+            map.put(id, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Integer, Object> buildHashMap() {
+        var map = new HashMap<Integer, Object>();
+        for (var id : ids) {
+            map.put(id, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int getIntObjectMap() {
+        int found = 0;
+        for (var id : lookups) {
+            if (intObjectMap.get(id) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int getHashMap() {
+        int found = 0;
+        for (var id : lookups) {
+            if (hashMap.get(id) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public IntHashSet buildIntHashSet() {
+        var set = new IntHashSet();
+        for (var id : ids) {
+            set.add(id);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public HashSet<Integer> buildHashSet() {
+        var set = new HashSet<Integer>();
+        for (var id : ids) {
+            set.add(id);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public int containsIntHashSet() {
+        int found = 0;
+        for (var id : lookups) {
+            if (intHashSet.contains(id)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int containsHashSet() {
+        int found = 0;
+        for (var id : lookups) {
+            if (hashSet.contains(id)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public IntArrayList buildIntArrayList() {
+        var list = new IntArrayList();
+        for (var id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> buildArrayList() {
+        var list = new ArrayList<Integer>();
+        for (var id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumIntArrayList() {
+        long sum = 0;
+        for (int i = 0; i < intArrayList.size(); i++) {
+            sum += intArrayList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumArrayList() {
+        long sum = 0;
+        for (int i = 0; i < arrayList.size(); i++) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.benchmark;
+
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.OwnerDtoJsonCodec;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of JSON-B and of the generated codecs for a {@code GET /owners} response and for reading
+ * one owner. Run with {@code -prof gc} to compare the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+    @Param({"1", "100"})
+    int owners;
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(256 * 1024);
+    private List<OwnerDto> ownerDtos;
+    private byte[] ownerJson;
+
+    @Setup
+    public void setup() {
+        ownerDtos = new ArrayList<>();
+        for (int i = 1; i <= owners; i++) {
+            ownerDtos.add(owner(i));
+        }
+        ownerJson = jsonb.toJson(ownerDtos.get(0)).getBytes();
+    }
+
+    @Benchmark
+    public int writeOwnersJsonb() {
+        output.reset();
+        jsonb.toJson(ownerDtos, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int writeOwnersCodec() {
+        output.reset();
+        try (var generator = JsonCodecs.generator(output)) {
+            JsonCodecs.writeValue(generator, ownerDtos);
+        }
+        return output.size();
+    }
+
+    @Benchmark
+    public OwnerDto readOwnerJsonb() {
+        return jsonb.fromJson(new ByteArrayInputStream(ownerJson), OwnerDto.class);
+    }
+
+    @Benchmark
+    public OwnerDto readOwnerCodec() {
+        try (var parser = JsonCodecs.parser(new ByteArrayInputStream(ownerJson))) {
+            parser.next();
+            return OwnerDtoJsonCodec.INSTANCE.read(parser);
+        }
+    }
+
+    private static OwnerDto owner(int id) {
+        var pets = new ArrayList<PetDto>();
+        for (int i = 1; i <= 2; i++) {
+            var petId = id * 10 + i;
+            var visits = new ArrayList<VisitDto>();
+            for (int j = 1; j <= 3; j++) {
+                var visit = new VisitDto(petId * 10 + j, petId);
+                visit.setDate(LocalDate.of(2024, j, 1));
+                visit.setDescription("rabies shot");
+                visits.add(visit);
+            }
+            var type = new PetTypeDto(2);
+            type.setName("dog");
+            var pet = new PetDto(petId, id, visits);
+            pet.setName("Pet " + petId);
+            pet.setBirthDate(LocalDate.of(2020, 1, 1));
+            pet.setType(type);
+            pets.add(pet);
+        }
+        var owner = new OwnerDto(id, pets);
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        return owner;
+    }
+}
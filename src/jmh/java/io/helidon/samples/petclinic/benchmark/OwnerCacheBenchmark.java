@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.benchmark;
+
+import io.helidon.samples.petclinic.cache.OffHeapCache;
+import io.helidon.samples.petclinic.cache.StatsCounter;
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /owners/{ownerId}?expand=pets.visits} served from owners cached as DTOs on the heap, serialized on
+ * each hit, and from their JSON cached in an {@link OffHeapCache}. The heap used by each cache after a full GC is
+ * printed once it is filled, run with {@code -prof gc} to compare the allocation and GC time of the lookups. The
+ * default million owners needs a larger heap and direct memory, for example
+ * {@code -jvmArgs "-Xmx4g -XX:MaxDirectMemorySize=2g"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=2g"})
+public class OwnerCacheBenchmark {
+    private static final String HEAP = "heap";
+    private static final String OFF_HEAP = "off-heap";
+
+    @Param({HEAP, OFF_HEAP})
+    String cache;
+
+    @Param({"1000000"})
+    int owners;
+
+    private Map<Integer, OwnerDto> ownerDtos;
+    private OffHeapCache ownerJson;
+
+    @Setup
+    public void setup() {
+        if (cache.equals(HEAP)) {
+            ownerDtos = new HashMap<>(owners * 2);
+            for (int id = 1; id <= owners; id++) {
+                ownerDtos.put(id, owner(id));
+            }
+        } else {
+            ownerJson = new OffHeapCache(Integer.MAX_VALUE, 4 * 1024 * 1024, StatsCounter.DISABLED);
+            for (int id = 1; id <= owners; id++) {
+                ownerJson.put(id, serialize(owner(id)));
+            }
+        }
+        System.gc();
+        var heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        System.out.printf("%n%d owners cached %s: %d MB heap used, %d MB off-heap%n", owners, cache,
+                heap >> 20, ownerJson == null ? 0 : ownerJson.allocatedBytes() >> 20);
+    }
+
+    @Benchmark
+    public byte[] getOwner() {
+        var id = ThreadLocalRandom.current().nextInt(owners) + 1;
+        return cache.equals(HEAP) ? serialize(ownerDtos.get(id)) : ownerJson.getIfPresent(id);
+    }
+
+    private static byte[] serialize(OwnerDto owner) {
+        var output = new ByteArrayOutputStream();
+        try (var generator = JsonCodecs.generator(output)) {
+            JsonCodecs.writeValue(generator, owner);
+        }
+        return output.toByteArray();
+    }
+
+    private static OwnerDto owner(int id) {
+        var pets = new ArrayList<PetDto>();
+        for (int i = 1; i <= 2; i++) {
+            var petId = id * 10 + i;
+            var visits = new ArrayList<VisitDto>();
+            for (int j = 1; j <= 3; j++) {
+                var visit = new VisitDto(petId * 10 + j, petId);
+                visit.setDate(LocalDate.of(2024, j, 1));
+                visit.setDescription("rabies shot " + j);
+                visits.add(visit);
+            }
+            var type = new PetTypeDto(2);
+            type.setName("dog");
+            var pet = new PetDto(petId, id, visits);
+            pet.setName("Pet " + petId);
+            pet.setBirthDate(LocalDate.of(2020, 1, 1));
+            pet.setType(type);
+            pets.add(pet);
+        }
+        var owner = new OwnerDto(id, pets);
+        owner.setFirstName("George " + id);
+        owner.setLastName("Franklin");
+        owner.setAddress(id + " W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        return owner;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import java.util.function.Function;
+
+/**
+ * Concurrent in-memory cache bounded by the total weight of its entries, usually their estimated size in bytes.
+ * <p>
+ * Caches are created by {@link Caches}, which chooses the implementation and publishes their metrics. Keys and
+ * values must not be {@code null}. The bound is enforced shortly after each write, so a cache may hold slightly more
+ * than its maximum weight while concurrent writes are being accounted.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public interface Cache<K, V> {
+
+    /**
+     * Get the value of a key.
+     *
+     * @param key key
+     * @return cached value, {@code null} if there is none
+     */
+    V getIfPresent(K key);
+
+    /**
+     * Get the value of a key, loading and caching it if there is none. Concurrent calls for the same missing key
+     * may all load it.
+     *
+     * @param key    key
+     * @param loader loads the value, returns {@code null} for a value that is not cached
+     * @return cached or loaded value, {@code null} if the loader returned {@code null}
+     */
+    default V get(K key, Function<? super K, ? extends V> loader) {
+        var value = getIfPresent(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Cache a value, replacing the value of the key if there is one.
+     *
+     * @param key   key
+     * @param value value
+     */
+    void put(K key, V value);
+
+    /**
+     * Remove the value of a key.
+     *
+     * @param key key
+     */
+    void invalidate(K key);
+
+    /**
+     * Remove all the values.
+     */
+    void invalidateAll();
+
+    /**
+     * Total weight of the cached entries.
+     *
+     * @return weighted size
+     */
+    long weightedSize();
+
+    /**
+     * Number of cached entries.
+     *
+     * @return entry count
+     */
+    long estimatedSize();
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Creates the caches of the application with the eviction policy of {@code app.cache.policy}, {@value #TINY_LFU}
+ * by default or {@value #LRU}.
+ * <p>
+ * The {@code cache.hits}, {@code cache.misses}, {@code cache.evictions} and {@code cache.evictions.weight}
+ * counters and the {@code cache.weight} and {@code cache.size} gauges are published for every cache, tagged with
+ * its name.
+ */
+@ApplicationScoped
+public class Caches {
+    public static final String TINY_LFU = "tinylfu";
+    public static final String LRU = "lru";
+
+    private final String policy;
+    private final MetricRegistry metrics;
+
+    /**
+     * Create the cache factory.
+     *
+     * @param policy  eviction policy, {@value #TINY_LFU} or {@value #LRU}
+     * @param metrics registry of the cache metrics
+     */
+    @Inject
+    public Caches(@ConfigProperty(name = "app.cache.policy", defaultValue = TINY_LFU) String policy,
+                  MetricRegistry metrics) {
+        if (!policy.equals(TINY_LFU) && !policy.equals(LRU)) {
+            throw new IllegalArgumentException("Invalid cache policy " + policy + ", expected " + TINY_LFU
+                    + " or " + LRU);
+        }
+        this.policy = policy;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Create a cache and publish its metrics.
+     *
+     * @param name          name of the cache, unique in the application
+     * @param maximumWeight maximum total weight of the entries
+     * @param weigher       weight of an entry, usually its estimated size in bytes
+     * @param <K>           key type
+     * @param <V>           value type
+     * @return new cache
+     */
+    public <K, V> Cache<K, V> create(String name, long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        return create(name, maximumWeight, weigher, RemovalListener.none());
+    }
+
+    /**
+     * Create a cache notifying its evictions and replacements, and publish its metrics.
+     *
+     * @param name            name of the cache, unique in the application
+     * @param maximumWeight   maximum total weight of the entries
+     * @param weigher         weight of an entry, usually its estimated size in bytes
+     * @param removalListener notified of the evicted and replaced entries
+     * @param <K>             key type
+     * @param <V>             value type
+     * @return new cache
+     */
+    public <K, V> Cache<K, V> create(String name, long maximumWeight, Weigher<? super K, ? super V> weigher,
+                                     RemovalListener<? super K, ? super V> removalListener) {
+        var tag = new Tag("cache", name);
+        var stats = stats(tag);
+        Cache<K, V> cache = policy.equals(LRU)
+                ? new LruCache<>(maximumWeight, weigher, stats, removalListener)
+                : new TinyLfuCache<>(maximumWeight, weigher, stats, removalListener);
+        return register(cache, tag);
+    }
+
+    /**
+     * Create a cache of values invalidated by dependency tags, and publish its metrics.
+     *
+     * @param name          name of the cache, unique in the application
+     * @param maximumWeight maximum total weight of the entries
+     * @param weigher       weight of an entry, usually its estimated size in bytes
+     * @param <K>           key type
+     * @param <V>           value type
+     * @return new cache
+     */
+    public <K, V> TaggedCache<K, V> createTagged(String name, long maximumWeight,
+                                                 Weigher<? super K, ? super V> weigher) {
+        return new TaggedCache<>(this, name, maximumWeight, weigher);
+    }
+
+    /**
+     * Create a cache of serialized values held outside the heap and publish its metrics, plus the
+     * {@code cache.off-heap.allocated} gauge of the memory allocated for it. Its eviction is first in, first out
+     * whatever the policy.
+     *
+     * @param name         name of the cache, unique in the application
+     * @param maximumBytes maximum off-heap memory
+     * @param slabSize     size of the off-heap buffers, the largest value that can be cached
+     * @return new cache
+     */
+    public OffHeapCache createOffHeap(String name, long maximumBytes, int slabSize) {
+        var tag = new Tag("cache", name);
+        var cache = register(new OffHeapCache(maximumBytes, slabSize, stats(tag)), tag);
+        metrics.gauge("cache.off-heap.allocated", cache, OffHeapCache::allocatedBytes, tag);
+        return cache;
+    }
+
+    private StatsCounter stats(Tag tag) {
+        return new MetricsStatsCounter(metrics.counter("cache.hits", tag), metrics.counter("cache.misses", tag),
+                metrics.counter("cache.evictions", tag), metrics.counter("cache.evictions.weight", tag));
+    }
+
+    private <C extends Cache<?, ?>> C register(C cache, Tag tag) {
+        metrics.gauge("cache.weight", cache, Cache::weightedSize, tag);
+        metrics.gauge("cache.size", cache, Cache::estimatedSize, tag);
+        return cache;
+    }
+
+    private record MetricsStatsCounter(Counter hits, Counter misses, Counter evictions, Counter evictedWeight)
+            implements StatsCounter {
+        @Override
+        public void recordHit() {
+            hits.inc();
+        }
+
+        @Override
+        public void recordMiss() {
+            misses.inc();
+        }
+
+        @Override
+        public void recordEviction(int weight) {
+            evictions.inc();
+            evictedWeight.inc(weight);
+        }
+    }
+}
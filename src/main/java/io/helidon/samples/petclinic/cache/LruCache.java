@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link Cache} evicting the least recently used entries, an access ordered {@link LinkedHashMap} under one lock.
+ * Reads lock as well, since they reorder the map.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class LruCache<K, V> implements Cache<K, V> {
+    private final long maximum;
+    private final Weigher<? super K, ? super V> weigher;
+    private final StatsCounter stats;
+    private final RemovalListener<? super K, ? super V> removalListener;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile long weightedSize;
+
+    /**
+     * Create a cache.
+     *
+     * @param maximumWeight maximum total weight of the entries
+     * @param weigher       weight of an entry
+     * @param stats         records hits, misses and evictions
+     */
+    public LruCache(long maximumWeight, Weigher<? super K, ? super V> weigher, StatsCounter stats) {
+        this(maximumWeight, weigher, stats, RemovalListener.none());
+    }
+
+    /**
+     * Create a cache notifying its evictions and replacements.
+     *
+     * @param maximumWeight   maximum total weight of the entries
+     * @param weigher         weight of an entry
+     * @param stats           records hits, misses and evictions
+     * @param removalListener notified of the evicted and replaced entries
+     */
+    public LruCache(long maximumWeight, Weigher<? super K, ? super V> weigher, StatsCounter stats,
+                    RemovalListener<? super K, ? super V> removalListener) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Invalid maximum weight " + maximumWeight);
+        }
+        this.maximum = maximumWeight;
+        this.weigher = weigher;
+        this.stats = stats;
+        this.removalListener = removalListener;
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        Entry<V> entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        return entry.value();
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        var weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Invalid weight " + weight + " of " + key);
+        }
+        lock.lock();
+        try {
+            var previous = entries.put(key, new Entry<>(value, weight));
+            if (previous != null) {
+                weightedSize -= previous.weight();
+                removalListener.removed(key, previous.value());
+            }
+            weightedSize += weight;
+            var eldest = entries.entrySet().iterator();
+            while (weightedSize > maximum) {
+                var evicted = eldest.next();
+                eldest.remove();
+                weightedSize -= evicted.getValue().weight();
+                stats.recordEviction(evicted.getValue().weight());
+                removalListener.removed(evicted.getKey(), evicted.getValue().value());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            var removed = entries.remove(key);
+            if (removed != null) {
+                weightedSize -= removed.weight();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            weightedSize = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public long estimatedSize() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, int weight) {
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import io.helidon.samples.petclinic.collection.IntLongHashMap;
+import io.helidon.samples.petclinic.collection.IntObjectMap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link Cache} of byte arrays by {@code int} key held outside the Java heap, so a large cache adds no objects for
+ * the garbage collector to trace or copy.
+ * <p>
+ * Values are appended to direct {@link ByteBuffer} slabs, each record an {@code int} key and length followed by the
+ * bytes, and found through an {@link IntLongHashMap} of keys to the slab and offset of their record. A replaced or
+ * invalidated value is left in its slab. Once the last slab is full, writing starts over in the oldest slab, whose
+ * values are evicted first: a first in, first out eviction that reclaims the space of replaced values. The weight
+ * of the cache is the bytes of its values and record headers, values larger than a slab are not cached.
+ * <p>
+ * A lookup copies the value to the heap under a read lock, writes take the write lock.
+ */
+public final class OffHeapCache implements Cache<Integer, byte[]> {
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_SLAB_SIZE = 1 << 30;
+
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final int[] slabLimits;
+    private final StatsCounter stats;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // guarded by lock
+    private final IntLongHashMap index = new IntLongHashMap();
+    private int slab;
+    private int position;
+    private volatile long weightedSize;
+    private volatile int size;
+
+    /**
+     * Create a cache. The slabs are allocated as they are first written.
+     *
+     * @param maximumBytes maximum off-heap memory, rounded up to a whole number of slabs
+     * @param slabSize     size of a slab in bytes, the largest record that can be cached
+     * @param stats        records hits, misses and evictions
+     */
+    public OffHeapCache(long maximumBytes, int slabSize, StatsCounter stats) {
+        if (slabSize <= HEADER_SIZE || slabSize > MAX_SLAB_SIZE) {
+            throw new IllegalArgumentException("Invalid slab size " + slabSize);
+        }
+        var slabCount = Math.max(1, (maximumBytes + slabSize - 1) / slabSize);
+        if (slabCount >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid maximum bytes " + maximumBytes);
+        }
+        this.slabSize = slabSize;
+        this.slabs = new ByteBuffer[(int) slabCount];
+        this.slabLimits = new int[(int) slabCount];
+        this.stats = stats;
+    }
+
+    @Override
+    public byte[] getIfPresent(Integer key) {
+        byte[] value = null;
+        lock.readLock().lock();
+        try {
+            var address = index.get(key);
+            if (address != 0) {
+                var buffer = slabs[slabOf(address)];
+                var offset = offsetOf(address);
+                value = new byte[buffer.getInt(offset + Integer.BYTES)];
+                buffer.get(offset + HEADER_SIZE, value);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (value == null) {
+            stats.recordMiss();
+        } else {
+            stats.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Integer key, byte[] value) {
+        Objects.requireNonNull(key);
+        var recordSize = HEADER_SIZE + value.length;
+        if (recordSize > slabSize) {
+            invalidate(key);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (position + recordSize > slabSize) {
+                nextSlab();
+            }
+            var buffer = slabs[slab];
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect(slabSize);
+                slabs[slab] = buffer;
+            }
+            buffer.putInt(position, key);
+            buffer.putInt(position + Integer.BYTES, value.length);
+            buffer.put(position + HEADER_SIZE, value);
+            removed(index.put(key, addressOf(slab, position)));
+            weightedSize += recordSize;
+            position += recordSize;
+            slabLimits[slab] = position;
+            size = index.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(Integer key) {
+        lock.writeLock().lock();
+        try {
+            removed(index.remove(key));
+            size = index.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            Arrays.fill(slabLimits, 0);
+            slab = 0;
+            position = 0;
+            weightedSize = 0;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public long estimatedSize() {
+        return size;
+    }
+
+    /**
+     * Off-heap memory allocated by the cache.
+     *
+     * @return allocated bytes
+     */
+    public long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            long allocated = 0;
+            for (var buffer : slabs) {
+                if (buffer != null) {
+                    allocated += buffer.capacity();
+                }
+            }
+            return allocated;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Pass every value to a consumer, from the oldest written to the newest, so putting them in that order into
+     * another cache keeps their order of eviction. The values are copied to the heap one at a time and the cache
+     * is locked for writes until all were consumed.
+     *
+     * @param consumer receives the key and a copy of the value
+     */
+    public void forEach(IntObjectMap.EntryConsumer<byte[]> consumer) {
+        lock.readLock().lock();
+        try {
+            for (int i = 1; i <= slabs.length; i++) {
+                var current = (slab + i) % slabs.length;
+                var buffer = slabs[current];
+                for (int offset = 0; offset < slabLimits[current]; ) {
+                    var key = buffer.getInt(offset);
+                    var length = buffer.getInt(offset + Integer.BYTES);
+                    if (index.get(key) == addressOf(current, offset)) {
+                        var value = new byte[length];
+                        buffer.get(offset + HEADER_SIZE, value);
+                        consumer.accept(key, value);
+                    }
+                    offset += HEADER_SIZE + length;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Move to the next slab, evicting the values still in it.
+     */
+    private void nextSlab() {
+        slab = (slab + 1) % slabs.length;
+        position = 0;
+        var buffer = slabs[slab];
+        for (int offset = 0; offset < slabLimits[slab]; ) {
+            var key = buffer.getInt(offset);
+            var recordSize = HEADER_SIZE + buffer.getInt(offset + Integer.BYTES);
+            // only the current record of a key is in the index, older ones are garbage
+            if (index.get(key) == addressOf(slab, offset)) {
+                index.remove(key);
+                weightedSize -= recordSize;
+                stats.recordEviction(recordSize);
+            }
+            offset += recordSize;
+        }
+        slabLimits[slab] = 0;
+    }
+
+    private void removed(long address) {
+        if (address != 0) {
+            weightedSize -= HEADER_SIZE + slabs[slabOf(address)].getInt(offsetOf(address) + Integer.BYTES);
+        }
+    }
+
+    // slab numbers start at 1 in addresses, 0 is a free slot of the index
+    private static long addressOf(int slab, int offset) {
+        return ((long) (slab + 1) << 32) | offset;
+    }
+
+    private static int slabOf(long address) {
+        return (int) (address >>> 32) - 1;
+    }
+
+    private static int offsetOf(long address) {
+        return (int) address;
+    }
+}
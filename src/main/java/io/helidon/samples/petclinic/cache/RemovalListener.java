@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+/**
+ * Notified of the entries a cache removes on its own: evicted to stay within its maximum weight, or replaced by a
+ * {@link Cache#put} of their key. Entries removed by {@link Cache#invalidate} are not notified.
+ * <p>
+ * Called while the cache holds its locks, so it must be quick and must not use the cache.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+    /**
+     * Listener of no removals.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return listener doing nothing
+     */
+    static <K, V> RemovalListener<K, V> none() {
+        return (key, value) -> {
+        };
+    }
+
+    /**
+     * An entry was evicted or replaced.
+     *
+     * @param key   key of the entry
+     * @param value removed value
+     */
+    void removed(K key, V value);
+}
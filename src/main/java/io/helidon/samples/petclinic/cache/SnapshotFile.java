@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary file of cache contents, written on shutdown and memory-mapped on startup so the caches start warm.
+ * <p>
+ * The file is a header of a magic number, the format version and the CRC32C checksum of everything after it,
+ * followed by the change counters the contents were built at and by named sections, each a length in bytes followed
+ * by the bytes written by its cache. Strings are an unsigned short length followed by UTF-8 bytes. A file that is
+ * truncated, corrupted or of another format version is rejected as a whole.
+ */
+public final class SnapshotFile {
+    private static final int MAGIC = 0x50435743;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int CHECKSUM_OFFSET = 2 * Integer.BYTES;
+
+    private final Map<String, Long> counters;
+    private final Map<String, ByteBuffer> sections;
+
+    private SnapshotFile(Map<String, Long> counters, Map<String, ByteBuffer> sections) {
+        this.counters = counters;
+        this.sections = sections;
+    }
+
+    /**
+     * Writes the contents of a section.
+     */
+    @FunctionalInterface
+    public interface SectionWriter {
+        /**
+         * Write the contents of the section.
+         *
+         * @param output stream of the section
+         * @throws IOException if writing fails
+         */
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    /**
+     * A named section of a file.
+     *
+     * @param name   name of the section
+     * @param writer writes its contents
+     */
+    public record Section(String name, SectionWriter writer) {
+    }
+
+    /**
+     * Write a file, replacing the previous one only once it is complete.
+     *
+     * @param path     path of the file
+     * @param counters change counters read before the contents of the sections
+     * @param sections sections to write
+     * @throws IOException if writing fails
+     */
+    public static void write(Path path, Map<String, Long> counters, List<Section> sections) throws IOException {
+        var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ)) {
+            var output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 65536));
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(0);
+            output.writeInt(counters.size());
+            for (var counter : counters.entrySet()) {
+                writeString(output, counter.getKey());
+                output.writeLong(counter.getValue());
+            }
+            output.writeInt(sections.size());
+            for (var section : sections) {
+                writeString(output, section.name());
+                output.flush();
+                var lengthPosition = channel.position();
+                output.writeLong(0);
+                section.writer().write(output);
+                output.flush();
+                var end = channel.position();
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, end - lengthPosition - Long.BYTES),
+                        lengthPosition);
+            }
+            output.flush();
+            var checksum = new CRC32C();
+            checksum.update(channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, channel.size() - HEADER_SIZE));
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, (int) checksum.getValue()), CHECKSUM_OFFSET);
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Map a file and validate it.
+     *
+     * @param path path of the file
+     * @return the file, its sections are views of the mapped file
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static SnapshotFile read(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a cache snapshot: " + path);
+            }
+            var version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported cache snapshot version " + version + ": " + path);
+            }
+            var expected = buffer.getInt();
+            var checksum = new CRC32C();
+            checksum.update(buffer.slice());
+            if ((int) checksum.getValue() != expected) {
+                throw new IOException("Invalid cache snapshot checksum: " + path);
+            }
+            var counters = new HashMap<String, Long>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                counters.put(readString(buffer), buffer.getLong());
+            }
+            var sections = new HashMap<String, ByteBuffer>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                var name = readString(buffer);
+                var length = Math.toIntExact(buffer.getLong());
+                sections.put(name, buffer.slice(buffer.position(), length));
+                buffer.position(buffer.position() + length);
+            }
+            return new SnapshotFile(Map.copyOf(counters), Map.copyOf(sections));
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid cache snapshot: " + path, e);
+        }
+    }
+
+    /**
+     * Change counters the contents were built at.
+     *
+     * @return number of changes by name
+     */
+    public Map<String, Long> counters() {
+        return counters;
+    }
+
+    /**
+     * Contents of a section.
+     *
+     * @param name name of the section
+     * @return read-only view of the section, {@code null} if the file has no such section
+     */
+    public ByteBuffer section(String name) {
+        var section = sections.get(name);
+        return section == null ? null : section.duplicate();
+    }
+
+    /**
+     * Write a string as a section reads it with {@link #readString(ByteBuffer)}.
+     *
+     * @param output stream
+     * @param value  string of at most 65535 UTF-8 bytes
+     * @throws IOException if writing fails
+     */
+    public static void writeString(DataOutputStream output, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("String too long: " + bytes.length + " bytes");
+        }
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Read a string written with {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param buffer section
+     * @return string
+     */
+    public static String readString(ByteBuffer buffer) {
+        var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
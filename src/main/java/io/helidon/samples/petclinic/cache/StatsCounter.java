@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+/**
+ * Records the hits, misses and evictions of a cache. Called concurrently by the threads using the cache.
+ */
+public interface StatsCounter {
+    /**
+     * Counter that records nothing.
+     */
+    StatsCounter DISABLED = new StatsCounter() {
+        @Override
+        public void recordHit() {
+        }
+
+        @Override
+        public void recordMiss() {
+        }
+
+        @Override
+        public void recordEviction(int weight) {
+        }
+    };
+
+    /**
+     * Record a lookup that found a value.
+     */
+    void recordHit();
+
+    /**
+     * Record a lookup that found no value.
+     */
+    void recordMiss();
+
+    /**
+     * Record an entry evicted to keep the cache within its maximum weight.
+     *
+     * @param weight weight of the entry
+     */
+    void recordEviction(int weight);
+}
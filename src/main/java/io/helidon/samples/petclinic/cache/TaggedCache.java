@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link Cache} of values with dependency tags, invalidated by tag, for the caches of values derived from entities
+ * that are removed when a change with one of their tags commits.
+ * <p>
+ * A value is only stored if the cache was not invalidated since the {@link #generation()} read before loading it, so
+ * a value that missed a change never outlives it. The generation check, the store and the invalidations are ordered
+ * by one lock. The tag index refers to the stored entries themselves: the entries evicted or replaced by the cache are
+ * queued by its {@link RemovalListener} and removed from the index the next time the lock is taken.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class TaggedCache<K, V> {
+    private final Cache<K, Entry<K, V>> entries;
+    private final Map<String, Set<Entry<K, V>>> entriesByTag = new HashMap<>();
+    private final Queue<Entry<K, V>> removed = new ConcurrentLinkedQueue<>();
+    private final Lock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    TaggedCache(Caches caches, String name, long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        this.entries = caches.create(name, maximumWeight, (key, entry) -> weigher.weigh(key, entry.value()),
+                (key, entry) -> removed.add(entry));
+    }
+
+    /**
+     * Generation of the cache, changed by every invalidation. Read before loading a value to {@link #put}.
+     *
+     * @return generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Get a cached value.
+     *
+     * @param key key
+     * @return cached value, {@code null} if there is none
+     */
+    public V get(K key) {
+        var entry = entries.getIfPresent(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * Cache a value, unless the cache was invalidated since it was loaded.
+     *
+     * @param key        key
+     * @param value      value
+     * @param tags       dependency tags of the value
+     * @param generation {@link #generation()} before the value was loaded
+     * @return {@code true} if the value was stored
+     */
+    public boolean put(K key, V value, Set<String> tags, long generation) {
+        var entry = new Entry<K, V>(key, value, Set.copyOf(tags));
+        lock.lock();
+        try {
+            // the value may have been loaded before a change that has invalidated the cache since
+            if (this.generation.get() != generation) {
+                return false;
+            }
+            for (var tag : entry.tags()) {
+                entriesByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(entry);
+            }
+            entries.put(key, entry);
+            untagRemoved();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the values with any of the tags.
+     *
+     * @param tags dependency tags
+     */
+    public void invalidate(Set<String> tags) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            untagRemoved();
+            for (var tag : tags) {
+                var tagged = entriesByTag.remove(tag);
+                if (tagged == null) {
+                    continue;
+                }
+                for (var entry : tagged) {
+                    untag(entry);
+                    entries.invalidate(entry.key());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of cached values.
+     *
+     * @return size
+     */
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private void untagRemoved() {
+        Entry<K, V> entry;
+        while ((entry = removed.poll()) != null) {
+            untag(entry);
+        }
+    }
+
+    private void untag(Entry<K, V> entry) {
+        for (var tag : entry.tags()) {
+            var tagged = entriesByTag.get(tag);
+            if (tagged != null) {
+                tagged.remove(entry);
+                if (tagged.isEmpty()) {
+                    entriesByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stored value, compared by identity so the index tells it from a later value of its key.
+     */
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final Set<String> tags;
+
+        private Entry(K key, V value, Set<String> tags) {
+            this.key = key;
+            this.value = value;
+            this.tags = tags;
+        }
+
+        K key() {
+            return key;
+        }
+
+        V value() {
+            return value;
+        }
+
+        Set<String> tags() {
+            return tags;
+        }
+    }
+}
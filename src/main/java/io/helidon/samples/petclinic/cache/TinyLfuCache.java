@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link Cache} with W-TinyLFU eviction, which keeps the entries used most often recently rather than the ones used
+ * last, so a burst of keys used once does not flush the popular ones.
+ * <p>
+ * New entries enter an LRU window of 1% of the maximum weight. An entry leaving the window is admitted to the main
+ * space only if the {@link FrequencySketch} estimates it was used more often than the entry it would evict. The main
+ * space is a segmented LRU: entries used again are promoted from probation to the protected segment, at most 80% of
+ * the main space, and victims are taken from probation.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, so reads take no lock and writes only lock their bin of the map.
+ * Uses of the entries are recorded in buffers and applied to the eviction policy under one lock by whichever thread
+ * gets it: reads in a lossy buffer per stripe of threads once it is full, writes in a queue after every write. A write
+ * made while another thread holds the lock waits in the queue for the next thread that gets it, writers only wait
+ * for the lock once {@value #MAX_PENDING_WRITES} writes are pending.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class TinyLfuCache<K, V> implements Cache<K, V> {
+    private static final int MAX_PENDING_WRITES = 1024;
+
+    private final long maximum;
+    private final long windowMaximum;
+    private final long mainMaximum;
+    private final long protectedMaximum;
+    private final Weigher<? super K, ? super V> weigher;
+    private final StatsCounter stats;
+    private final RemovalListener<? super K, ? super V> removalListener;
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+    private final Queue<Node<K, V>> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // guarded by evictionLock
+    private final FrequencySketch sketch = new FrequencySketch();
+    private final AccessOrder<K, V> window = new AccessOrder<>();
+    private final AccessOrder<K, V> probation = new AccessOrder<>();
+    private final AccessOrder<K, V> protectedSegment = new AccessOrder<>();
+    private long windowWeight;
+    private long protectedWeight;
+    // written under evictionLock only
+    private volatile long weightedSize;
+
+    /**
+     * Create a cache.
+     *
+     * @param maximumWeight maximum total weight of the entries
+     * @param weigher       weight of an entry
+     * @param stats         records hits, misses and evictions
+     */
+    public TinyLfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher, StatsCounter stats) {
+        this(maximumWeight, weigher, stats, RemovalListener.none());
+    }
+
+    /**
+     * Create a cache notifying its evictions and replacements.
+     *
+     * @param maximumWeight   maximum total weight of the entries
+     * @param weigher         weight of an entry
+     * @param stats           records hits, misses and evictions
+     * @param removalListener notified of the evicted and replaced entries
+     */
+    public TinyLfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher, StatsCounter stats,
+                        RemovalListener<? super K, ? super V> removalListener) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Invalid maximum weight " + maximumWeight);
+        }
+        this.maximum = maximumWeight;
+        this.windowMaximum = Math.min(maximumWeight, Math.max(1, maximumWeight / 100));
+        this.mainMaximum = maximumWeight - windowMaximum;
+        this.protectedMaximum = mainMaximum * 4 / 5;
+        this.weigher = weigher;
+        this.stats = stats;
+        this.removalListener = removalListener;
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        var node = data.get(key);
+        if (node == null) {
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        if (readBuffer.offer(node)) {
+            tryDrain();
+        }
+        return node.value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void put(K key, V value) {
+        Objects.requireNonNull(value);
+        var weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Invalid weight " + weight + " of " + key);
+        }
+        // the replaced value, notified once out of the lock of the map
+        var replaced = new Object[1];
+        var node = data.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return new Node<>(k, value, weight);
+            }
+            replaced[0] = existing.value;
+            existing.value = value;
+            existing.weight = weight;
+            return existing;
+        });
+        if (replaced[0] != null) {
+            removalListener.removed(key, (V) replaced[0]);
+        }
+        afterWrite(node);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        var node = data.remove(key);
+        if (node != null) {
+            node.retired = true;
+            afterWrite(node);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (var key : data.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public long estimatedSize() {
+        return data.mappingCount();
+    }
+
+    /**
+     * Apply the pending reads and writes to the eviction policy, evicting if the cache is over its maximum weight.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            drain(pendingWrites.get());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterWrite(Node<K, V> node) {
+        writeBuffer.add(node);
+        if (pendingWrites.incrementAndGet() > MAX_PENDING_WRITES) {
+            // writers outpace the eviction policy, wait for it rather than letting the queue grow
+            cleanUp();
+        } else {
+            tryDrain();
+        }
+    }
+
+    private void tryDrain() {
+        if (evictionLock.tryLock()) {
+            try {
+                drain(MAX_PENDING_WRITES);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Apply the buffered reads and at most some writes, so a thread is not kept draining while others write.
+     */
+    private void drain(int maxWrites) {
+        readBuffer.drain(this::onAccess);
+        Node<K, V> node;
+        for (int i = 0; i < maxWrites && (node = writeBuffer.poll()) != null; i++) {
+            pendingWrites.decrementAndGet();
+            onWrite(node);
+        }
+        evict();
+    }
+
+    private void onWrite(Node<K, V> node) {
+        if (node.retired) {
+            if (node.segment != null) {
+                unlink(node);
+            }
+            return;
+        }
+        if (node.segment == null) {
+            node.policyWeight = node.weight;
+            node.segment = Segment.WINDOW;
+            window.addLast(node);
+            windowWeight += node.policyWeight;
+            weightedSize += node.policyWeight;
+            sketch.ensureCapacity(data.mappingCount());
+            sketch.increment(node.key);
+            return;
+        }
+        int delta = node.weight - node.policyWeight;
+        node.policyWeight = node.weight;
+        weightedSize += delta;
+        switch (node.segment) {
+            case WINDOW -> windowWeight += delta;
+            case PROTECTED -> protectedWeight += delta;
+            case PROBATION -> {
+            }
+        }
+        onAccess(node);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.segment == null || node.retired) {
+            return;
+        }
+        sketch.increment(node.key);
+        switch (node.segment) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> promote(node);
+            case PROTECTED -> protectedSegment.moveToLast(node);
+        }
+    }
+
+    private void promote(Node<K, V> node) {
+        probation.remove(node);
+        node.segment = Segment.PROTECTED;
+        protectedSegment.addLast(node);
+        protectedWeight += node.policyWeight;
+        while (protectedWeight > protectedMaximum) {
+            var demoted = protectedSegment.pollFirst();
+            protectedWeight -= demoted.policyWeight;
+            demoted.segment = Segment.PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void evict() {
+        while (windowWeight > windowMaximum) {
+            var candidate = window.pollFirst();
+            windowWeight -= candidate.policyWeight;
+            candidate.segment = Segment.PROBATION;
+            probation.addLast(candidate);
+            admit(candidate);
+        }
+        // updates may have made entries of the main space heavier
+        while (weightedSize > maximum) {
+            var victim = probation.peekFirst();
+            if (victim == null) {
+                victim = protectedSegment.peekFirst();
+            }
+            if (victim == null) {
+                victim = window.peekFirst();
+            }
+            evictEntry(victim);
+        }
+    }
+
+    private void admit(Node<K, V> candidate) {
+        while (weightedSize - windowWeight > mainMaximum) {
+            var victim = probation.peekFirst();
+            if (victim == candidate) {
+                victim = protectedSegment.peekFirst();
+            }
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                evictEntry(candidate);
+                return;
+            }
+            evictEntry(victim);
+        }
+    }
+
+    private void evictEntry(Node<K, V> node) {
+        unlink(node);
+        // fails if the entry was invalidated meanwhile, its removal is still in the write buffer
+        if (data.remove(node.key, node)) {
+            node.retired = true;
+            stats.recordEviction(node.policyWeight);
+            removalListener.removed(node.key, node.value);
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW -> {
+                window.remove(node);
+                windowWeight -= node.policyWeight;
+            }
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> {
+                protectedSegment.remove(node);
+                protectedWeight -= node.policyWeight;
+            }
+        }
+        weightedSize -= node.policyWeight;
+        node.segment = null;
+    }
+
+    private enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile int weight;
+        private volatile boolean retired;
+        // guarded by evictionLock
+        private int policyWeight;
+        private Segment segment;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Doubly linked list of nodes from the least to the most recently used.
+     */
+    private static final class AccessOrder<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> pollFirst() {
+            var node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+    }
+
+    /**
+     * Lossy buffer of reads, striped by thread so concurrent readers rarely write to the same stripe. Reads offered
+     * to a full stripe are dropped, they only make the access order a little less accurate.
+     */
+    private static final class ReadBuffer<E> {
+        private static final int STRIPE_SIZE = 16;
+        // counters of the stripes 16 ints, a cache line, apart
+        private static final int COUNT_SPACING = 16;
+
+        private final int stripeMask;
+        private final AtomicReferenceArray<E> elements;
+        private final AtomicIntegerArray counts;
+
+        private ReadBuffer() {
+            var stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+            stripeMask = stripes - 1;
+            elements = new AtomicReferenceArray<>(stripes * STRIPE_SIZE);
+            counts = new AtomicIntegerArray(stripes * COUNT_SPACING);
+        }
+
+        /**
+         * Record an element.
+         *
+         * @return {@code true} if the stripe is full and should be drained
+         */
+        boolean offer(E element) {
+            var stripe = (int) Thread.currentThread().threadId() & stripeMask;
+            var countIndex = stripe * COUNT_SPACING;
+            if (counts.get(countIndex) >= STRIPE_SIZE) {
+                return true;
+            }
+            var count = counts.getAndIncrement(countIndex);
+            if (count >= STRIPE_SIZE) {
+                return true;
+            }
+            elements.lazySet(stripe * STRIPE_SIZE + count, element);
+            return count == STRIPE_SIZE - 1;
+        }
+
+        void drain(Consumer<E> consumer) {
+            for (int stripe = 0; stripe <= stripeMask; stripe++) {
+                var countIndex = stripe * COUNT_SPACING;
+                var count = Math.min(counts.get(countIndex), STRIPE_SIZE);
+                for (int i = 0; i < count; i++) {
+                    var element = elements.getAndSet(stripe * STRIPE_SIZE + i, null);
+                    if (element != null) {
+                        consumer.accept(element);
+                    }
+                }
+                counts.set(countIndex, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+/**
+ * Weight of a cache entry, usually its estimated size in bytes. The weight of an entry is computed once when it is
+ * cached, so it must not depend on state that changes while it is cached.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Weigher counting entries, so the maximum weight of a cache is its maximum number of entries.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return weigher of {@code 1} for every entry
+     */
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+
+    /**
+     * Weight of an entry.
+     *
+     * @param key   key
+     * @param value value
+     * @return weight, not negative
+     */
+    int weigh(K key, V value);
+}
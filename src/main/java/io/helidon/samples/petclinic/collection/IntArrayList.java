@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Growable list of {@code int} values in one array, without the {@code Integer} per element of an
+ * {@code ArrayList<Integer>}. Kept in ascending order it is also a compact sorted set, see
+ * {@link #addSorted(int)} and {@link #removeSorted(int)}. Not thread safe.
+ */
+public final class IntArrayList {
+    private static final int[] EMPTY = new int[0];
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] values;
+    private int size;
+
+    /**
+     * Create an empty list.
+     */
+    public IntArrayList() {
+        this.values = EMPTY;
+    }
+
+    /**
+     * Create an empty list that holds a number of values without growing.
+     *
+     * @param capacity number of values
+     */
+    public IntArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        this.values = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    public void set(int index, int value) {
+        checkIndex(index);
+        values[index] = value;
+    }
+
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Insert a value, moving the values from the index one position up.
+     *
+     * @param index position of the value, from {@code 0} to {@link #size()}
+     * @param value value
+     */
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * Remove the value at an index, moving the values after it one position down.
+     *
+     * @param index position of the value
+     * @return removed value
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        var removed = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Index of a value in a list in ascending order.
+     *
+     * @param value value
+     * @return index of the value, or {@code -(insertion point) - 1} if it is not in the list
+     */
+    public int binarySearch(int value) {
+        return Arrays.binarySearch(values, 0, size, value);
+    }
+
+    /**
+     * Add a value to a list in ascending order unless it is already there.
+     *
+     * @param value value
+     * @return {@code true} if the value was added
+     */
+    public boolean addSorted(int value) {
+        var index = binarySearch(value);
+        if (index >= 0) {
+            return false;
+        }
+        add(-index - 1, value);
+        return true;
+    }
+
+    /**
+     * Remove a value from a list in ascending order.
+     *
+     * @param value value
+     * @return {@code true} if the value was removed
+     */
+    public boolean removeSorted(int value) {
+        var index = binarySearch(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Pass each value to a consumer in order.
+     *
+     * @param consumer receives the values
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(values[i]);
+        }
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Boxed copy of the values, for APIs taking a collection such as query parameters.
+     *
+     * @return values in order
+     */
+    public List<Integer> toList() {
+        var list = new ArrayList<Integer>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            var grown = Math.max(MIN_CAPACITY, values.length + (values.length >> 1));
+            values = Arrays.copyOf(values, Math.max(grown, capacity));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Set of {@code int} values in one array with open addressing and linear probing, which neither boxes its values
+ * nor allocates a node per value as a {@code HashSet<Integer>} does. The slots of the array hold {@code 0} when free,
+ * so the value {@code 0} itself is tracked apart. Not thread safe.
+ */
+public final class IntHashSet {
+    private int[] slots;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * Create an empty set.
+     */
+    public IntHashSet() {
+        this(0);
+    }
+
+    /**
+     * Create an empty set that holds an expected number of values without growing.
+     *
+     * @param expectedSize expected number of values
+     */
+    public IntHashSet(int expectedSize) {
+        allocate(IntHashing.capacity(expectedSize));
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        for (int slot = IntHashing.slot(value, mask); ; slot = (slot + 1) & mask) {
+            if (slots[slot] == value) {
+                return true;
+            }
+            if (slots[slot] == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Add a value.
+     *
+     * @param value value
+     * @return {@code true} if the set did not contain the value
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = IntHashing.slot(value, mask);
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+        var capacity = IntHashing.grow(++size, slots.length);
+        if (capacity != slots.length) {
+            rehash(capacity);
+        }
+        return true;
+    }
+
+    /**
+     * Remove a value.
+     *
+     * @param value value
+     * @return {@code true} if the set contained the value
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = IntHashing.slot(value, mask);
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Pass each value to a consumer, in no particular order. The set must not be modified meanwhile.
+     *
+     * @param consumer receives the values
+     */
+    public void forEach(IntConsumer consumer) {
+        if (containsZero) {
+            consumer.accept(0);
+        }
+        for (var value : slots) {
+            if (value != 0) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Stream of the values, in no particular order. The set must not be modified while it is consumed.
+     *
+     * @return values
+     */
+    public IntStream stream() {
+        var values = Arrays.stream(slots).filter(value -> value != 0);
+        return containsZero ? IntStream.concat(IntStream.of(0), values) : values;
+    }
+
+    /**
+     * Boxed copy of the values, for APIs taking a collection such as query parameters.
+     *
+     * @return values in no particular order
+     */
+    public List<Integer> toList() {
+        var list = new ArrayList<Integer>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    private void shiftBack(int gap) {
+        for (int slot = (gap + 1) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (IntHashing.canShiftBack(gap, slot, IntHashing.slot(slots[slot], mask), mask)) {
+                slots[gap] = slots[slot];
+                gap = slot;
+            }
+        }
+        slots[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        var oldSlots = slots;
+        allocate(capacity);
+        for (var value : oldSlots) {
+            if (value != 0) {
+                int slot = IntHashing.slot(value, mask);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+/**
+ * Hashing and sizing shared by the open-addressing collections.
+ */
+final class IntHashing {
+    static final int MIN_CAPACITY = 16;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private IntHashing() {
+    }
+
+    /**
+     * Home slot of a key. Ids are sequential, so the key is scrambled before it is masked to spread neighbouring
+     * ids over the table.
+     *
+     * @param key  key
+     * @param mask table size minus one
+     * @return slot index
+     */
+    static int slot(int key, int mask) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Table size keeping an expected number of keys at most half full.
+     *
+     * @param expectedSize expected number of keys
+     * @return power of two table size
+     */
+    static int capacity(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Invalid expected size " + expectedSize);
+        }
+        if (expectedSize > MAX_CAPACITY >>> 1) {
+            throw new IllegalArgumentException("Expected size " + expectedSize + " is too large");
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+    }
+
+    /**
+     * Whether the entry in a slot can move back to a gap before it, which is the case unless its home slot lies
+     * after the gap, up to the slot.
+     *
+     * @param gap  free slot
+     * @param slot slot of the entry
+     * @param home home slot of the entry
+     * @param mask table size minus one
+     * @return {@code true} if the entry can fill the gap
+     */
+    static boolean canShiftBack(int gap, int slot, int home, int mask) {
+        return ((slot - home) & mask) >= ((slot - gap) & mask);
+    }
+
+    /**
+     * Table size once an entry is added.
+     *
+     * @param size     number of entries including the added one
+     * @param capacity current table size
+     * @return new table size, or the current one if it is at most half full
+     */
+    static int grow(int size, int capacity) {
+        if (size <= capacity >>> 1) {
+            return capacity;
+        }
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Collection is full");
+        }
+        return capacity << 1;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import java.util.Arrays;
+
+/**
+ * Map of {@code int} keys to {@code long} values in two arrays with open addressing and linear probing, so a million
+ * entries are two arrays rather than a million entry objects. The value {@code 0} marks a free slot and can not be
+ * stored. Not thread safe.
+ */
+public final class IntLongHashMap {
+    private int[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Create an empty map.
+     */
+    public IntLongHashMap() {
+        this(0);
+    }
+
+    /**
+     * Create an empty map that holds an expected number of entries without growing.
+     *
+     * @param expectedSize expected number of entries
+     */
+    public IntLongHashMap(int expectedSize) {
+        allocate(IntHashing.capacity(expectedSize));
+    }
+
+    /**
+     * Value of a key.
+     *
+     * @param key key
+     * @return value, {@code 0} if there is none
+     */
+    public long get(int key) {
+        for (int slot = IntHashing.slot(key, mask); ; slot = (slot + 1) & mask) {
+            if (values[slot] == 0) {
+                return 0;
+            }
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+    }
+
+    /**
+     * Set the value of a key.
+     *
+     * @param key   key
+     * @param value value, not {@code 0}
+     * @return previous value, {@code 0} if there was none
+     */
+    public long put(int key, long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("Value 0 marks free slots");
+        }
+        int slot = IntHashing.slot(key, mask);
+        while (values[slot] != 0) {
+            if (keys[slot] == key) {
+                var previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        var capacity = IntHashing.grow(++size, keys.length);
+        if (capacity != keys.length) {
+            rehash(capacity);
+        }
+        return 0;
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @param key key
+     * @return removed value, {@code 0} if there was none
+     */
+    public long remove(int key) {
+        int slot = IntHashing.slot(key, mask);
+        while (values[slot] != 0) {
+            if (keys[slot] == key) {
+                var removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    /**
+     * Close the gap of a removed entry by moving back the entries after it that probed past it, so lookups need no
+     * tombstones.
+     */
+    private void shiftBack(int gap) {
+        for (int slot = (gap + 1) & mask; values[slot] != 0; slot = (slot + 1) & mask) {
+            if (IntHashing.canShiftBack(gap, slot, IntHashing.slot(keys[slot], mask), mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        values[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                int slot = IntHashing.slot(oldKeys[i], mask);
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Map of {@code int} keys to objects in two arrays with open addressing and linear probing, which neither boxes its
+ * keys nor allocates an entry per mapping as a {@code HashMap<Integer, V>} does. Values can not be {@code null}, a
+ * {@code null} value marks a free slot. Not thread safe.
+ *
+ * @param <V> value type
+ */
+public final class IntObjectMap<V> {
+    private int[] keys;
+    private V[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Receives the entries of a map.
+     *
+     * @param <V> value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Receive an entry.
+         *
+         * @param key   key
+         * @param value value
+         */
+        void accept(int key, V value);
+    }
+
+    /**
+     * Create an empty map.
+     */
+    public IntObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Create an empty map that holds an expected number of entries without growing.
+     *
+     * @param expectedSize expected number of entries
+     */
+    public IntObjectMap(int expectedSize) {
+        allocate(IntHashing.capacity(expectedSize));
+    }
+
+    /**
+     * Value of a key.
+     *
+     * @param key key
+     * @return value, {@code null} if there is none
+     */
+    public V get(int key) {
+        for (int slot = IntHashing.slot(key, mask); ; slot = (slot + 1) & mask) {
+            var value = values[slot];
+            if (value == null || keys[slot] == key) {
+                return value;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Set the value of a key.
+     *
+     * @param key   key
+     * @param value value, not {@code null}
+     * @return previous value, {@code null} if there was none
+     */
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Value of " + key + " is null");
+        }
+        int slot = IntHashing.slot(key, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                var previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        insert(slot, key, value);
+        return null;
+    }
+
+    /**
+     * Value of a key, computed and stored if there is none.
+     *
+     * @param key      key
+     * @param function computes the value of the key, must not return {@code null}
+     * @return current or computed value
+     */
+    public V computeIfAbsent(int key, IntFunction<? extends V> function) {
+        int slot = IntHashing.slot(key, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        V value = function.apply(key);
+        if (value == null) {
+            throw new NullPointerException("Value of " + key + " is null");
+        }
+        insert(slot, key, value);
+        return value;
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @param key key
+     * @return removed value, {@code null} if there was none
+     */
+    public V remove(int key) {
+        int slot = IntHashing.slot(key, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                var removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Pass each entry to a consumer, in no particular order. The map must not be modified meanwhile.
+     *
+     * @param consumer receives the entries
+     */
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Pass each value to a consumer, in no particular order. The map must not be modified meanwhile.
+     *
+     * @param consumer receives the values
+     */
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (var value : values) {
+            if (value != null) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Keys of the map in ascending order.
+     *
+     * @return sorted keys
+     */
+    public IntArrayList sortedKeys() {
+        var sorted = new IntArrayList(size);
+        forEach((key, value) -> sorted.add(key));
+        sorted.sort();
+        return sorted;
+    }
+
+    private void insert(int slot, int key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        var capacity = IntHashing.grow(++size, keys.length);
+        if (capacity != keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    private void shiftBack(int gap) {
+        for (int slot = (gap + 1) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (IntHashing.canShiftBack(gap, slot, IntHashing.slot(keys[slot], mask), mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = IntHashing.slot(oldKeys[i], mask);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = (V[]) new Object[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,11 @@ public class DtoFactory {
         return new VisitDto(visit.getId(), visit.getPet().getId());
     }
 
+    @ObjectFactory
+    public VisitDto createVisitDto(VisitSummary visitSummary) {
+        return new VisitDto(visitSummary.id(), visitSummary.petId());
+    }
+
     @ObjectFactory
     public SpecialtyDto createSpecialtyDto(Specialty specialty) {
         return new SpecialtyDto(specialty.getId());
@@ -53,4 +58,9 @@ public class DtoFactory {
     public PetDto createPetDto(Pet pet) {
         return new PetDto(pet.getId(), pet.getOwner().getId(), new ArrayList<>());
     }
+
+    @ObjectFactory
+    public PetSummaryDto createPetSummaryDto(PetSummary petSummary) {
+        return new PetSummaryDto(petSummary.id(), petSummary.ownerId());
+    }
 }
\ No newline at end of file
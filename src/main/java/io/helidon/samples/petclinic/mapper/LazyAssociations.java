@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.mapper;
+
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceUtil;
+
+/**
+ * Condition used by the mappers to only map lazy associations that were fetched.
+ * <p>
+ * Entities are detached once the service returns them, so touching an association
+ * that was not fetched would fail. Associations are fetched on request with
+ * {@code ?expand=}, everything else is left out of the response.
+ */
+public final class LazyAssociations {
+    private static final PersistenceUtil PERSISTENCE_UTIL = Persistence.getPersistenceUtil();
+
+    private LazyAssociations() {
+    }
+
+    /**
+     * Whether an association of an entity has been loaded.
+     *
+     * @param entity    entity, possibly detached
+     * @param attribute name of the association
+     * @return {@code true} if the association can be read without the persistence context
+     */
+    public static boolean isLoaded(Object entity, String attribute) {
+        return PERSISTENCE_UTIL.isLoaded(entity, attribute);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 package io.helidon.samples.petclinic.mapper;
 
 import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.rest.dto.DuplicateOwnerDto;
 import io.helidon.samples.petclinic.rest.dto.OwnerDto;
 import io.helidon.samples.petclinic.rest.dto.OwnerFieldsDto;
+import io.helidon.samples.petclinic.service.DuplicateOwner;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -28,8 +30,9 @@ import java.util.List;
 /**
  * Maps Owner & OwnerDto using Mapstruct
  */
-@Mapper(uses = DtoFactory.class)
+@Mapper(uses = {DtoFactory.class, PetMapper.class}, imports = LazyAssociations.class)
 public interface OwnerMapper {
+    @Mapping(target = "pets", conditionExpression = "java(LazyAssociations.isLoaded(owner, \"pets\"))")
     OwnerDto toOwnerDto(Owner owner);
 
     @Mapping(target = "pets", ignore = true)
@@ -42,4 +45,8 @@ public interface OwnerMapper {
     List<OwnerDto> toOwnerDtos(Collection<Owner> ownerCollection);
 
     Collection<Owner> toOwners(Collection<OwnerDto> ownerDtos);
+
+    DuplicateOwnerDto toDuplicateOwnerDto(DuplicateOwner duplicateOwner);
+
+    List<DuplicateOwnerDto> toDuplicateOwnerDtos(List<DuplicateOwner> duplicateOwners);
 }
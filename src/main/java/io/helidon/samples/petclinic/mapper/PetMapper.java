@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 package io.helidon.samples.petclinic.mapper;
 
 import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.PetSummary;
 import io.helidon.samples.petclinic.rest.dto.PetDto;
 import io.helidon.samples.petclinic.rest.dto.PetFieldsDto;
+import io.helidon.samples.petclinic.rest.dto.PetSummaryDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -27,14 +29,19 @@ import java.util.List;
 /**
  * Map Pet & PetDto using mapstruct
  */
-@Mapper(uses = DtoFactory.class)
+@Mapper(uses = DtoFactory.class, imports = LazyAssociations.class)
 public interface PetMapper {
+    @Mapping(target = "visits", conditionExpression = "java(LazyAssociations.isLoaded(pet, \"visits\"))")
     PetDto toPetDto(Pet pet);
 
     List<PetDto> toPetDtos(List<Pet> pets);
 
     List<Pet> toPets(List<PetDto> pets);
 
+    PetSummaryDto toPetSummaryDto(PetSummary petSummary);
+
+    List<PetSummaryDto> toPetSummaryDtos(List<PetSummary> petSummaries);
+
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "visits", ignore = true)
     Pet toPet(PetDto petDto);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,13 +28,14 @@ import java.util.List;
 /**
  * Map Vet & VetoDto using mapstruct
  */
-@Mapper(uses = {DtoFactory.class, SpecialtyMapper.class})
+@Mapper(uses = {DtoFactory.class, SpecialtyMapper.class}, imports = LazyAssociations.class)
 public interface VetMapper {
     Vet toVet(VetDto vetDto);
 
     @Mapping(target = "id", ignore = true)
     Vet toVet(VetFieldsDto vetFieldsDto);
 
+    @Mapping(target = "specialties", conditionExpression = "java(LazyAssociations.isLoaded(vet, \"specialties\"))")
     VetDto toVetDto(Vet vet);
 
     List<VetDto> toVetDtos(Collection<Vet> vets);
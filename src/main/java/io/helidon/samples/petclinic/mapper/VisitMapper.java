@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.samples.petclinic.mapper;
 
 import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.model.VisitSummary;
 import io.helidon.samples.petclinic.rest.dto.VisitDto;
 import io.helidon.samples.petclinic.rest.dto.VisitFieldsDto;
 import org.mapstruct.Mapper;
@@ -40,4 +41,8 @@ public interface VisitMapper {
 
     List<VisitDto> toVisitDtos(List<Visit> visits);
 
+    VisitDto toVisitDto(VisitSummary visitSummary);
+
+    List<VisitDto> toVisitDtosFromSummaries(List<VisitSummary> visitSummaries);
+
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+
+/**
+ * Number of committed changes to the entities of a type, named by its cache tag, incremented after every transaction
+ * changing them. Values derived from the entities of a type are still current as long as its counter did not change.
+ * <p>
+ * Counting in a single row per type is what lets a change be detected whatever it is: the highest id only grows with
+ * inserts, and the entities have no version to compare.
+ */
+@Entity
+@Table(name = "change_counters")
+@NamedQueries({
+        @NamedQuery(name = "findAllChangeCounters",
+                query = "SELECT c FROM ChangeCounter c"),
+        @NamedQuery(name = "incrementChangeCounters",
+                query = "UPDATE ChangeCounter c SET c.changes = c.changes + 1 WHERE c.name IN :names")
+})
+public class ChangeCounter {
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "changes")
+    private long changes;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getChanges() {
+        return changes;
+    }
+
+    public void setChanges(long changes) {
+        this.changes = changes;
+    }
+}
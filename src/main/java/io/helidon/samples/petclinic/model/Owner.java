@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  * Copyright 2002-2013 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -37,7 +37,13 @@ import java.util.*;
         @NamedQuery(name = "findAllOwners",
                 query = "SELECT o FROM Owner o"),
         @NamedQuery(name = "findOwnersByLastName",
-                query = "SELECT o FROM Owner o WHERE o.lastName like :lastName")
+                query = "SELECT o FROM Owner o WHERE o.lastName like :lastName"),
+        @NamedQuery(name = "findOwnersByTelephone",
+                query = "SELECT o FROM Owner o WHERE o.telephone = :telephone"),
+        @NamedQuery(name = "findOwnerTelephones",
+                query = "SELECT o.id, o.telephone FROM Owner o"),
+        @NamedQuery(name = "findOwnerContacts",
+                query = "SELECT o.id, o.firstName, o.lastName, o.address, o.city, o.telephone FROM Owner o")
 })
 public class Owner extends Person {
     @Column(name = "address")
@@ -53,7 +59,7 @@ public class Owner extends Person {
     @Digits(fraction = 0, integer = 10)
     private String telephone;
 
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "owner", fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "owner", fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<Pet> pets;
 
     public String getAddress() {
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a {@link Pet} returned by pet searches.
+ * Unlike the entity it carries neither the owner nor the visits.
+ *
+ * @param id        id of the pet
+ * @param name      name of the pet
+ * @param birthDate birth date of the pet
+ * @param type      type of the pet
+ * @param ownerId   id of the pet's owner
+ */
+public record PetSummary(Integer id, String name, LocalDate birthDate, PetType type, Integer ownerId) {
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  * Copyright 2002-2013 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -34,7 +34,9 @@ import jakarta.persistence.Table;
         @NamedQuery(name = "findSpecialtiesByIdsIn",
                 query = "SELECT s FROM Specialty s WHERE s.id in :ids"),
         @NamedQuery(name = "findSpecialtiesByNameIn",
-                query = "SELECT s FROM Specialty s WHERE s.name in :names")
+                query = "SELECT s FROM Specialty s WHERE s.name in :names"),
+        @NamedQuery(name = "findSpecialtyNames",
+                query = "SELECT s.id, s.name FROM Specialty s")
 })
 public class Specialty extends NamedEntity {
 
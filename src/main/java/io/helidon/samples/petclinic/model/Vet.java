@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  * Copyright 2002-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -33,11 +33,13 @@ import java.util.*;
 @Table(name = "vets")
 @NamedQueries({
         @NamedQuery(name = "findAllVets",
-                query = "SELECT v FROM Vet v")
+                query = "SELECT v FROM Vet v"),
+        @NamedQuery(name = "findVetSpecialtyIds",
+                query = "SELECT v.id, s.id FROM Vet v LEFT JOIN v.specialties s")
 })
 public class Vet extends Person {
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "vet_specialties", joinColumns = @JoinColumn(name = "vet_id"),
         inverseJoinColumns = @JoinColumn(name = "specialty_id"))
     private Set<Specialty> specialties;
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a {@link Visit} returned by visit date-range queries.
+ * Unlike the entity it references the pet by id only.
+ *
+ * @param id          id of the visit
+ * @param date        date of the visit
+ * @param description description of the visit
+ * @param petId       id of the visited pet
+ */
+public record VisitSummary(Integer id, LocalDate date, String description, Integer petId) {
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import jakarta.ws.rs.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * IDs requested with the {@code ids} query parameter of the list endpoints, so that a client
+ * can read many entities in one request instead of one request per entity.
+ */
+final class BatchIds {
+    /**
+     * Maximum number of IDs in one request, as documented in the API.
+     */
+    static final int MAX_IDS = 200;
+
+    private BatchIds() {
+    }
+
+    /**
+     * Parse the value of an {@code ids} query parameter.
+     *
+     * @param ids comma separated IDs, may be {@code null}
+     * @return distinct IDs in request order, {@code null} if no IDs are requested
+     * @throws BadRequestException if an ID is not a number or there are more than {@value #MAX_IDS} IDs
+     */
+    static List<Integer> parse(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return null;
+        }
+        var requested = new LinkedHashSet<Integer>();
+        for (var id : ids.split(",")) {
+            try {
+                requested.add(Integer.valueOf(id.trim()));
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid id " + id.trim());
+            }
+            if (requested.size() > MAX_IDS) {
+                throw new BadRequestException("At most " + MAX_IDS + " ids can be requested at once");
+            }
+        }
+        return new ArrayList<>(requested);
+    }
+}
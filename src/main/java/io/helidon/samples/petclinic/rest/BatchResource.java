@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.rest.api.BatchService;
+import io.helidon.samples.petclinic.rest.dto.BatchOperationDto;
+import io.helidon.samples.petclinic.rest.dto.BatchRequestDto;
+import io.helidon.samples.petclinic.rest.dto.BatchResponseDto;
+import io.helidon.samples.petclinic.rest.dto.BatchResultDto;
+import io.helidon.samples.petclinic.rest.dto.OwnerFieldsDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetFieldsDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
+import io.helidon.samples.petclinic.rest.dto.VetDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import io.helidon.samples.petclinic.rest.dto.VisitFieldsDto;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.json.JsonException;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Executes many POST, PUT and DELETE operations of the API in one request.
+ * <p>
+ * Every operation is dispatched to the resource method that serves it on its own, so it behaves
+ * exactly like the single request. In atomic mode the operations share one transaction, which lets
+ * the persistence provider batch their statements and commit once. When one of them fails, the operations before it
+ * are reported as rolled back and the ones after it as skipped, both with status 424. In best effort mode every
+ * operation is committed on its own, so a failing operation cannot roll back the others.
+ */
+@RequestScoped
+public class BatchResource implements BatchService {
+    /**
+     * Maximum number of operations in one request, as documented in the API.
+     */
+    static final int MAX_OPERATIONS = 100;
+
+    private static final int FAILED_DEPENDENCY = 424;
+
+    private static final List<Route> ROUTES = List.of(
+            new Route("POST", "owners",
+                    (r, ids, body) -> r.owners.addOwner(read(body, OwnerFieldsDto.class))),
+            new Route("PUT", "owners/{}",
+                    (r, ids, body) -> r.owners.updateOwner(ids.get(0), read(body, OwnerFieldsDto.class))),
+            new Route("DELETE", "owners/{}",
+                    (r, ids, body) -> r.owners.deleteOwner(ids.get(0))),
+            new Route("POST", "owners/{}/pets",
+                    (r, ids, body) -> r.owners.addPetToOwner(ids.get(0), read(body, PetFieldsDto.class))),
+            new Route("PUT", "owners/{}/pets/{}",
+                    (r, ids, body) -> r.owners.updateOwnersPet(ids.get(0), ids.get(1), read(body, PetFieldsDto.class))),
+            new Route("POST", "owners/{}/pets/{}/visits",
+                    (r, ids, body) -> r.owners.addVisitToOwner(ids.get(0), ids.get(1), read(body, VisitFieldsDto.class))),
+            new Route("POST", "pets",
+                    (r, ids, body) -> r.pets.addPet(read(body, PetDto.class))),
+            new Route("PUT", "pets/{}",
+                    (r, ids, body) -> r.pets.updatePet(ids.get(0), read(body, PetDto.class))),
+            new Route("DELETE", "pets/{}",
+                    (r, ids, body) -> r.pets.deletePet(ids.get(0))),
+            new Route("POST", "pettypes",
+                    (r, ids, body) -> r.petTypes.addPetType(read(body, PetTypeDto.class))),
+            new Route("PUT", "pettypes/{}",
+                    (r, ids, body) -> r.petTypes.updatePetType(ids.get(0), read(body, PetTypeDto.class))),
+            new Route("DELETE", "pettypes/{}",
+                    (r, ids, body) -> r.petTypes.deletePetType(ids.get(0))),
+            new Route("POST", "specialties",
+                    (r, ids, body) -> r.specialties.addSpecialty(read(body, SpecialtyDto.class))),
+            new Route("PUT", "specialties/{}",
+                    (r, ids, body) -> r.specialties.updateSpecialty(ids.get(0), read(body, SpecialtyDto.class))),
+            new Route("DELETE", "specialties/{}",
+                    (r, ids, body) -> r.specialties.deleteSpecialty(ids.get(0))),
+            new Route("POST", "vets",
+                    (r, ids, body) -> r.vets.addVet(read(body, VetDto.class))),
+            new Route("PUT", "vets/{}",
+                    (r, ids, body) -> r.vets.updateVet(ids.get(0), read(body, VetDto.class))),
+            new Route("DELETE", "vets/{}",
+                    (r, ids, body) -> r.vets.deleteVet(ids.get(0))),
+            new Route("POST", "visits",
+                    (r, ids, body) -> r.visits.addVisit(read(body, VisitDto.class))),
+            new Route("PUT", "visits/{}",
+                    (r, ids, body) -> r.visits.updateVisit(ids.get(0), read(body, VisitDto.class))),
+            new Route("DELETE", "visits/{}",
+                    (r, ids, body) -> r.visits.deleteVisit(ids.get(0))));
+
+    private final BatchTransactions transactions;
+    private final OwnerResource owners;
+    private final PetResource pets;
+    private final PetTypesResource petTypes;
+    private final SpecialtyResource specialties;
+    private final VetResource vets;
+    private final VisitResource visits;
+
+    @Inject
+    public BatchResource(BatchTransactions transactions,
+                         OwnerResource owners,
+                         PetResource pets,
+                         PetTypesResource petTypes,
+                         SpecialtyResource specialties,
+                         VetResource vets,
+                         VisitResource visits) {
+        this.transactions = transactions;
+        this.owners = owners;
+        this.pets = pets;
+        this.petTypes = petTypes;
+        this.specialties = specialties;
+        this.vets = vets;
+        this.visits = visits;
+    }
+
+    @Override
+    public Response executeBatch(BatchRequestDto batchRequestDto) {
+        var operations = batchRequestDto.getOperations();
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_OPERATIONS) {
+            throw new BadRequestException("A batch must have between 1 and " + MAX_OPERATIONS + " operations");
+        }
+        for (var operation : operations) {
+            if (operation.getMethod() == null || operation.getPath() == null) {
+                throw new BadRequestException("Every operation needs a method and a path");
+            }
+        }
+        var mode = batchRequestDto.getMode() == null ? "atomic" : batchRequestDto.getMode();
+        return switch (mode) {
+            case "atomic" -> Response.ok(executeAtomic(operations)).build();
+            case "bestEffort" -> Response.ok(executeBestEffort(operations)).build();
+            default -> throw new BadRequestException("Invalid mode " + mode + ", expected atomic or bestEffort");
+        };
+    }
+
+    private BatchResponseDto executeAtomic(List<BatchOperationDto> operations) {
+        try {
+            return new BatchResponseDto(true, transactions.inNewTransaction(() -> {
+                var results = new ArrayList<BatchResultDto>();
+                for (var operation : operations) {
+                    var result = execute(operation);
+                    results.add(result);
+                    if (result.getStatus() >= 400) {
+                        // the earlier operations are rolled back, what they created does not exist
+                        for (int i = 0; i < results.size() - 1; i++) {
+                            results.set(i, new BatchResultDto(FAILED_DEPENDENCY, null, null,
+                                    "Rolled back, a later operation failed"));
+                        }
+                        while (results.size() < operations.size()) {
+                            results.add(new BatchResultDto(FAILED_DEPENDENCY, null, null,
+                                    "Not executed, an earlier operation failed"));
+                        }
+                        throw new BatchAbortedException(results);
+                    }
+                }
+                return results;
+            }));
+        } catch (BatchAbortedException e) {
+            return new BatchResponseDto(false, e.results);
+        }
+    }
+
+    private BatchResponseDto executeBestEffort(List<BatchOperationDto> operations) {
+        var results = new ArrayList<BatchResultDto>();
+        for (var operation : operations) {
+            try {
+                results.add(transactions.inNewTransaction(() -> {
+                    var result = execute(operation);
+                    if (result.getStatus() >= 400) {
+                        throw new BatchAbortedException(List.of(result));
+                    }
+                    return result;
+                }));
+            } catch (BatchAbortedException e) {
+                results.add(e.results.get(0));
+            } catch (RuntimeException e) {
+                // the operation succeeded, but its transaction could not be committed
+                results.add(new BatchResultDto(500, null, null, e.getMessage()));
+            }
+        }
+        return new BatchResponseDto(true, results);
+    }
+
+    private BatchResultDto execute(BatchOperationDto operation) {
+        try {
+            var response = dispatch(operation);
+            var location = response.getLocation() == null ? null : response.getLocation().toString();
+            var error = response.getStatus() >= 400 ? response.getStatusInfo().getReasonPhrase() : null;
+            return new BatchResultDto(response.getStatus(), location, response.getEntity(), error);
+        } catch (WebApplicationException e) {
+            return new BatchResultDto(e.getResponse().getStatus(), null, null, e.getMessage());
+        } catch (RuntimeException e) {
+            return new BatchResultDto(500, null, null, e.getMessage());
+        }
+    }
+
+    private Response dispatch(BatchOperationDto operation) {
+        var path = operation.getPath().startsWith("/") ? operation.getPath().substring(1) : operation.getPath();
+        for (var route : ROUTES) {
+            if (route.method().equals(operation.getMethod())) {
+                var matcher = route.path().matcher(path);
+                if (matcher.matches()) {
+                    var ids = new ArrayList<Integer>();
+                    for (int i = 1; i <= matcher.groupCount(); i++) {
+                        ids.add(Integer.valueOf(matcher.group(i)));
+                    }
+                    return route.operation().execute(this, ids, operation.getBody());
+                }
+            }
+        }
+        throw new NotFoundException("No operation " + operation.getMethod() + " " + operation.getPath());
+    }
+
+    private static <T> T read(Object body, Class<T> type) {
+        if (body == null) {
+            throw new BadRequestException("Missing body");
+        }
+        // the body was read as a free-form value, write it back and read it with the codec of the DTO
+        var json = new ByteArrayOutputStream();
+        try (var generator = JsonCodecs.generator(json)) {
+            JsonCodecs.writeValue(generator, body);
+        }
+        try (var parser = JsonCodecs.parser(new ByteArrayInputStream(json.toByteArray()))) {
+            parser.next();
+            return JsonCodecs.readObject(parser, type);
+        } catch (JsonException | IllegalStateException | DateTimeException e) {
+            throw new BadRequestException("Invalid body: " + e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Response execute(BatchResource resource, List<Integer> ids, Object body);
+    }
+
+    private record Route(String method, Pattern path, Operation operation) {
+        Route(String method, String template, Operation operation) {
+            this(method, Pattern.compile(template.replace("{}", "(\\d{1,9})")), operation);
+        }
+    }
+
+    /**
+     * Rolls back the transaction of a batch and carries the results reported so far.
+     */
+    private static final class BatchAbortedException extends RuntimeException {
+        private final transient List<BatchResultDto> results;
+
+        BatchAbortedException(List<BatchResultDto> results) {
+            super("Batch operation failed", null, false, false);
+            this.results = results;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * Transaction boundary of the batch endpoint. The resource and service methods called by the work
+ * join the transaction, it is committed when the work returns and rolled back when it throws.
+ */
+@ApplicationScoped
+public class BatchTransactions {
+    /**
+     * Run work in a new transaction.
+     *
+     * @param work work to run
+     * @param <T>  result type
+     * @return result of the work
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public <T> T inNewTransaction(Supplier<T> work) {
+        return work.get();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+
+import java.util.List;
+
+/**
+ * Caps the visits embedded in pet and owner responses, see the {@code visitLimit} query parameter.
+ * The full history of a pet is available page by page from {@code GET /pets/{petId}/visits}.
+ */
+final class EmbeddedVisits {
+    private EmbeddedVisits() {
+    }
+
+    /**
+     * Keep only the most recent visits of a pet.
+     *
+     * @param pet        pet with its visits in ascending date order
+     * @param visitLimit maximum number of visits to keep, {@code null} keeps all
+     * @return the same pet
+     */
+    static PetDto limit(PetDto pet, Integer visitLimit) {
+        var visits = pet.getVisits();
+        if (visitLimit != null && visits != null && visits.size() > visitLimit) {
+            visits.subList(0, visits.size() - visitLimit).clear();
+        }
+        return pet;
+    }
+
+    /**
+     * Keep only the most recent visits of each pet of an owner.
+     *
+     * @param owner      owner with its pets
+     * @param visitLimit maximum number of visits to keep per pet, {@code null} keeps all
+     * @return the same owner
+     */
+    static OwnerDto limit(OwnerDto owner, Integer visitLimit) {
+        if (visitLimit != null && owner.getPets() != null) {
+            owner.getPets().forEach(pet -> limit(pet, visitLimit));
+        }
+        return owner;
+    }
+
+    static List<PetDto> limitPets(List<PetDto> pets, Integer visitLimit) {
+        pets.forEach(pet -> limit(pet, visitLimit));
+        return pets;
+    }
+
+    static List<OwnerDto> limitOwners(List<OwnerDto> owners, Integer visitLimit) {
+        owners.forEach(owner -> limit(owner, visitLimit));
+        return owners;
+    }
+}
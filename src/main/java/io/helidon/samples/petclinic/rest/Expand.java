@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import jakarta.ws.rs.BadRequestException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Associations that can be embedded with the {@code expand} query parameter.
+ * Responses are shallow by default and only the requested associations are fetched.
+ */
+final class Expand {
+    static final Set<String> OWNER = Set.of("pets", "pets.visits");
+    static final Set<String> PET = Set.of("visits");
+    static final Set<String> VET = Set.of("specialties");
+
+    private Expand() {
+    }
+
+    /**
+     * Parse the value of an {@code expand} query parameter.
+     *
+     * @param expand  comma separated association paths, may be {@code null}
+     * @param allowed association paths of the response type
+     * @return requested association paths, empty for a shallow response
+     * @throws BadRequestException if a path is unknown
+     */
+    static Set<String> parse(String expand, Set<String> allowed) {
+        var requested = new HashSet<String>();
+        if (expand == null || expand.isBlank()) {
+            return requested;
+        }
+        for (var path : expand.split(",")) {
+            var name = path.trim();
+            if (!allowed.contains(name)) {
+                throw new BadRequestException("Unknown expansion " + name + ", expected one of " + allowed);
+            }
+            requested.add(name);
+        }
+        return requested;
+    }
+
+    /**
+     * Add the associations named in a sparse fieldset, as they cannot be returned without being fetched.
+     *
+     * @param expand  parsed expansions
+     * @param fields  parsed fields, {@code null} for all fields
+     * @param allowed association paths of the response type
+     * @return the given expansions
+     */
+    static Set<String> withFields(Set<String> expand, List<String> fields, Set<String> allowed) {
+        if (fields != null) {
+            fields.stream().filter(allowed::contains).forEach(expand::add);
+        }
+        return expand;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.rest.json.DtoCborProvider;
+import io.helidon.samples.petclinic.rest.json.DtoJsonProvider;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Array response body that is written one element at a time while the elements are read,
+ * so neither the entities nor the DTOs nor the serialized JSON of a whole list are held in memory.
+ * <p>
+ * It is an {@link Iterable} of the mapped elements that {@link DtoJsonProvider} and {@link DtoCborProvider}
+ * write as they iterate it, so it can only be written once.
+ */
+final class JsonArrayStream implements Iterable<Object> {
+    private final Iterator<Object> elements;
+
+    private JsonArrayStream(Iterator<Object> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Create a response body writing the mapped elements as an array.
+     *
+     * @param elements elements to write, read lazily
+     * @param mapper   maps an element to a DTO or map written by {@link JsonCodecs}
+     * @param <T>      element type
+     * @return response body
+     */
+    static <T> JsonArrayStream of(Iterator<T> elements, Function<T, Object> mapper) {
+        return new JsonArrayStream(new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return elements.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                return mapper.apply(elements.next());
+            }
+        });
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return elements;
+    }
+}
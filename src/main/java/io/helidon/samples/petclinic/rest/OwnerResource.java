@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,38 +19,50 @@ import io.helidon.samples.petclinic.mapper.OwnerMapper;
 import io.helidon.samples.petclinic.mapper.PetMapper;
 import io.helidon.samples.petclinic.mapper.VisitMapper;
 import io.helidon.samples.petclinic.rest.api.OwnerService;
+import io.helidon.samples.petclinic.rest.cache.OwnerAggregateCache;
 import io.helidon.samples.petclinic.rest.dto.OwnerFieldsDto;
 import io.helidon.samples.petclinic.rest.dto.PetFieldsDto;
 import io.helidon.samples.petclinic.rest.dto.VisitFieldsDto;
 import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.DuplicateOwnerDetector;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 
+import java.util.stream.Collectors;
+
 @RequestScoped
 public class OwnerResource implements OwnerService {
     @Context
     UriInfo uriInfo;
 
+    @Context
+    HttpHeaders headers;
+
     private final ClinicService clinicService;
     private final OwnerMapper ownerMapper;
     private final PetMapper petMapper;
     private final VisitMapper visitMapper;
+    private final OwnerAggregateCache ownerAggregates;
 
     @Inject
     public OwnerResource(ClinicService clinicService,
                          OwnerMapper ownerMapper,
                          PetMapper petMapper,
-                         VisitMapper visitMapper) {
+                         VisitMapper visitMapper,
+                         OwnerAggregateCache ownerAggregates) {
         this.clinicService = clinicService;
         this.ownerMapper = ownerMapper;
         this.petMapper = petMapper;
         this.visitMapper = visitMapper;
+        this.ownerAggregates = ownerAggregates;
     }
 
     @Override
@@ -59,7 +71,15 @@ public class OwnerResource implements OwnerService {
         clinicService.saveOwner(owner);
 
         var location = UriBuilder.fromUri(uriInfo.getBaseUri()).path("api/owners/{id}").build(owner.getId());
-        return Response.created(location).entity(ownerMapper.toOwnerDto(owner)).build();
+        var response = Response.created(location).entity(ownerMapper.toOwnerDto(owner));
+        var duplicates = clinicService.findDuplicatesOf(owner, DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+        if (!duplicates.isEmpty()) {
+            var ownerIds = duplicates.stream()
+                    .map(duplicate -> String.valueOf(duplicate.duplicateOwnerId()))
+                    .collect(Collectors.joining(", "));
+            response.header("Warning", "199 - \"Possible duplicate of owners " + ownerIds + "\"");
+        }
+        return response.build();
     }
 
     @Override
@@ -81,7 +101,8 @@ public class OwnerResource implements OwnerService {
         if (ownerId != null && !pet.getOwner().getId().equals(ownerId)) {
             throw new IllegalArgumentException("Pet's owner doesn't correspond to ownerId parameter value.");
         }
-        pet.addVisit(visit);
+        // the pet is detached and its visits are not fetched, saveVisit adds the visit to the pet
+        visit.setPet(pet);
         this.clinicService.saveVisit(visit);
         var location = UriBuilder.fromUri(uriInfo.getBaseUri()).path("api/visits/{id}").build(visit.getId());
         return Response.created(location).entity(visitMapper.toVisitDto(visit)).build();
@@ -96,27 +117,79 @@ public class OwnerResource implements OwnerService {
     }
 
     @Override
-    public Response getOwner(Integer ownerId) {
-        var owner = clinicService.findOwnerById(ownerId).orElseThrow(NotFoundException::new);
+    public Response getOwner(Integer ownerId, Integer visitLimit, String fields, String expand) {
+        var selectedFields = SparseFieldset.OWNER.parse(fields);
+        if (selectedFields != null && SparseFieldset.OWNER.columnsOnly(selectedFields)) {
+            var rows = clinicService.findOwnerFields(ownerId, selectedFields);
+            if (rows.isEmpty()) {
+                throw new NotFoundException();
+            }
+            return Response.ok(rows.get(0)).build();
+        }
+        var expansions = Expand.withFields(Expand.parse(expand, Expand.OWNER), selectedFields, Expand.OWNER);
+        if (selectedFields == null && visitLimit == null && expansions.contains("pets.visits")
+                && ownerAggregates.accepts(headers)) {
+            var json = ownerAggregates.json(ownerId, () -> ownerMapper.toOwnerDto(
+                    clinicService.findOwnerById(ownerId, Expand.OWNER).orElseThrow(NotFoundException::new)));
+            return Response.ok(json, MediaType.APPLICATION_JSON_TYPE).build();
+        }
+        var owner = clinicService.findOwnerById(ownerId, expansions).orElseThrow(NotFoundException::new);
+        var ownerDto = EmbeddedVisits.limit(ownerMapper.toOwnerDto(owner), visitLimit);
+        if (selectedFields != null) {
+            return Response.ok(SparseFieldset.OWNER.select(ownerDto, selectedFields)).build();
+        }
+        return Response.ok(ownerDto).build();
+    }
+
+    @Override
+    public Response getOwnerByTelephone(String number) {
+        var owner = clinicService.findOwnerByTelephone(number).orElseThrow(NotFoundException::new);
         return Response.ok(ownerMapper.toOwnerDto(owner)).build();
     }
 
     @Override
-    public Response getOwnersPet(Integer ownerId, Integer petId) {
-        var pet = clinicService.findPetById(petId).orElseThrow(NotFoundException::new);
+    public Response getOwnersPet(Integer ownerId, Integer petId, Integer visitLimit, String expand) {
+        var pet = clinicService.findPetById(petId, Expand.parse(expand, Expand.PET)).orElseThrow(NotFoundException::new);
         if (!pet.getOwner().getId().equals(ownerId)) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok(petMapper.toPetDto(pet)).build();
+        return Response.ok(EmbeddedVisits.limit(petMapper.toPetDto(pet), visitLimit)).build();
     }
 
     @Override
-    public Response listOwners(String lastName) {
-        var owners = ownerMapper.toOwnerDtos(clinicService.findAllOwners());
-        if (owners.isEmpty()) {
+    public Response listOwners(String ids, String lastName, Integer visitLimit, String fields, String expand) {
+        var selectedFields = SparseFieldset.OWNER.parse(fields);
+        var requestedIds = BatchIds.parse(ids);
+        if (requestedIds != null) {
+            var expansions = Expand.withFields(Expand.parse(expand, Expand.OWNER), selectedFields, Expand.OWNER);
+            var owners = EmbeddedVisits.limitOwners(
+                    ownerMapper.toOwnerDtos(clinicService.findOwnersByIdIn(requestedIds, expansions)), visitLimit);
+            if (selectedFields != null) {
+                return Response.ok(SparseFieldset.OWNER.select(owners, selectedFields)).build();
+            }
+            return Response.ok(owners).build();
+        }
+        if (selectedFields != null && SparseFieldset.OWNER.columnsOnly(selectedFields)) {
+            var rows = clinicService.findOwnerFields(null, selectedFields);
+            if (rows.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            return Response.ok(rows).build();
+        }
+        var expansions = Expand.withFields(Expand.parse(expand, Expand.OWNER), selectedFields, Expand.OWNER);
+        var owners = clinicService.streamAllOwners(expansions).iterator();
+        if (!owners.hasNext()) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok(owners).build();
+        return Response.ok(JsonArrayStream.of(owners, owner -> {
+            var ownerDto = EmbeddedVisits.limit(ownerMapper.toOwnerDto(owner), visitLimit);
+            return selectedFields == null ? ownerDto : SparseFieldset.OWNER.select(ownerDto, selectedFields);
+        })).build();
+    }
+
+    @Override
+    public Response listDuplicateOwners(Double minScore) {
+        return Response.ok(ownerMapper.toDuplicateOwnerDtos(clinicService.findDuplicateOwners(minScore))).build();
     }
 
     @Override
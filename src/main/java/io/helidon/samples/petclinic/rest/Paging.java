@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * Position of a page requested with the {@code page} and {@code size} query parameters of the search endpoints.
+ */
+final class Paging {
+    private Paging() {
+    }
+
+    /**
+     * Index of the first result of a page.
+     *
+     * @param page zero based page number
+     * @param size number of results per page
+     * @return {@code page * size}
+     * @throws BadRequestException if the first result of the page is beyond the largest index
+     */
+    static int firstResult(int page, int size) {
+        try {
+            return Math.multiplyExact(page, size);
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Page " + page + " of size " + size + " is out of range");
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,24 @@
 package io.helidon.samples.petclinic.rest;
 
 import io.helidon.samples.petclinic.mapper.PetMapper;
+import io.helidon.samples.petclinic.mapper.VisitMapper;
 import io.helidon.samples.petclinic.rest.api.PetService;
 import io.helidon.samples.petclinic.rest.dto.PetDto;
 import io.helidon.samples.petclinic.service.ClinicService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 @RequestScoped
 public class PetResource implements PetService {
     @Context
@@ -35,11 +41,13 @@ public class PetResource implements PetService {
 
     private final ClinicService clinicService;
     private final PetMapper petMapper;
+    private final VisitMapper visitMapper;
 
     @Inject
-    public PetResource(ClinicService clinicService, PetMapper petMapper) {
+    public PetResource(ClinicService clinicService, PetMapper petMapper, VisitMapper visitMapper) {
         this.clinicService = clinicService;
         this.petMapper = petMapper;
+        this.visitMapper = visitMapper;
     }
 
     @Override
@@ -62,18 +70,91 @@ public class PetResource implements PetService {
     }
 
     @Override
-    public Response getPet(Integer petId) {
-        var pet = clinicService.findPetById(petId).orElseThrow(NotFoundException::new);
-        return Response.ok(petMapper.toPetDto(pet)).build();
+    public Response getPet(Integer petId, Integer visitLimit, String fields, String expand) {
+        var selectedFields = SparseFieldset.PET.parse(fields);
+        if (selectedFields != null && SparseFieldset.PET.columnsOnly(selectedFields)) {
+            var rows = clinicService.findPetFields(petId, selectedFields);
+            if (rows.isEmpty()) {
+                throw new NotFoundException();
+            }
+            return Response.ok(rows.get(0)).build();
+        }
+        var expansions = Expand.withFields(Expand.parse(expand, Expand.PET), selectedFields, Expand.PET);
+        var pet = clinicService.findPetById(petId, expansions).orElseThrow(NotFoundException::new);
+        var petDto = EmbeddedVisits.limit(petMapper.toPetDto(pet), visitLimit);
+        if (selectedFields != null) {
+            return Response.ok(SparseFieldset.PET.select(petDto, selectedFields)).build();
+        }
+        return Response.ok(petDto).build();
+    }
+
+    @Override
+    public Response listPetVisits(Integer petId, String before, Integer limit) {
+        LocalDate beforeDate = null;
+        Integer beforeId = null;
+        if (before != null && !before.isEmpty()) {
+            try {
+                int separator = before.indexOf(':');
+                if (separator < 0) {
+                    beforeDate = LocalDate.parse(before);
+                } else {
+                    beforeDate = LocalDate.parse(before.substring(0, separator));
+                    beforeId = Integer.valueOf(before.substring(separator + 1));
+                }
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor " + before + ", expected yyyy-MM-dd or yyyy-MM-dd:id", e);
+            }
+        }
+        var visits = clinicService.findVisitsByPetId(petId, beforeDate, beforeId, limit);
+        if (visits.isEmpty() && before == null && clinicService.findPetById(petId).isEmpty()) {
+            throw new NotFoundException();
+        }
+
+        var response = Response.ok(visitMapper.toVisitDtosFromSummaries(visits));
+        if (visits.size() == limit) {
+            var last = visits.get(visits.size() - 1);
+            var next = uriInfo.getRequestUriBuilder().replaceQueryParam("before", last.date() + ":" + last.id());
+            response.links(Link.fromUriBuilder(next).rel("next").build());
+        }
+        return response.build();
     }
 
     @Override
-    public Response listPets() {
-        var pets = petMapper.toPetDtos(clinicService.findAllPets());
-        if (pets.isEmpty()) {
+    public Response listPets(String ids, Integer visitLimit, String fields, String expand) {
+        var selectedFields = SparseFieldset.PET.parse(fields);
+        var requestedIds = BatchIds.parse(ids);
+        if (requestedIds != null) {
+            var expansions = Expand.withFields(Expand.parse(expand, Expand.PET), selectedFields, Expand.PET);
+            var pets = EmbeddedVisits.limitPets(
+                    petMapper.toPetDtos(clinicService.findPetsByIdIn(requestedIds, expansions)), visitLimit);
+            if (selectedFields != null) {
+                return Response.ok(SparseFieldset.PET.select(pets, selectedFields)).build();
+            }
+            return Response.ok(pets).build();
+        }
+        if (selectedFields != null && SparseFieldset.PET.columnsOnly(selectedFields)) {
+            var rows = clinicService.findPetFields(null, selectedFields);
+            if (rows.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            return Response.ok(rows).build();
+        }
+        var expansions = Expand.withFields(Expand.parse(expand, Expand.PET), selectedFields, Expand.PET);
+        var pets = clinicService.streamAllPets(expansions).iterator();
+        if (!pets.hasNext()) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok(pets).build();
+        return Response.ok(JsonArrayStream.of(pets, pet -> {
+            var petDto = EmbeddedVisits.limit(petMapper.toPetDto(pet), visitLimit);
+            return selectedFields == null ? petDto : SparseFieldset.PET.select(petDto, selectedFields);
+        })).build();
+    }
+
+    @Override
+    public Response searchPets(String name, Integer typeId, LocalDate bornFrom, LocalDate bornTo,
+                               Integer page, Integer size) {
+        var pets = clinicService.findPets(name, typeId, bornFrom, bornTo, Paging.firstResult(page, size), size);
+        return Response.ok(petMapper.toPetSummaryDtos(pets)).build();
     }
 
     @Override
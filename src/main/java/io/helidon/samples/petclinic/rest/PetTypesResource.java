@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
@@ -33,13 +34,19 @@ public class PetTypesResource implements PettypesService {
     @Context
     UriInfo uriInfo;
 
+    @Context
+    HttpHeaders headers;
+
     private final ClinicService clinicService;
     private final PetTypeMapper petTypeMapper;
+    private final ReferencePayloads referencePayloads;
 
     @Inject
-    public PetTypesResource(ClinicService clinicService, PetTypeMapper petTypeMapper) {
+    public PetTypesResource(ClinicService clinicService, PetTypeMapper petTypeMapper,
+                            ReferencePayloads referencePayloads) {
         this.clinicService = clinicService;
         this.petTypeMapper = petTypeMapper;
+        this.referencePayloads = referencePayloads;
     }
 
     @Override
@@ -67,11 +74,10 @@ public class PetTypesResource implements PettypesService {
 
     @Override
     public Response listPetTypes() {
-        var petTypes = petTypeMapper.toPetTypeDtos(clinicService.findAllPetTypes());
-        if (petTypes.isEmpty()) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
-        return Response.ok(petTypes).build();
+        return referencePayloads.ok(headers, "pettypes", () -> {
+            var petTypes = petTypeMapper.toPetTypeDtos(clinicService.findAllPetTypes());
+            return petTypes.isEmpty() ? null : petTypes;
+        });
     }
 
     @Override
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.cache.Sized;
+import io.helidon.samples.petclinic.cache.SnapshotFile;
+import io.helidon.samples.petclinic.rest.encoding.ContentEncodings;
+import io.helidon.samples.petclinic.rest.json.CborGenerator;
+import io.helidon.samples.petclinic.rest.json.DtoCborProvider;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
+import io.helidon.samples.petclinic.service.SingleFlight;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Serialized and compressed responses of the rarely changing pet types, specialties and vets.
+ * <p>
+ * Each payload is an immutable snapshot of its response bytes in every media type and content encoding, built from
+ * one load of its entity, so a request for it is answered with the bytes as they are sent. A snapshot is replaced as
+ * a whole on the first request after the {@link ReferenceDataVersion} changed, concurrent requests for the same
+ * payload share one {@link SingleFlight} load of it.
+ */
+@ApplicationScoped
+public class ReferencePayloads {
+    private static final List<MediaType> MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON_TYPE,
+            DtoCborProvider.APPLICATION_CBOR_TYPE);
+    private static final List<String> ENCODINGS = List.of(ContentEncodings.GZIP, ContentEncodings.DEFLATE);
+
+    private final ContentEncodings encodings;
+    private final ReferenceDataVersion version;
+    private final SingleFlight singleFlight;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Inject
+    public ReferencePayloads(ContentEncodings encodings, ReferenceDataVersion version, SingleFlight singleFlight) {
+        this.encodings = encodings;
+        this.version = version;
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Respond with a payload in the media type and content encoding accepted by the request.
+     *
+     * @param headers request headers
+     * @param name    name of the payload, different for every content
+     * @param entity  loads the entity of the payload, returns {@code null} if there is none
+     * @return ok response with the payload, not found response if there is no entity
+     */
+    Response ok(HttpHeaders headers, String name, Supplier<Object> entity) {
+        var current = version.current();
+        var snapshot = snapshots.get(name);
+        if (snapshot == null || snapshot.version() != current) {
+            snapshot = singleFlight.load("ReferencePayloads.ok", List.of(name, current),
+                    () -> load(name, current, entity));
+            if (snapshot == null) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+        }
+        var mediaType = DtoCborProvider.responseMediaType(headers.getAcceptableMediaTypes());
+        var payload = snapshot.payload(mediaType,
+                encodings.negotiate(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING)));
+        return Response.ok(payload.bytes(), mediaType).encoding(payload.encoding()).build();
+    }
+
+    /**
+     * Write the current payloads to a cache snapshot.
+     *
+     * @param output section of the snapshot
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream output) throws IOException {
+        var current = version.current();
+        for (var entry : snapshots.entrySet()) {
+            if (entry.getValue().version() != current) {
+                continue;
+            }
+            SnapshotFile.writeString(output, entry.getKey());
+            output.writeInt(entry.getValue().payloads().size());
+            for (var payload : entry.getValue().payloads().entrySet()) {
+                var variant = payload.getKey();
+                output.writeByte(MEDIA_TYPES.indexOf(variant.mediaType()));
+                output.writeByte(variant.encoding() == null ? -1 : ENCODINGS.indexOf(variant.encoding()));
+                output.writeInt(payload.getValue().bytes().length);
+                output.write(payload.getValue().bytes());
+            }
+        }
+    }
+
+    /**
+     * Restore the payloads of a cache snapshot that is current for the reference data version it was validated at.
+     * Payloads loaded since are kept.
+     *
+     * @param section   section written by {@link #write(DataOutputStream)}
+     * @param validated reference data version read before validating the snapshot
+     */
+    public void read(ByteBuffer section, long validated) {
+        while (section.hasRemaining()) {
+            var name = SnapshotFile.readString(section);
+            var payloads = new HashMap<Variant, Payload>();
+            for (int i = section.getInt(); i > 0; i--) {
+                var mediaType = MEDIA_TYPES.get(section.get());
+                int encodingIndex = section.get();
+                var encoding = encodingIndex < 0 ? null : ENCODINGS.get(encodingIndex);
+                var bytes = new byte[section.getInt()];
+                section.get(bytes);
+                payloads.put(new Variant(mediaType, encoding), new Payload(bytes, encoding));
+            }
+            if (version.current() != validated) {
+                return;
+            }
+            snapshots.putIfAbsent(name, new Snapshot(validated, Map.copyOf(payloads)));
+        }
+    }
+
+    private Snapshot load(String name, long current, Supplier<Object> entity) {
+        var value = entity.get();
+        if (value == null) {
+            return null;
+        }
+        var snapshot = snapshot(current, value);
+        // a snapshot loaded while the data changed, or from stale data, is sent but not kept
+        if (version.current() == current && !singleFlight.servedStale()) {
+            snapshots.put(name, snapshot);
+        }
+        return snapshot;
+    }
+
+    private Snapshot snapshot(long version, Object entity) {
+        var payloads = new HashMap<Variant, Payload>();
+        for (var mediaType : MEDIA_TYPES) {
+            var bytes = serialize(entity, mediaType);
+            payloads.put(new Variant(mediaType, null), new Payload(bytes, null));
+            if (encodings.isEnabled() && bytes.length >= encodings.minSize()) {
+                for (var encoding : ENCODINGS) {
+                    payloads.put(new Variant(mediaType, encoding),
+                            new Payload(encodings.encode(encoding, bytes), encoding));
+                }
+            }
+        }
+        return new Snapshot(version, Map.copyOf(payloads));
+    }
+
+    private static byte[] serialize(Object entity, MediaType mediaType) {
+        var output = new ByteArrayOutputStream();
+        try (var generator = mediaType.equals(DtoCborProvider.APPLICATION_CBOR_TYPE)
+                ? new CborGenerator(output)
+                : JsonCodecs.generator(output)) {
+            JsonCodecs.writeValue(generator, entity);
+        }
+        return output.toByteArray();
+    }
+
+    private record Snapshot(long version, Map<Variant, Payload> payloads) implements Sized {
+        @Override
+        public long estimatedBytes() {
+            // the record, the map and an entry, a variant and a payload per payload
+            long bytes = 96;
+            for (var payload : payloads.values()) {
+                bytes += 96 + payload.bytes().length;
+            }
+            return bytes;
+        }
+
+        /**
+         * Payload in a media type and encoding, falls back to the unencoded payload if it is too small to compress.
+         */
+        Payload payload(MediaType mediaType, String encoding) {
+            var payload = payloads.get(new Variant(mediaType, encoding));
+            return payload == null ? payloads.get(new Variant(mediaType, null)) : payload;
+        }
+    }
+
+    private record Variant(MediaType mediaType, String encoding) {
+    }
+
+    private record Payload(byte[] bytes, String encoding) {
+    }
+}
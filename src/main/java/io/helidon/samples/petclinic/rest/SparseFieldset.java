@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.VetDto;
+import jakarta.ws.rs.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Fields of a response type that can be requested with the {@code fields} query parameter.
+ * <p>
+ * A selection of columns only is answered by a projection query that reads just those columns,
+ * see {@code ClinicService#findOwnerFields}. As soon as an association is requested the entities
+ * are loaded and mapped as usual, and only the requested properties of the DTO are returned.
+ *
+ * @param <T> DTO type
+ */
+final class SparseFieldset<T> {
+    static final SparseFieldset<OwnerDto> OWNER = new SparseFieldset<OwnerDto>()
+            .column("id", OwnerDto::getId)
+            .column("firstName", OwnerDto::getFirstName)
+            .column("lastName", OwnerDto::getLastName)
+            .column("address", OwnerDto::getAddress)
+            .column("city", OwnerDto::getCity)
+            .column("telephone", OwnerDto::getTelephone)
+            .association("pets", OwnerDto::getPets);
+
+    static final SparseFieldset<PetDto> PET = new SparseFieldset<PetDto>()
+            .column("id", PetDto::getId)
+            .column("name", PetDto::getName)
+            .column("birthDate", PetDto::getBirthDate)
+            .column("ownerId", PetDto::getOwnerId)
+            .association("type", PetDto::getType)
+            .association("visits", PetDto::getVisits);
+
+    static final SparseFieldset<VetDto> VET = new SparseFieldset<VetDto>()
+            .column("id", VetDto::getId)
+            .column("firstName", VetDto::getFirstName)
+            .column("lastName", VetDto::getLastName)
+            .association("specialties", VetDto::getSpecialties);
+
+    private final Map<String, Function<T, Object>> accessors = new LinkedHashMap<>();
+    private final Set<String> columns = new LinkedHashSet<>();
+
+    private SparseFieldset() {
+    }
+
+    /**
+     * Parse the value of a {@code fields} query parameter.
+     *
+     * @param fields comma separated field names, may be {@code null}
+     * @return requested fields in request order, {@code null} if all fields are requested
+     * @throws BadRequestException if a field is unknown
+     */
+    List<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        var requested = new LinkedHashSet<String>();
+        for (var field : fields.split(",")) {
+            var name = field.trim();
+            if (!accessors.containsKey(name)) {
+                throw new BadRequestException("Unknown field " + name + ", expected one of " + accessors.keySet());
+            }
+            requested.add(name);
+        }
+        return new ArrayList<>(requested);
+    }
+
+    /**
+     * Whether the fields can be read by a projection query.
+     *
+     * @param fields parsed fields
+     * @return {@code true} if no association is requested
+     */
+    boolean columnsOnly(List<String> fields) {
+        return columns.containsAll(fields);
+    }
+
+    /**
+     * Copy the requested properties of a DTO.
+     *
+     * @param dto    mapped DTO
+     * @param fields parsed fields
+     * @return requested properties by field name
+     */
+    Map<String, Object> select(T dto, List<String> fields) {
+        var selected = new LinkedHashMap<String, Object>();
+        for (var field : fields) {
+            selected.put(field, accessors.get(field).apply(dto));
+        }
+        return selected;
+    }
+
+    List<Map<String, Object>> select(List<T> dtos, List<String> fields) {
+        return dtos.stream().map(dto -> select(dto, fields)).toList();
+    }
+
+    private SparseFieldset<T> column(String name, Function<T, Object> accessor) {
+        columns.add(name);
+        accessors.put(name, accessor);
+        return this;
+    }
+
+    private SparseFieldset<T> association(String name, Function<T, Object> accessor) {
+        accessors.put(name, accessor);
+        return this;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.samples.petclinic.rest;
 
 import io.helidon.samples.petclinic.mapper.SpecialtyMapper;
+import io.helidon.samples.petclinic.mapper.VetMapper;
 import io.helidon.samples.petclinic.rest.api.SpecialtyService;
 import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
 import io.helidon.samples.petclinic.service.ClinicService;
@@ -24,6 +25,7 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
@@ -33,13 +35,21 @@ public class SpecialtyResource implements SpecialtyService {
     @Context
     UriInfo uriInfo;
 
+    @Context
+    HttpHeaders headers;
+
     private final ClinicService clinicService;
     private final SpecialtyMapper specialtyMapper;
+    private final VetMapper vetMapper;
+    private final ReferencePayloads referencePayloads;
 
     @Inject
-    public SpecialtyResource(ClinicService clinicService, SpecialtyMapper specialtyMapper) {
+    public SpecialtyResource(ClinicService clinicService, SpecialtyMapper specialtyMapper, VetMapper vetMapper,
+                             ReferencePayloads referencePayloads) {
         this.clinicService = clinicService;
         this.specialtyMapper = specialtyMapper;
+        this.vetMapper = vetMapper;
+        this.referencePayloads = referencePayloads;
     }
 
     @Override
@@ -67,11 +77,16 @@ public class SpecialtyResource implements SpecialtyService {
 
     @Override
     public Response listSpecialties() {
-        var specialties = specialtyMapper.toSpecialtyDtos(clinicService.findAllSpecialties());
-        if (specialties.isEmpty()) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
-        return Response.ok(specialties).build();
+        return referencePayloads.ok(headers, "specialties", () -> {
+            var specialties = specialtyMapper.toSpecialtyDtos(clinicService.findAllSpecialties());
+            return specialties.isEmpty() ? null : specialties;
+        });
+    }
+
+    @Override
+    public Response listSpecialtyVets(Integer specialtyId) {
+        var specialty = clinicService.findSpecialtyById(specialtyId).orElseThrow(NotFoundException::new);
+        return Response.ok(vetMapper.toVetDtos(clinicService.findVetsBySpecialtyId(specialty.getId()))).build();
     }
 
     @Override
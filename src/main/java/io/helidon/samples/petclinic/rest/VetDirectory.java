@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.collection.IntObjectMap;
+import io.helidon.samples.petclinic.mapper.VetMapper;
+import io.helidon.samples.petclinic.model.Specialty;
+import io.helidon.samples.petclinic.model.Vet;
+import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
+import io.helidon.samples.petclinic.rest.dto.VetDto;
+import io.helidon.samples.petclinic.service.CacheTags;
+import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.DataChanged;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Immutable snapshot of all vets with their specialties sorted by name, mapped to DTOs once, so the vet endpoints
+ * are answered without querying the database nor mapping entities.
+ * <p>
+ * The snapshot is held behind a single volatile reference and replaced as a whole by a virtual thread, after a
+ * committed change of the vets or specialties and after any other change of the {@link ReferenceDataVersion}, which
+ * the next read notices. A snapshot is only served while the version it was loaded at is current, so the requests
+ * between a change and the end of its rebuild are answered from the database as before. A failed rebuild is retried
+ * by the reads once a second at most. The DTOs are shared by all requests and must not be modified.
+ * <p>
+ * Configured with {@code app.vet-directory.enabled}.
+ */
+@ApplicationScoped
+public class VetDirectory {
+    private static final System.Logger LOGGER = System.getLogger(VetDirectory.class.getName());
+    private static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Set<String> VET_TAGS = Set.of(CacheTags.of(Vet.class), CacheTags.of(Specialty.class));
+
+    private final boolean enabled;
+    private final ClinicService clinicService;
+    private final VetMapper vetMapper;
+    private final ReferenceDataVersion version;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+    private volatile long retryAt = System.nanoTime();
+
+    /**
+     * Create the vet directory.
+     *
+     * @param enabled       whether the directory is built
+     * @param clinicService loads the vets
+     * @param vetMapper     maps the vets to DTOs
+     * @param version       version of the reference data
+     */
+    @Inject
+    public VetDirectory(@ConfigProperty(name = "app.vet-directory.enabled", defaultValue = "true") boolean enabled,
+                        ClinicService clinicService, VetMapper vetMapper, ReferenceDataVersion version) {
+        this.enabled = enabled;
+        this.clinicService = clinicService;
+        this.vetMapper = vetMapper;
+        this.version = version;
+    }
+
+    /**
+     * Current snapshot of the vets.
+     *
+     * @return snapshot, {@code null} if it is not built yet or outdated, to read the database instead
+     */
+    Snapshot current() {
+        var current = snapshot;
+        if (current != null && current.version() == version.current()) {
+            return current;
+        }
+        rebuildLater();
+        return null;
+    }
+
+    void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        rebuildLater();
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        if (event.tags().stream().anyMatch(VET_TAGS::contains)) {
+            rebuildLater();
+        }
+    }
+
+    /**
+     * Build snapshots until one is current.
+     */
+    void rebuild() {
+        long built;
+        do {
+            built = version.current();
+            snapshot = build(built);
+        } while (version.current() != built);
+    }
+
+    private void rebuildLater() {
+        if (!enabled || System.nanoTime() - retryAt < 0 || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("vet-directory").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                retryAt = System.nanoTime() + RETRY_NANOS;
+                LOGGER.log(System.Logger.Level.WARNING, "Vet directory not rebuilt", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private Snapshot build(long version) {
+        var vets = new ArrayList<VetDto>();
+        try (var loaded = clinicService.streamAllVets(Expand.VET)) {
+            loaded.forEach(vet -> vets.add(vetMapper.toVetDto(vet)));
+        }
+        vets.sort(Comparator.comparing(VetDto::getId));
+        var withoutSpecialties = new ArrayList<VetDto>(vets.size());
+        var byId = new IntObjectMap<VetDto[]>(vets.size());
+        for (var vet : vets) {
+            var plain = new VetDto(vet.getId()).firstName(vet.getFirstName()).lastName(vet.getLastName());
+            withoutSpecialties.add(plain);
+            byId.put(vet.getId(), new VetDto[] {plain, vet});
+        }
+        return new Snapshot(version, List.copyOf(withoutSpecialties), List.copyOf(vets), byId);
+    }
+
+    /**
+     * Vets of one reference data version, sorted by id, with and without their specialties.
+     */
+    static final class Snapshot {
+        private final long version;
+        private final List<VetDto> vets;
+        private final List<VetDto> vetsWithSpecialties;
+        // the vet without and with its specialties by id
+        private final IntObjectMap<VetDto[]> byId;
+
+        private Snapshot(long version, List<VetDto> vets, List<VetDto> vetsWithSpecialties,
+                         IntObjectMap<VetDto[]> byId) {
+            this.version = version;
+            this.vets = vets;
+            this.vetsWithSpecialties = vetsWithSpecialties;
+            this.byId = byId;
+        }
+
+        long version() {
+            return version;
+        }
+
+        /**
+         * All vets.
+         *
+         * @param expand expanded associations
+         * @return vets, with their specialties if expanded
+         */
+        List<VetDto> vets(Set<String> expand) {
+            return expand.contains("specialties") ? vetsWithSpecialties : vets;
+        }
+
+        /**
+         * A vet by id.
+         *
+         * @param vetId  vet id
+         * @param expand expanded associations
+         * @return vet, with its specialties if expanded, {@code null} if there is none
+         */
+        VetDto vet(int vetId, Set<String> expand) {
+            var vet = byId.get(vetId);
+            return vet == null ? null : vet[expand.contains("specialties") ? 1 : 0];
+        }
+
+        /**
+         * Vets by id, in the order of the ids.
+         *
+         * @param vetIds ids of the vets
+         * @param expand expanded associations
+         * @return the vets that exist, with their specialties if expanded
+         */
+        List<VetDto> vets(List<Integer> vetIds, Set<String> expand) {
+            var found = new ArrayList<VetDto>(vetIds.size());
+            for (var vetId : vetIds) {
+                var vet = vet(vetId, expand);
+                if (vet != null) {
+                    found.add(vet);
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Vets by specialty names, with their specialties.
+         *
+         * @param specialtyNames names of the specialties
+         * @param matchAll       {@code true} for the vets having all the specialties, {@code false} for any of them
+         * @return matching vets
+         */
+        List<VetDto> vetsBySpecialties(Set<String> specialtyNames, boolean matchAll) {
+            var matching = new ArrayList<VetDto>();
+            for (var vet : vetsWithSpecialties) {
+                var names = vet.getSpecialties().stream().map(SpecialtyDto::getName).toList();
+                if (matchAll ? names.containsAll(specialtyNames) : names.stream().anyMatch(specialtyNames::contains)) {
+                    matching.add(vet);
+                }
+            }
+            return matching;
+        }
+    }
+}
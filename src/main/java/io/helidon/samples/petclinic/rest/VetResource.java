@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.helidon.samples.petclinic.rest;
 
+import io.helidon.samples.petclinic.collection.IntHashSet;
 import io.helidon.samples.petclinic.mapper.VetMapper;
 import io.helidon.samples.petclinic.model.Specialty;
 import io.helidon.samples.petclinic.rest.api.VetService;
@@ -23,14 +24,17 @@ import io.helidon.samples.petclinic.service.ClinicService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 
 import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @RequestScoped
@@ -38,13 +42,21 @@ public class VetResource implements VetService {
     @Context
     UriInfo uriInfo;
 
+    @Context
+    HttpHeaders headers;
+
     private final ClinicService clinicService;
     private final VetMapper vetMapper;
+    private final ReferencePayloads referencePayloads;
+    private final VetDirectory vetDirectory;
 
     @Inject
-    public VetResource(ClinicService clinicService, VetMapper vetMapper) {
+    public VetResource(ClinicService clinicService, VetMapper vetMapper, ReferencePayloads referencePayloads,
+                       VetDirectory vetDirectory) {
         this.clinicService = clinicService;
         this.vetMapper = vetMapper;
+        this.referencePayloads = referencePayloads;
+        this.vetDirectory = vetDirectory;
     }
 
     @Override
@@ -71,34 +83,112 @@ public class VetResource implements VetService {
     }
 
     @Override
-    public Response getVet(Integer vetId) {
-        var vet = clinicService.findVetById(vetId).orElseThrow(NotFoundException::new);
+    public Response getVet(Integer vetId, String fields, String expand) {
+        var selectedFields = SparseFieldset.VET.parse(fields);
+        var directory = vetDirectory.current();
+        if (directory != null) {
+            var expansions = Expand.withFields(Expand.parse(expand, Expand.VET), selectedFields, Expand.VET);
+            var vet = directory.vet(vetId, expansions);
+            if (vet == null) {
+                throw new NotFoundException();
+            }
+            return Response.ok(selectedFields == null ? vet : SparseFieldset.VET.select(vet, selectedFields)).build();
+        }
+        if (selectedFields != null && SparseFieldset.VET.columnsOnly(selectedFields)) {
+            var rows = clinicService.findVetFields(vetId, selectedFields);
+            if (rows.isEmpty()) {
+                throw new NotFoundException();
+            }
+            return Response.ok(rows.get(0)).build();
+        }
+        var expansions = Expand.withFields(Expand.parse(expand, Expand.VET), selectedFields, Expand.VET);
+        var vet = clinicService.findVetById(vetId, expansions).orElseThrow(NotFoundException::new);
+        if (selectedFields != null) {
+            return Response.ok(SparseFieldset.VET.select(vetMapper.toVetDto(vet), selectedFields)).build();
+        }
         return Response.ok(vetMapper.toVetDto(vet)).build();
     }
 
     @Override
-    public Response listVets() {
-        var vets = vetMapper.toVetDtos(clinicService.findAllVets());
-        if (vets.isEmpty()) {
+    public Response listVets(String ids, List<String> specialty, String match, String fields, String expand) {
+        var selectedFields = SparseFieldset.VET.parse(fields);
+        var requestedIds = BatchIds.parse(ids);
+        if (requestedIds != null) {
+            if (specialty != null && !specialty.isEmpty()) {
+                throw new BadRequestException("ids cannot be combined with specialty");
+            }
+            var expansions = Expand.withFields(Expand.parse(expand, Expand.VET), selectedFields, Expand.VET);
+            var directory = vetDirectory.current();
+            var vets = directory != null
+                    ? directory.vets(requestedIds, expansions)
+                    : vetMapper.toVetDtos(clinicService.findVetsByIdIn(requestedIds, expansions));
+            if (selectedFields != null) {
+                return Response.ok(SparseFieldset.VET.select(vets, selectedFields)).build();
+            }
+            return Response.ok(vets).build();
+        }
+        if (specialty != null && !specialty.isEmpty()) {
+            if (!"all".equals(match) && !"any".equals(match)) {
+                throw new BadRequestException("Invalid match " + match + ", expected all or any");
+            }
+            var specialtyNames = new HashSet<>(specialty);
+            var directory = vetDirectory.current();
+            var vets = directory != null
+                    ? directory.vetsBySpecialties(specialtyNames, "all".equals(match))
+                    : vetMapper.toVetDtos(clinicService.findVetsBySpecialties(specialtyNames, "all".equals(match)));
+            if (selectedFields != null) {
+                return Response.ok(SparseFieldset.VET.select(vets, selectedFields)).build();
+            }
+            return Response.ok(vets).build();
+        }
+        var expansions = Expand.withFields(Expand.parse(expand, Expand.VET), selectedFields, Expand.VET);
+        if (selectedFields == null) {
+            return referencePayloads.ok(headers, "vets?expand=" + String.join(",", new TreeSet<>(expansions)), () -> {
+                var directory = vetDirectory.current();
+                var vets = directory != null
+                        ? directory.vets(expansions)
+                        : clinicService.streamAllVets(expansions).map(vetMapper::toVetDto).toList();
+                return vets.isEmpty() ? null : vets;
+            });
+        }
+        var directory = vetDirectory.current();
+        if (directory != null) {
+            var vets = directory.vets(expansions);
+            if (vets.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            return Response.ok(SparseFieldset.VET.select(vets, selectedFields)).build();
+        }
+        if (SparseFieldset.VET.columnsOnly(selectedFields)) {
+            var rows = clinicService.findVetFields(null, selectedFields);
+            if (rows.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            return Response.ok(rows).build();
+        }
+        var vets = clinicService.streamAllVets(expansions).iterator();
+        if (!vets.hasNext()) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok(vets).build();
+        return Response.ok(JsonArrayStream.of(vets,
+                vet -> SparseFieldset.VET.select(vetMapper.toVetDto(vet), selectedFields))).build();
     }
 
     @Override
+    @Transactional
     public Response updateVet(Integer vetId, VetDto vetDto) {
-        var vet = clinicService.findVetById(vetId).orElseThrow();
+        var vet = clinicService.findVetById(vetId, Expand.VET).orElseThrow();
         vet.setFirstName(vetDto.getFirstName());
         vet.setLastName(vetDto.getLastName());
         vet.clearSpecialties();
 
-        Set<Integer> specialtyIds = new HashSet<>();
+        var specialtyIds = new IntHashSet();
         for (var specDto : vetDto.getSpecialties()) {
             specialtyIds.add(specDto.getId());
         }
 
         if (!specialtyIds.isEmpty()) {
-            var vetSpecialities = clinicService.findSpecialtiesByIdIn(specialtyIds);
+            var vetSpecialities = clinicService.findSpecialtiesByIdIn(specialtyIds.toList());
             vet.setSpecialties(vetSpecialities);
         }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +22,15 @@ import io.helidon.samples.petclinic.service.ClinicService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 
+import java.time.LocalDate;
+
 @RequestScoped
 public class VisitResource implements VisitService {
     @Context
@@ -46,7 +49,8 @@ public class VisitResource implements VisitService {
     public Response addVisit(VisitDto visitDto) {
         var pet = clinicService.findPetById(visitDto.getPetId()).orElseThrow();
         var visit = visitMapper.toVisit(visitDto);
-        pet.addVisit(visit);
+        // the pet is detached and its visits are not fetched, saveVisit adds the visit to the pet
+        visit.setPet(pet);
         clinicService.saveVisit(visit);
 
         var location = UriBuilder.fromUri(uriInfo.getBaseUri()).path("api/visits/{id}").build(visit.getId());
@@ -68,12 +72,23 @@ public class VisitResource implements VisitService {
     }
 
     @Override
-    public Response listVisits() {
-        var visits = visitMapper.toVisitDtos(clinicService.findAllVisits());
-        if (visits.isEmpty()) {
+    public Response listVisits(String ids, LocalDate from, LocalDate to, Integer petTypeId, Integer page, Integer size) {
+        var requestedIds = BatchIds.parse(ids);
+        if (requestedIds != null) {
+            if (from != null || to != null || petTypeId != null) {
+                throw new BadRequestException("ids cannot be combined with from, to or petTypeId");
+            }
+            return Response.ok(visitMapper.toVisitDtosFromSummaries(clinicService.findVisitsByIdIn(requestedIds))).build();
+        }
+        if (from != null || to != null || petTypeId != null) {
+            var visits = clinicService.findVisits(from, to, petTypeId, Paging.firstResult(page, size), size);
+            return Response.ok(visitMapper.toVisitDtosFromSummaries(visits)).build();
+        }
+        var visits = clinicService.streamAllVisits().iterator();
+        if (!visits.hasNext()) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok(visits).build();
+        return Response.ok(JsonArrayStream.of(visits, visitMapper::toVisitDto)).build();
     }
 
     @Override
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.cache.OffHeapCache;
+import io.helidon.samples.petclinic.collection.IntArrayList;
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.PetType;
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.json.DtoCborProvider;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+import io.helidon.samples.petclinic.service.CacheTags;
+import io.helidon.samples.petclinic.service.DataChanged;
+import io.helidon.samples.petclinic.service.LastKnownValues;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * JSON of owners with their pets and visits, as returned by {@code GET /owners/{ownerId}?expand=pets.visits}, held
+ * outside the heap in an {@link OffHeapCache} of at most {@code app.owner-cache.max-bytes} bytes, {@code 0} to
+ * disable it.
+ * <p>
+ * An owner is removed once a {@link DataChanged} event tagging it is committed, which includes the changes of its
+ * pets and visits. A pet type change removes all owners, as pet type names are part of their pets. An owner loaded
+ * while such a change commits, or served from the {@link LastKnownValues}, is not stored.
+ */
+@ApplicationScoped
+public class OwnerAggregateCache {
+    private static final int SLAB_SIZE = 4 * 1024 * 1024;
+
+    private final OffHeapCache payloads;
+    private final LastKnownValues lastKnown;
+    private final AtomicLong generation = new AtomicLong();
+    // orders the stores after the generation checks before the removals of a change
+    private final Lock lock = new ReentrantLock();
+
+    @Inject
+    public OwnerAggregateCache(@ConfigProperty(name = "app.owner-cache.max-bytes", defaultValue = "268435456")
+                               long maxBytes, Caches caches, LastKnownValues lastKnown) {
+        this.lastKnown = lastKnown;
+        this.payloads = maxBytes > 0
+                ? caches.createOffHeap("owners", maxBytes, (int) Math.min(SLAB_SIZE, maxBytes))
+                : null;
+    }
+
+    /**
+     * Whether a request can be answered from the cache, which holds JSON only.
+     *
+     * @param headers request headers
+     * @return {@code true} if the cache is enabled and the response is JSON
+     */
+    public boolean accepts(HttpHeaders headers) {
+        return payloads != null && DtoCborProvider.responseMediaType(headers.getAcceptableMediaTypes())
+                .equals(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    /**
+     * JSON of an owner with its pets and visits.
+     *
+     * @param ownerId owner id
+     * @param loader  loads the owner with its pets and visits if it is not cached
+     * @return JSON bytes
+     */
+    public byte[] json(int ownerId, Supplier<OwnerDto> loader) {
+        var json = payloads.getIfPresent(ownerId);
+        if (json == null) {
+            var current = generation.get();
+            json = serialize(loader.get());
+            if (!lastKnown.servedStale()) {
+                put(ownerId, json, current);
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Number of changes observed that removed owners, to validate a cache snapshot against.
+     *
+     * @return generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Write the cached owners to a cache snapshot, from the oldest cached to the newest.
+     *
+     * @param output section of the snapshot
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream output) throws IOException {
+        if (payloads == null) {
+            return;
+        }
+        try {
+            payloads.forEach((ownerId, json) -> {
+                try {
+                    output.writeInt(ownerId);
+                    output.writeInt(json.length);
+                    output.write(json);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Restore the owners of a cache snapshot, as long as no owner was removed since the snapshot was validated.
+     *
+     * @param section   section written by {@link #write(DataOutputStream)}
+     * @param validated {@link #generation()} read before validating the snapshot
+     */
+    public void read(ByteBuffer section, long validated) {
+        if (payloads == null) {
+            return;
+        }
+        while (section.hasRemaining()) {
+            var ownerId = section.getInt();
+            var json = new byte[section.getInt()];
+            section.get(json);
+            if (!put(ownerId, json, validated)) {
+                return;
+            }
+        }
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        if (payloads == null) {
+            return;
+        }
+        var petTypeChanged = event.tags().contains(CacheTags.of(PetType.class));
+        var ownerIds = new IntArrayList();
+        for (var tag : event.tags()) {
+            var ownerId = CacheTags.idOf(Owner.class, tag);
+            if (ownerId != null) {
+                ownerIds.add(ownerId);
+            }
+        }
+        if (!petTypeChanged && ownerIds.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            // a load that started before is not stored, one stored before is removed below
+            generation.incrementAndGet();
+            if (petTypeChanged) {
+                payloads.invalidateAll();
+            } else {
+                ownerIds.forEach(payloads::invalidate);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Store the JSON of an owner unless a change removed owners since the generation was read.
+     */
+    private boolean put(int ownerId, byte[] json, long generation) {
+        lock.lock();
+        try {
+            if (this.generation.get() != generation) {
+                return false;
+            }
+            payloads.put(ownerId, json);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static byte[] serialize(OwnerDto owner) {
+        var output = new ByteArrayOutputStream();
+        try (var generator = JsonCodecs.generator(output)) {
+            JsonCodecs.writeValue(generator, owner);
+        }
+        return output.toByteArray();
+    }
+}
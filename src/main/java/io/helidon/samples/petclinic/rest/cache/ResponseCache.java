@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.cache.TaggedCache;
+import io.helidon.samples.petclinic.cache.Weigher;
+import io.helidon.samples.petclinic.service.DataChanged;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Response entities of {@code GET} requests by request path and query, with the dependency tags of each entity.
+ * <p>
+ * Holds at most {@code app.response-cache.max-entries} entries in a {@link TaggedCache}, evicted by the
+ * {@code app.cache.policy}. An entry is removed as soon as a {@link DataChanged} event with one of its tags is
+ * committed. An entity loaded while such a change commits is not stored, so a stale entity never outlives the change
+ * it missed.
+ * <p>
+ * Publishes the {@code response.cache.hits} and {@code response.cache.misses} counters and the
+ * {@code response.cache.hit.ratio} gauge per endpoint, and the {@code response.cache.size} gauge.
+ */
+@ApplicationScoped
+public class ResponseCache {
+    private final MetricRegistry metrics;
+    private final TaggedCache<String, Object> entries;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    @Inject
+    public ResponseCache(@ConfigProperty(name = "app.response-cache.max-entries", defaultValue = "1000") int maxEntries,
+                         Caches caches, MetricRegistry metrics) {
+        this.metrics = metrics;
+        this.entries = caches.createTagged("responses", maxEntries, Weigher.singleton());
+        metrics.gauge("response.cache.size", this, ResponseCache::size);
+    }
+
+    /**
+     * Generation of the cache, changed by every invalidation. Read before loading an entity to {@link #put}.
+     *
+     * @return generation
+     */
+    public long generation() {
+        return entries.generation();
+    }
+
+    /**
+     * Get a cached entity and count a hit or a miss for its endpoint. A miss is counted even if the response is never
+     * {@link #put}, as for a 404 or an entity without tags.
+     *
+     * @param key      request path and query
+     * @param endpoint endpoint of the request
+     * @return cached entity, {@code null} if there is none
+     */
+    public Object get(String key, String endpoint) {
+        var entity = entries.get(key);
+        if (entity == null) {
+            stats(endpoint).misses.inc();
+            return null;
+        }
+        stats(endpoint).hits.inc();
+        return entity;
+    }
+
+    /**
+     * Cache an entity that was not found by {@link #get}.
+     *
+     * @param key        request path and query
+     * @param endpoint   endpoint of the request
+     * @param entity     entity
+     * @param tags       dependency tags of the entity
+     * @param generation {@link #generation()} before the entity was loaded
+     */
+    public void put(String key, String endpoint, Object entity, Set<String> tags, long generation) {
+        entries.put(key, entity, tags, generation);
+    }
+
+    /**
+     * Remove the entries with any of the tags.
+     *
+     * @param tags dependency tags
+     */
+    public void invalidate(Set<String> tags) {
+        entries.invalidate(tags);
+    }
+
+    /**
+     * Number of cached entities.
+     *
+     * @return size
+     */
+    public int size() {
+        return (int) entries.size();
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        invalidate(event.tags());
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, e -> {
+            var tag = new Tag("endpoint", e);
+            var stats = new EndpointStats(metrics.counter("response.cache.hits", tag),
+                    metrics.counter("response.cache.misses", tag));
+            metrics.gauge("response.cache.hit.ratio", stats, EndpointStats::hitRatio, tag);
+            return stats;
+        });
+    }
+
+    private record EndpointStats(Counter hits, Counter misses) {
+        double hitRatio() {
+            long hitCount = hits.getCount();
+            long total = hitCount + misses.getCount();
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.rest.json.DtoCborProvider;
+import io.helidon.samples.petclinic.service.LastKnownValues;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Answers {@code GET} requests from the {@link ResponseCache} and caches the DTOs of successful responses.
+ * <p>
+ * Only DTOs and lists of DTOs are cached, they are written again for every hit in the media type it accepts, with
+ * the {@code Link} headers of the response, such as the next page of the visits of a pet. Streamed lists, sparse
+ * fieldsets and the already serialized reference payloads are not cached.
+ * <p>
+ * Responses built from {@link LastKnownValues} served while the database was slow or failing are not cached either,
+ * they carry the {@code Age} of their oldest value and a {@code Warning} instead.
+ */
+@Provider
+@ApplicationScoped
+@Priority(Priorities.USER)
+public class ResponseCacheFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String KEY = ResponseCacheFilter.class.getName() + ".key";
+    private static final String GENERATION = ResponseCacheFilter.class.getName() + ".generation";
+    private static final String AGE = "Age";
+    private static final String WARNING = "Warning";
+    private static final String STALE = "110 - \"Response is Stale\"";
+    private static final String REVALIDATION_FAILED = "111 - \"Revalidation Failed\"";
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    private final ResponseCache cache;
+    private final LastKnownValues lastKnown;
+
+    @Inject
+    public ResponseCacheFilter(ResponseCache cache, LastKnownValues lastKnown) {
+        this.cache = cache;
+        this.lastKnown = lastKnown;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        // the thread may have served another request before
+        lastKnown.takeStaleRead();
+        if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        var uri = requestContext.getUriInfo().getRequestUri();
+        var key = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + '?' + uri.getRawQuery();
+        var cached = (CachedResponse) cache.get(key, endpoint());
+        if (cached != null) {
+            var mediaType = DtoCborProvider.responseMediaType(requestContext.getAcceptableMediaTypes());
+            var response = Response.ok(cached.entity(), mediaType);
+            for (var link : cached.links()) {
+                response.header(HttpHeaders.LINK, link);
+            }
+            requestContext.abortWith(response.build());
+            return;
+        }
+        requestContext.setProperty(KEY, key);
+        requestContext.setProperty(GENERATION, cache.generation());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        var staleRead = lastKnown.takeStaleRead();
+        if (staleRead != null) {
+            var age = Duration.between(staleRead.loadedAt(), Instant.now()).toSeconds();
+            responseContext.getHeaders().putSingle(AGE, Math.max(age, 0));
+            responseContext.getHeaders().putSingle(WARNING, staleRead.failed() ? REVALIDATION_FAILED : STALE);
+            return;
+        }
+        var key = (String) requestContext.getProperty(KEY);
+        if (key == null || responseContext.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+        var entity = responseContext.getEntity();
+        var tags = ResponseTags.of(entity);
+        if (tags != null) {
+            var links = responseContext.getHeaders().get(HttpHeaders.LINK);
+            cache.put(key, endpoint(), new CachedResponse(entity, links == null ? List.of() : List.copyOf(links)),
+                    tags, (Long) requestContext.getProperty(GENERATION));
+        }
+    }
+
+    private String endpoint() {
+        return resourceInfo.getResourceClass().getSimpleName() + '.' + resourceInfo.getResourceMethod().getName();
+    }
+
+    /**
+     * Cached DTO with the {@code Link} header values of its response.
+     */
+    private record CachedResponse(Object entity, List<Object> links) {
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.PetType;
+import io.helidon.samples.petclinic.model.Specialty;
+import io.helidon.samples.petclinic.model.Vet;
+import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetSummaryDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
+import io.helidon.samples.petclinic.rest.dto.VetDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import io.helidon.samples.petclinic.service.CacheTags;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dependency tags of a response entity: the entity tag of every DTO it contains, and for a list also the type tag
+ * of its elements, as entities of the type may be added to or removed from it.
+ */
+final class ResponseTags {
+    private ResponseTags() {
+    }
+
+    /**
+     * Tags of a response entity.
+     *
+     * @param entity response entity
+     * @return tags, {@code null} if the entity is not a DTO or a list of DTOs and cannot be cached
+     */
+    static Set<String> of(Object entity) {
+        var tags = new HashSet<String>();
+        if (entity instanceof Collection<?> elements) {
+            if (elements.isEmpty()) {
+                return null;
+            }
+            for (var element : elements) {
+                var type = type(element);
+                if (type == null) {
+                    return null;
+                }
+                tags.add(CacheTags.of(type));
+                add(tags, element);
+            }
+            return tags;
+        }
+        if (type(entity) == null) {
+            return null;
+        }
+        add(tags, entity);
+        return tags;
+    }
+
+    private static Class<?> type(Object dto) {
+        if (dto instanceof OwnerDto) {
+            return Owner.class;
+        } else if (dto instanceof PetDto || dto instanceof PetSummaryDto) {
+            return Pet.class;
+        } else if (dto instanceof VisitDto) {
+            return Visit.class;
+        } else if (dto instanceof VetDto) {
+            return Vet.class;
+        } else if (dto instanceof SpecialtyDto) {
+            return Specialty.class;
+        } else if (dto instanceof PetTypeDto) {
+            return PetType.class;
+        }
+        return null;
+    }
+
+    private static void add(Set<String> tags, Object dto) {
+        if (dto instanceof OwnerDto owner) {
+            tags.add(CacheTags.of(Owner.class, owner.getId()));
+            addAll(tags, owner.getPets());
+        } else if (dto instanceof PetDto pet) {
+            tags.add(CacheTags.of(Pet.class, pet.getId()));
+            addAll(tags, pet.getVisits());
+            add(tags, pet.getType());
+        } else if (dto instanceof PetSummaryDto pet) {
+            tags.add(CacheTags.of(Pet.class, pet.getId()));
+            add(tags, pet.getType());
+        } else if (dto instanceof VisitDto visit) {
+            tags.add(CacheTags.of(Visit.class, visit.getId()));
+        } else if (dto instanceof VetDto vet) {
+            tags.add(CacheTags.of(Vet.class, vet.getId()));
+            addAll(tags, vet.getSpecialties());
+        } else if (dto instanceof SpecialtyDto specialty) {
+            tags.add(CacheTags.of(Specialty.class, specialty.getId()));
+        } else if (dto instanceof PetTypeDto petType) {
+            tags.add(CacheTags.of(PetType.class, petType.getId()));
+        }
+    }
+
+    private static void addAll(Set<String> tags, List<?> dtos) {
+        if (dtos != null) {
+            dtos.forEach(dto -> add(tags, dto));
+        }
+    }
+}
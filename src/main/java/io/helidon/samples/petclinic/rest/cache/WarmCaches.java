@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.cache.SnapshotFile;
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.PetType;
+import io.helidon.samples.petclinic.model.Specialty;
+import io.helidon.samples.petclinic.model.Vet;
+import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.rest.ReferencePayloads;
+import io.helidon.samples.petclinic.service.CacheTags;
+import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Saves the reference payloads and the owner aggregates to a {@link SnapshotFile} on shutdown and restores them on
+ * startup, so the first requests after a restart are answered from warm caches.
+ * <p>
+ * A section is restored only if the change counters of the entities it is built from are the same as when it was
+ * saved. The counters are read before the caches are saved, so a change committed while saving makes the snapshot
+ * older than the counters. Restored entries are removed and reloaded on the next change like loaded ones. The
+ * snapshot is deleted once read, so a run that stops without saving one never leaves an older one behind.
+ * <p>
+ * Configured with {@code app.warm-caches.enabled} and {@code app.warm-caches.file}, the path of the snapshot,
+ * {@value #DEFAULT_FILE} in the temporary directory by default.
+ */
+@ApplicationScoped
+public class WarmCaches {
+    private static final System.Logger LOGGER = System.getLogger(WarmCaches.class.getName());
+    private static final String DEFAULT_FILE = "petclinic-caches.bin";
+    private static final String REFERENCE_PAYLOADS = "reference-payloads";
+    private static final String OWNER_AGGREGATES = "owner-aggregates";
+    private static final List<String> REFERENCE_COUNTERS = List.of(CacheTags.of(PetType.class),
+            CacheTags.of(Specialty.class), CacheTags.of(Vet.class));
+    private static final List<String> OWNER_COUNTERS = List.of(CacheTags.of(Owner.class), CacheTags.of(Pet.class),
+            CacheTags.of(Visit.class), CacheTags.of(PetType.class));
+
+    private final boolean enabled;
+    private final Path file;
+    private final ClinicService clinicService;
+    private final ReferencePayloads referencePayloads;
+    private final ReferenceDataVersion referenceVersion;
+    private final OwnerAggregateCache ownerAggregates;
+
+    /**
+     * Create the warm caches.
+     *
+     * @param enabled           whether the caches are saved and restored
+     * @param file              path of the snapshot, the default file in the temporary directory if not configured
+     * @param clinicService     reads the change counters
+     * @param referencePayloads reference payloads to save and restore
+     * @param referenceVersion  version of the reference data
+     * @param ownerAggregates   owner aggregates to save and restore
+     */
+    @Inject
+    public WarmCaches(@ConfigProperty(name = "app.warm-caches.enabled", defaultValue = "true") boolean enabled,
+                      @ConfigProperty(name = "app.warm-caches.file") Optional<String> file,
+                      ClinicService clinicService, ReferencePayloads referencePayloads,
+                      ReferenceDataVersion referenceVersion, OwnerAggregateCache ownerAggregates) {
+        this.enabled = enabled;
+        this.file = file.map(Path::of).orElseGet(() -> Path.of(System.getProperty("java.io.tmpdir"), DEFAULT_FILE));
+        this.clinicService = clinicService;
+        this.referencePayloads = referencePayloads;
+        this.referenceVersion = referenceVersion;
+        this.ownerAggregates = ownerAggregates;
+    }
+
+    void restore(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            restore();
+        } catch (NoSuchFileException e) {
+            // first start
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Cache snapshot " + file + " not restored", e);
+        }
+        try {
+            // the changes counted after it would be lost if this run stopped without saving its own
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Cache snapshot " + file + " not deleted", e);
+        }
+    }
+
+    void save(@Observes @BeforeDestroyed(ApplicationScoped.class) Object event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            save();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Cache snapshot " + file + " not saved", e);
+        }
+    }
+
+    /**
+     * Restore the sections of the snapshot that are still current.
+     *
+     * @throws IOException if the snapshot cannot be read or is not valid
+     */
+    void restore() throws IOException {
+        var snapshot = SnapshotFile.read(file);
+        // read before the counters, a change committed after them stops the restore
+        var referenceVersion = this.referenceVersion.current();
+        var ownerGeneration = ownerAggregates.generation();
+        var counters = clinicService.findChangeCounters();
+        if (current(snapshot, counters, REFERENCE_COUNTERS)) {
+            var section = snapshot.section(REFERENCE_PAYLOADS);
+            if (section != null) {
+                referencePayloads.read(section, referenceVersion);
+            }
+        }
+        if (current(snapshot, counters, OWNER_COUNTERS)) {
+            var section = snapshot.section(OWNER_AGGREGATES);
+            if (section != null) {
+                ownerAggregates.read(section, ownerGeneration);
+            }
+        }
+    }
+
+    /**
+     * Save the caches to the snapshot.
+     *
+     * @throws IOException if writing the snapshot fails
+     */
+    void save() throws IOException {
+        var counters = clinicService.findChangeCounters();
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        SnapshotFile.write(file, counters, List.of(
+                new SnapshotFile.Section(REFERENCE_PAYLOADS, referencePayloads::write),
+                new SnapshotFile.Section(OWNER_AGGREGATES, ownerAggregates::write)));
+    }
+
+    private static boolean current(SnapshotFile snapshot, Map<String, Long> counters, List<String> names) {
+        for (var name : names) {
+            var saved = snapshot.counters().get(name);
+            if (saved == null || !Objects.equals(saved, counters.get(name))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
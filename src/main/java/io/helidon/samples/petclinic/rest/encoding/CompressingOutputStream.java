@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Response body stream that holds back the first bytes of a response until it reaches the minimum size to
+ * compress. A response that ends before is written as it is, a larger one is compressed from its first byte.
+ */
+final class CompressingOutputStream extends OutputStream {
+    private final OutputStream output;
+    private final ContentEncodings encodings;
+    private final String encoding;
+    private final Runnable beforeCompressing;
+    private final byte[] pending;
+    private int count;
+    private OutputStream compressed;
+    private boolean closed;
+
+    /**
+     * Create a stream.
+     *
+     * @param output            response body stream
+     * @param encodings         content encodings
+     * @param encoding          encoding to compress with
+     * @param beforeCompressing updates the response headers once the response is known to be compressed
+     */
+    CompressingOutputStream(OutputStream output, ContentEncodings encodings, String encoding,
+                            Runnable beforeCompressing) {
+        this.output = output;
+        this.encodings = encodings;
+        this.encoding = encoding;
+        this.beforeCompressing = beforeCompressing;
+        this.pending = new byte[encodings.minSize()];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (compressed == null) {
+            if (count + len < pending.length) {
+                System.arraycopy(b, off, pending, count, len);
+                count += len;
+                return;
+            }
+            beforeCompressing.run();
+            compressed = encodings.encode(encoding, output);
+            compressed.write(pending, 0, count);
+        }
+        compressed.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (compressed != null) {
+            compressed.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (compressed != null) {
+            compressed.close();
+            return;
+        }
+        try (output) {
+            output.write(pending, 0, count);
+        }
+    }
+}
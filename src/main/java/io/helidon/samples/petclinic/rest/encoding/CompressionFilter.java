@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.encoding;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Compresses response bodies with the encoding the client accepts, once they reach the minimum size of
+ * {@link ContentEncodings}. Responses that are already encoded, such as the precompressed reference payloads,
+ * are left as they are.
+ */
+@Provider
+@ApplicationScoped
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionFilter implements ContainerResponseFilter {
+    private final ContentEncodings encodings;
+
+    @Inject
+    public CompressionFilter(ContentEncodings encodings) {
+        this.encodings = encodings;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!responseContext.hasEntity()) {
+            return;
+        }
+        var headers = responseContext.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        var encoding = encodings.negotiate(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null) {
+            return;
+        }
+        responseContext.setEntityStream(new CompressingOutputStream(responseContext.getEntityStream(), encodings,
+                encoding, () -> {
+                    headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                }));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.encoding;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Negotiates and applies the {@code gzip} and {@code deflate} content encodings of responses.
+ * <p>
+ * Configured with {@code app.compression.enabled}, {@code app.compression.min-size}, the size in bytes below
+ * which responses are sent as they are, and {@code app.compression.level}, the deflate level from 1 to 9.
+ */
+@ApplicationScoped
+public class ContentEncodings {
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int level;
+
+    /**
+     * Create the content encodings.
+     *
+     * @param enabled whether responses are compressed at all
+     * @param minSize smallest response in bytes that is compressed
+     * @param level   deflate level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+     */
+    @Inject
+    public ContentEncodings(@ConfigProperty(name = "app.compression.enabled", defaultValue = "true") boolean enabled,
+                            @ConfigProperty(name = "app.compression.min-size", defaultValue = "1024") int minSize,
+                            @ConfigProperty(name = "app.compression.level", defaultValue = "6") int level) {
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level " + level + ", expected 1 to 9");
+        }
+        this.enabled = enabled;
+        this.minSize = Math.max(minSize, 0);
+        this.level = level;
+    }
+
+    /**
+     * Whether responses are compressed at all.
+     *
+     * @return {@code true} if compression is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Smallest response in bytes that is compressed.
+     *
+     * @return minimum size
+     */
+    public int minSize() {
+        return minSize;
+    }
+
+    /**
+     * Choose the encoding of a response from the {@code Accept-Encoding} header of its request.
+     *
+     * @param acceptEncoding header value, may be {@code null}
+     * @return {@link #GZIP} or {@link #DEFLATE} by preference of the client, {@code null} to not compress
+     */
+    public String negotiate(String acceptEncoding) {
+        if (!enabled || acceptEncoding == null) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        for (var element : acceptEncoding.split(",")) {
+            var parameters = element.split(";");
+            var quality = quality(parameters);
+            switch (parameters[0].trim().toLowerCase(Locale.ROOT)) {
+                case GZIP, "x-gzip" -> gzip = quality;
+                case DEFLATE -> deflate = quality;
+                case "*" -> any = quality;
+                default -> {
+                }
+            }
+        }
+        gzip = gzip < 0 ? any : gzip;
+        deflate = deflate < 0 ? any : deflate;
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? GZIP : DEFLATE;
+    }
+
+    /**
+     * Wrap a stream to encode what is written to it. Closing the returned stream finishes the encoding and
+     * closes the wrapped stream.
+     *
+     * @param encoding {@link #GZIP} or {@link #DEFLATE}
+     * @param output   stream to write the encoded bytes to
+     * @return encoding stream
+     * @throws IOException if writing the gzip header fails
+     */
+    public OutputStream encode(String encoding, OutputStream output) throws IOException {
+        return switch (encoding) {
+            case GZIP -> new GZIPOutputStream(output, BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            case DEFLATE -> {
+                var deflater = new Deflater(level);
+                yield new DeflaterOutputStream(output, deflater, BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            deflater.end();
+                        }
+                    }
+                };
+            }
+            default -> throw new IllegalArgumentException("Unsupported content encoding " + encoding);
+        };
+    }
+
+    /**
+     * Encode a whole payload.
+     *
+     * @param encoding {@link #GZIP} or {@link #DEFLATE}
+     * @param payload  bytes to encode
+     * @return encoded bytes
+     */
+    public byte[] encode(String encoding, byte[] payload) {
+        var output = new ByteArrayOutputStream(payload.length / 4 + 64);
+        try (var encoded = encode(encoding, output)) {
+            encoded.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            var parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Writes the JSON data model as CBOR (RFC 8949) through the JSON-P generator API, so the generated
+ * {@link JsonCodec}s write CBOR unchanged.
+ * <p>
+ * Objects and arrays are written with indefinite lengths, so nothing has to be buffered to count them.
+ * Dates written with {@link #write(LocalDate)} are days since the epoch (tag 100 of RFC 8943) instead of
+ * strings. Closing the generator flushes it, but leaves the stream open, so it can write part of a response.
+ */
+public final class CborGenerator implements JsonGenerator {
+    static final int UNSIGNED = 0;
+    static final int NEGATIVE = 1;
+    static final int BYTES = 2;
+    static final int TEXT = 3;
+    static final int ARRAY = 4;
+    static final int MAP = 5;
+    static final int TAG = 6;
+    static final int SIMPLE = 7;
+
+    static final int FALSE = 0xf4;
+    static final int TRUE = 0xf5;
+    static final int NULL = 0xf6;
+    static final int FLOAT = 0xfa;
+    static final int DOUBLE = 0xfb;
+    static final int BREAK = 0xff;
+
+    static final int TAG_POSITIVE_BIGNUM = 2;
+    static final int TAG_NEGATIVE_BIGNUM = 3;
+    static final int TAG_DECIMAL_FRACTION = 4;
+    static final int TAG_EPOCH_DAYS = 100;
+
+    private static final int INDEFINITE = 31;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream output;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int depth;
+
+    /**
+     * Create a generator.
+     *
+     * @param output stream to write to
+     */
+    public CborGenerator(OutputStream output) {
+        this.output = output;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        writeByte(MAP << 5 | INDEFINITE);
+        depth++;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        return writeKey(name).writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        return write(name);
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        writeByte(ARRAY << 5 | INDEFINITE);
+        depth++;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        return writeKey(name).writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        return writeKey(name).write(value);
+    }
+
+    /**
+     * Write a date property as days since the epoch.
+     *
+     * @param name  property name
+     * @param value date to write
+     * @return this generator
+     */
+    public JsonGenerator write(String name, LocalDate value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        return writeKey(name).writeNull();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        if (depth == 0) {
+            throw new JsonGenerationException("writeEnd() outside of an object or array");
+        }
+        depth--;
+        writeByte(BREAK);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT -> {
+                writeStartObject();
+                for (var entry : ((JsonObject) value).entrySet()) {
+                    write(entry.getKey(), entry.getValue());
+                }
+                writeEnd();
+            }
+            case ARRAY -> {
+                writeStartArray();
+                for (var element : (JsonArray) value) {
+                    write(element);
+                }
+                writeEnd();
+            }
+            case STRING -> write(((JsonString) value).getString());
+            case NUMBER -> {
+                var number = (JsonNumber) value;
+                if (number.isIntegral()) {
+                    write(number.bigIntegerValue());
+                } else {
+                    write(number.bigDecimalValue());
+                }
+            }
+            case TRUE -> write(true);
+            case FALSE -> write(false);
+            case NULL -> writeNull();
+        }
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        var length = value.length();
+        if (length <= buffer.length - 9) {
+            ensure(9 + length);
+            var start = position;
+            writeHeader(TEXT, length);
+            if (writeAscii(value)) {
+                return this;
+            }
+            position = start;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeHeader(TEXT, bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        var unscaled = value.unscaledValue();
+        if (value.scale() == 0) {
+            return write(unscaled);
+        }
+        writeHeader(TAG, TAG_DECIMAL_FRACTION);
+        writeHeader(ARRAY, 2);
+        write(-(long) value.scale());
+        return write(unscaled);
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            return write(value.longValue());
+        }
+        if (value.signum() >= 0) {
+            writeHeader(TAG, TAG_POSITIVE_BIGNUM);
+        } else {
+            writeHeader(TAG, TAG_NEGATIVE_BIGNUM);
+            value = value.not();
+        }
+        var bytes = value.toByteArray();
+        var offset = bytes[0] == 0 ? 1 : 0;
+        writeHeader(BYTES, bytes.length - offset);
+        writeBytes(bytes, offset, bytes.length - offset);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        return write((long) value);
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        if (value >= 0) {
+            writeHeader(UNSIGNED, value);
+        } else {
+            writeHeader(NEGATIVE, -1 - value);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new NumberFormatException("JSON does not allow " + value);
+        }
+        ensure(9);
+        var single = (float) value;
+        if (single == value) {
+            buffer[position++] = (byte) FLOAT;
+            writeInt(Float.floatToIntBits(single));
+        } else {
+            buffer[position++] = (byte) DOUBLE;
+            writeLong(Double.doubleToLongBits(value));
+        }
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        writeByte(value ? TRUE : FALSE);
+        return this;
+    }
+
+    /**
+     * Write a date as days since the epoch.
+     *
+     * @param value date to write
+     * @return this generator
+     */
+    public JsonGenerator write(LocalDate value) {
+        writeHeader(TAG, TAG_EPOCH_DAYS);
+        return write(value.toEpochDay());
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        writeByte(NULL);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    @Override
+    public void flush() {
+        try {
+            output.write(buffer, 0, position);
+            position = 0;
+            output.flush();
+        } catch (IOException e) {
+            throw new JsonException("Failed to write CBOR", e);
+        }
+    }
+
+    private void writeHeader(int majorType, long length) {
+        ensure(9);
+        var type = majorType << 5;
+        if (length < 24) {
+            buffer[position++] = (byte) (type | length);
+        } else if (length < 0x100) {
+            buffer[position++] = (byte) (type | 24);
+            buffer[position++] = (byte) length;
+        } else if (length < 0x10000) {
+            buffer[position++] = (byte) (type | 25);
+            buffer[position++] = (byte) (length >> 8);
+            buffer[position++] = (byte) length;
+        } else if (length < 0x100000000L) {
+            buffer[position++] = (byte) (type | 26);
+            writeInt((int) length);
+        } else {
+            buffer[position++] = (byte) (type | 27);
+            writeLong(length);
+        }
+    }
+
+    private void writeInt(int value) {
+        buffer[position++] = (byte) (value >> 24);
+        buffer[position++] = (byte) (value >> 16);
+        buffer[position++] = (byte) (value >> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >> 32));
+        writeInt((int) value);
+    }
+
+    private void writeByte(int value) {
+        ensure(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) {
+        if (length > buffer.length - position) {
+            flushBuffer();
+            if (length > buffer.length) {
+                try {
+                    output.write(bytes, offset, length);
+                } catch (IOException e) {
+                    throw new JsonException("Failed to write CBOR", e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    private void ensure(int length) {
+        if (length > buffer.length - position) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() {
+        try {
+            output.write(buffer, 0, position);
+            position = 0;
+        } catch (IOException e) {
+            throw new JsonException("Failed to write CBOR", e);
+        }
+    }
+
+    private boolean writeAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c >= 0x80) {
+                return false;
+            }
+            buffer[position++] = (byte) c;
+        }
+        return true;
+    }
+}
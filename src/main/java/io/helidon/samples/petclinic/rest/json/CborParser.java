@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.ARRAY;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.BREAK;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.BYTES;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.DOUBLE;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.FALSE;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.FLOAT;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.MAP;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.NEGATIVE;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.NULL;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.SIMPLE;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.TAG;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.TAG_DECIMAL_FRACTION;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.TAG_EPOCH_DAYS;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.TAG_NEGATIVE_BIGNUM;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.TAG_POSITIVE_BIGNUM;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.TEXT;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.TRUE;
+import static io.helidon.samples.petclinic.rest.json.CborGenerator.UNSIGNED;
+
+/**
+ * Reads CBOR (RFC 8949) as the JSON data model through the JSON-P parser API, so the generated
+ * {@link JsonCodec}s read CBOR unchanged.
+ * <p>
+ * Maps must have text keys, byte strings are only read as big numbers, and tags other than big numbers,
+ * decimal fractions and days since the epoch are ignored. Days since the epoch are read as
+ * {@link Event#VALUE_STRING}s, {@link #getLocalDate()} returns them without formatting them.
+ * Closing the parser leaves the stream open.
+ * <p>
+ * Strings are read in chunks of the buffer, so their memory grows with the bytes received rather than with the
+ * length they declare, and arrays, maps and tags nest at most {@value #MAX_DEPTH} deep, as JSON does in Parsson.
+ */
+public final class CborParser implements JsonParser {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int INDEFINITE = 31;
+    private static final int MAX_DEPTH = 1000;
+    private static final int UNDEFINED = 0xf7;
+    private static final int HALF = 0xf9;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long offset;
+
+    private boolean[] maps = new boolean[16];
+    // whether the key of an entry was read and its value is next
+    private boolean[] keys = new boolean[16];
+    private long[] remaining = new long[16];
+    private int depth;
+    private int tagDepth;
+
+    private boolean started;
+    private Event event;
+    private String string;
+    private boolean date;
+    private long longValue;
+    private double doubleValue;
+    private BigDecimal decimal;
+    private NumberType numberType;
+
+    /**
+     * Create a parser.
+     *
+     * @param input stream to read from
+     */
+    public CborParser(InputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (started) {
+            return depth > 0;
+        }
+        return position < limit || fill(1, false);
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("End of CBOR");
+        }
+        started = true;
+        string = null;
+        date = false;
+        if (depth > 0) {
+            var d = depth - 1;
+            if (remaining[d] == 0 || remaining[d] < 0 && peek() == BREAK) {
+                if (remaining[d] < 0) {
+                    if (maps[d] && keys[d]) {
+                        throw error("Missing value of a map entry");
+                    }
+                    position++;
+                }
+                depth--;
+                return event = maps[d] ? Event.END_OBJECT : Event.END_ARRAY;
+            }
+            if (maps[d]) {
+                keys[d] = !keys[d];
+                if (keys[d]) {
+                    var initial = readByte();
+                    if (initial >>> 5 != TEXT) {
+                        throw error("Expected a text key");
+                    }
+                    string = readText(initial);
+                    return event = Event.KEY_NAME;
+                }
+            }
+            if (remaining[d] > 0) {
+                remaining[d]--;
+            }
+        }
+        return event = readValue(readByte());
+    }
+
+    @Override
+    public Event currentEvent() {
+        return event;
+    }
+
+    @Override
+    public String getString() {
+        if (event == Event.VALUE_STRING && date && string == null) {
+            string = LocalDate.ofEpochDay(longValue).toString();
+        }
+        return switch (event) {
+            case KEY_NAME, VALUE_STRING -> string;
+            case VALUE_NUMBER -> getBigDecimal().toString();
+            default -> throw new IllegalStateException("No string at " + event);
+        };
+    }
+
+    /**
+     * The current value if it is a date written as days since the epoch.
+     *
+     * @return the date, {@code null} if the current value is something else
+     */
+    public LocalDate getLocalDate() {
+        return event == Event.VALUE_STRING && date ? LocalDate.ofEpochDay(longValue) : null;
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        number();
+        if (numberType == NumberType.LONG) {
+            return true;
+        }
+        return numberType == NumberType.DECIMAL && decimal.scale() <= 0;
+    }
+
+    @Override
+    public int getInt() {
+        return (int) getLong();
+    }
+
+    @Override
+    public long getLong() {
+        number();
+        if (numberType == NumberType.LONG) {
+            return longValue;
+        }
+        return numberType == NumberType.DOUBLE ? (long) doubleValue : decimal.longValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        number();
+        return decimalValue();
+    }
+
+    private BigDecimal decimalValue() {
+        if (numberType == NumberType.LONG) {
+            return BigDecimal.valueOf(longValue);
+        }
+        return numberType == NumberType.DOUBLE ? BigDecimal.valueOf(doubleValue) : decimal;
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        var streamOffset = offset + position;
+        return new JsonLocation() {
+            @Override
+            public long getLineNumber() {
+                return -1;
+            }
+
+            @Override
+            public long getColumnNumber() {
+                return -1;
+            }
+
+            @Override
+            public long getStreamOffset() {
+                return streamOffset;
+            }
+        };
+    }
+
+    @Override
+    public void skipObject() {
+        skip(true);
+    }
+
+    @Override
+    public void skipArray() {
+        skip(false);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void skip(boolean map) {
+        if (depth == 0 || maps[depth - 1] != map) {
+            return;
+        }
+        var target = depth - 1;
+        while (depth > target) {
+            next();
+        }
+    }
+
+    private void number() {
+        if (event != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("No number at " + event);
+        }
+    }
+
+    private Event readValue(int initial) {
+        var info = initial & 0x1f;
+        switch (initial >>> 5) {
+            case UNSIGNED -> {
+                var value = readArgument(info);
+                return value >= 0 ? integer(value) : big(new BigInteger(Long.toUnsignedString(value)));
+            }
+            case NEGATIVE -> {
+                var value = readArgument(info);
+                return value >= 0 ? integer(-1 - value)
+                        : big(new BigInteger(Long.toUnsignedString(value)).not());
+            }
+            case BYTES -> throw error("Byte strings are not supported");
+            case TEXT -> {
+                string = readText(initial);
+                return Event.VALUE_STRING;
+            }
+            case ARRAY, MAP -> {
+                var map = initial >>> 5 == MAP;
+                push(map, info == INDEFINITE ? -1 : readArgument(info));
+                return map ? Event.START_OBJECT : Event.START_ARRAY;
+            }
+            case TAG -> {
+                return readTagged(readArgument(info));
+            }
+            case SIMPLE -> {
+                return switch (initial) {
+                    case FALSE -> Event.VALUE_FALSE;
+                    case TRUE -> Event.VALUE_TRUE;
+                    case NULL, UNDEFINED -> Event.VALUE_NULL;
+                    case HALF -> floating(half(readUnsigned(2)));
+                    case FLOAT -> floating(Float.intBitsToFloat((int) readUnsigned(4)));
+                    case DOUBLE -> floating(Double.longBitsToDouble(readUnsigned(8)));
+                    default -> throw error("Unexpected simple value " + initial);
+                };
+            }
+            default -> throw new IllegalStateException();
+        }
+    }
+
+    private Event readTagged(long tag) {
+        if (depth + tagDepth >= MAX_DEPTH) {
+            throw error("Nesting is deeper than " + MAX_DEPTH);
+        }
+        tagDepth++;
+        try {
+            return readTaggedValue(tag);
+        } finally {
+            tagDepth--;
+        }
+    }
+
+    private Event readTaggedValue(long tag) {
+        if (tag == TAG_EPOCH_DAYS) {
+            if (readValue(readByte()) != Event.VALUE_NUMBER || numberType != NumberType.LONG) {
+                throw error("Expected days since the epoch");
+            }
+            date = true;
+            return Event.VALUE_STRING;
+        }
+        if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+            var initial = readByte();
+            if (initial >>> 5 != BYTES || (initial & 0x1f) == INDEFINITE) {
+                throw error("Expected the bytes of a big number");
+            }
+            var value = new BigInteger(1, readBytes(length(readArgument(initial & 0x1f))));
+            return big(tag == TAG_POSITIVE_BIGNUM ? value : value.not());
+        }
+        if (tag == TAG_DECIMAL_FRACTION) {
+            if (readByte() != (ARRAY << 5 | 2)) {
+                throw error("Expected the exponent and mantissa of a decimal fraction");
+            }
+            if (readValue(readByte()) != Event.VALUE_NUMBER || numberType != NumberType.LONG) {
+                throw error("Expected the exponent of a decimal fraction");
+            }
+            var exponent = longValue;
+            if (exponent != (int) exponent) {
+                throw error("Exponent " + exponent + " is out of range");
+            }
+            if (readValue(readByte()) != Event.VALUE_NUMBER || numberType == NumberType.DOUBLE) {
+                throw error("Expected the mantissa of a decimal fraction");
+            }
+            decimal = decimalValue().scaleByPowerOfTen((int) exponent);
+            numberType = NumberType.DECIMAL;
+            return Event.VALUE_NUMBER;
+        }
+        return readValue(readByte());
+    }
+
+    private Event integer(long value) {
+        longValue = value;
+        numberType = NumberType.LONG;
+        return Event.VALUE_NUMBER;
+    }
+
+    private Event floating(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw error("JSON does not allow " + value);
+        }
+        doubleValue = value;
+        numberType = NumberType.DOUBLE;
+        return Event.VALUE_NUMBER;
+    }
+
+    private Event big(BigInteger value) {
+        decimal = new BigDecimal(value);
+        numberType = NumberType.DECIMAL;
+        return Event.VALUE_NUMBER;
+    }
+
+    private static double half(long bits) {
+        var exponent = (int) (bits >> 10) & 0x1f;
+        var mantissa = (int) bits & 0x3ff;
+        double value;
+        if (exponent == 0) {
+            value = Math.scalb((double) mantissa, -24);
+        } else if (exponent == 0x1f) {
+            value = mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+        } else {
+            value = Math.scalb((double) (mantissa + 0x400), exponent - 25);
+        }
+        return (bits & 0x8000) == 0 ? value : -value;
+    }
+
+    private String readText(int initial) {
+        var info = initial & 0x1f;
+        if (info != INDEFINITE) {
+            var length = length(readArgument(info));
+            if (length <= buffer.length) {
+                fill(length, true);
+                var text = new String(buffer, position, length, StandardCharsets.UTF_8);
+                position += length;
+                return text;
+            }
+            return new String(readBytes(length), StandardCharsets.UTF_8);
+        }
+        var text = new StringBuilder();
+        while (peek() != BREAK) {
+            var chunk = readByte();
+            if (chunk >>> 5 != TEXT || (chunk & 0x1f) == INDEFINITE) {
+                throw error("Expected a chunk of text");
+            }
+            text.append(readText(chunk));
+        }
+        position++;
+        return text.toString();
+    }
+
+    private long readArgument(int info) {
+        if (info < 24) {
+            return info;
+        }
+        return switch (info) {
+            case 24 -> readUnsigned(1);
+            case 25 -> readUnsigned(2);
+            case 26 -> readUnsigned(4);
+            case 27 -> readUnsigned(8);
+            default -> throw error("Unexpected additional information " + info);
+        };
+    }
+
+    private long readUnsigned(int bytes) {
+        fill(bytes, true);
+        long value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = value << 8 | buffer[position++] & 0xff;
+        }
+        return value;
+    }
+
+    private byte[] readBytes(int length) {
+        // the declared length comes from the request, allocate as the bytes arrive
+        var bytes = new ByteArrayOutputStream(Math.min(length, BUFFER_SIZE));
+        var remaining = length;
+        while (remaining > 0) {
+            fill(1, true);
+            var read = Math.min(remaining, limit - position);
+            bytes.write(buffer, position, read);
+            position += read;
+            remaining -= read;
+        }
+        return bytes.toByteArray();
+    }
+
+    private int readByte() {
+        fill(1, true);
+        return buffer[position++] & 0xff;
+    }
+
+    private int peek() {
+        fill(1, true);
+        return buffer[position] & 0xff;
+    }
+
+    private int length(long length) {
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw error("Length " + Long.toUnsignedString(length) + " is too large");
+        }
+        return (int) length;
+    }
+
+    private void push(boolean map, long length) {
+        if (depth + tagDepth >= MAX_DEPTH) {
+            throw error("Nesting is deeper than " + MAX_DEPTH);
+        }
+        if (depth == maps.length) {
+            maps = Arrays.copyOf(maps, depth * 2);
+            keys = Arrays.copyOf(keys, depth * 2);
+            remaining = Arrays.copyOf(remaining, depth * 2);
+        }
+        maps[depth] = map;
+        keys[depth] = false;
+        remaining[depth] = length;
+        depth++;
+    }
+
+    private boolean fill(int length, boolean required) {
+        if (limit - position >= length) {
+            return true;
+        }
+        System.arraycopy(buffer, position, buffer, 0, limit - position);
+        offset += position;
+        limit -= position;
+        position = 0;
+        try {
+            while (limit < length) {
+                var n = input.read(buffer, limit, buffer.length - limit);
+                if (n < 0) {
+                    if (required) {
+                        throw error("Unexpected end of CBOR");
+                    }
+                    return false;
+                }
+                limit += n;
+            }
+        } catch (IOException e) {
+            throw new JsonException("Failed to read CBOR", e);
+        }
+        return true;
+    }
+
+    private JsonParsingException error(String message) {
+        return new JsonParsingException(message, getLocation());
+    }
+
+    private enum NumberType {
+        LONG,
+        DOUBLE,
+        DECIMAL
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.JsonException;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads and writes the DTOs of the API as CBOR with their generated {@link JsonCodec}s, for clients that
+ * send {@code Accept: application/cbor}.
+ * <p>
+ * Iterables and maps are written too, as long as everything they contain can be, which includes the
+ * streamed lists and the sparse fieldsets. Unlike JSON there is no JSON-B fallback.
+ */
+@Provider
+@ApplicationScoped
+@Consumes(DtoCborProvider.APPLICATION_CBOR)
+@Produces(DtoCborProvider.APPLICATION_CBOR)
+@Priority(Priorities.ENTITY_CODER)
+public class DtoCborProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+    /**
+     * CBOR media type, RFC 8949.
+     */
+    public static final String APPLICATION_CBOR = "application/cbor";
+    /**
+     * CBOR media type, RFC 8949.
+     */
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+
+    /**
+     * Media type of a response written without a resource method, JSON or CBOR, whichever is accepted first.
+     *
+     * @param acceptable acceptable media types of the request, by preference
+     * @return JSON or CBOR media type, JSON if neither is accepted
+     */
+    public static MediaType responseMediaType(List<MediaType> acceptable) {
+        for (var accepted : acceptable) {
+            if (accepted.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+                return MediaType.APPLICATION_JSON_TYPE;
+            }
+            if (accepted.isCompatible(APPLICATION_CBOR_TYPE)) {
+                return APPLICATION_CBOR_TYPE;
+            }
+        }
+        return MediaType.APPLICATION_JSON_TYPE;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonCodecs.codec(type) != null;
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+        try (var parser = new CborParser(entityStream)) {
+            if (!parser.hasNext()) {
+                throw new BadRequestException("Missing body");
+            }
+            parser.next();
+            return JsonCodecs.codec(type).read(parser);
+        } catch (JsonException | IllegalStateException | IllegalArgumentException | DateTimeException
+                 | NoSuchElementException e) {
+            throw new BadRequestException("Invalid " + type.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonCodecs.codec(type) != null
+                || Iterable.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) {
+        try (var generator = new CborGenerator(entityStream)) {
+            JsonCodecs.writeValue(generator, value);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.JsonException;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads and writes the DTOs of the API with their generated {@link JsonCodec}s instead of JSON-B.
+ * <p>
+ * Lists and maps are written by the codecs too when everything they contain can be, as the sparse
+ * fieldsets are, and so are streamed iterables. Anything else is still written by JSON-B.
+ */
+@Provider
+@ApplicationScoped
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+@Priority(Priorities.ENTITY_CODER)
+public class DtoJsonProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonCodecs.codec(type) != null;
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+        try (var parser = JsonCodecs.parser(entityStream)) {
+            if (!parser.hasNext()) {
+                throw new BadRequestException("Missing body");
+            }
+            parser.next();
+            return JsonCodecs.codec(type).read(parser);
+        } catch (JsonException | IllegalStateException | IllegalArgumentException | DateTimeException
+                 | NoSuchElementException e) {
+            throw new BadRequestException("Invalid " + type.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonCodecs.codec(type) != null
+                || Iterable.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        if (!JsonCodecs.isWritable(value)) {
+            Fallback.JSONB.toJson(value, genericType, entityStream);
+            return;
+        }
+        try (var generator = JsonCodecs.generator(entityStream)) {
+            JsonCodecs.writeValue(generator, value);
+        }
+    }
+
+    /**
+     * JSON-B is only created when something cannot be written by the codecs.
+     */
+    private static final class Fallback {
+        private static final Jsonb JSONB = JsonbBuilder.create();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Reads and writes one type as a JSON object without reflection.
+ * <p>
+ * An implementation is generated for every DTO of the API from {@code src/main/openapi/templates}.
+ *
+ * @param <T> type read and written
+ */
+public interface JsonCodec<T> {
+    /**
+     * Write a value as a JSON object.
+     *
+     * @param generator generator to write to
+     * @param value     value to write, not {@code null}
+     */
+    void write(JsonGenerator generator, T value);
+
+    /**
+     * Read the next JSON value of a parser.
+     *
+     * @param parser parser before the value
+     * @return the value read, {@code null} for a JSON {@code null}
+     */
+    T read(JsonParser parser);
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import io.helidon.samples.petclinic.rest.dto.DtoJsonCodecs;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+import jakarta.json.stream.JsonParsingException;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Entry point and building blocks of the generated {@link JsonCodec}s.
+ * <p>
+ * Values are written and read with the JSON-P streaming API, the same way JSON-B represents them:
+ * {@code null} properties are omitted, dates are ISO-8601 strings, free-form objects are read as maps,
+ * lists, strings, {@link BigDecimal}s and booleans, and unknown properties are skipped. The same codecs
+ * write and read CBOR with {@link CborGenerator} and {@link CborParser}, where dates are days since the epoch.
+ */
+public final class JsonCodecs {
+    private static final JsonProvider JSON = JsonProvider.provider();
+    private static final JsonGeneratorFactory GENERATORS = JSON.createGeneratorFactory(Map.of());
+    private static final JsonParserFactory PARSERS = JSON.createParserFactory(Map.of());
+
+    private JsonCodecs() {
+    }
+
+    /**
+     * Find the codec of a DTO.
+     *
+     * @param type DTO type
+     * @param <T>  DTO type
+     * @return the codec, {@code null} if the type has none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> codec(Class<T> type) {
+        return (JsonCodec<T>) DtoJsonCodecs.CODECS.get(type);
+    }
+
+    /**
+     * Create a UTF-8 generator. Closing the generator flushes it and releases its buffer, but leaves
+     * the stream open, so it can write part of a response.
+     *
+     * @param output stream to write to
+     * @return new generator
+     */
+    public static JsonGenerator generator(OutputStream output) {
+        return GENERATORS.createGenerator(new FilterOutputStream(output) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        }, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Create a UTF-8 parser. Closing the parser releases its buffer, but leaves the stream open.
+     *
+     * @param input stream to read from
+     * @return new parser
+     */
+    public static JsonParser parser(InputStream input) {
+        return PARSERS.createParser(new FilterInputStream(input) {
+            @Override
+            public void close() {
+            }
+        }, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether {@link #writeValue(JsonGenerator, Object)} can write a value and everything it contains.
+     * Iterables that are not collections are streamed, they are assumed to be writable so they are not
+     * iterated twice.
+     *
+     * @param value value to check
+     * @return {@code true} if the value can be written
+     */
+    public static boolean isWritable(Object value) {
+        if (value == null || isScalar(value) || DtoJsonCodecs.CODECS.containsKey(value.getClass())) {
+            return true;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (var entryValue : map.values()) {
+                if (!isWritable(entryValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Collection<?> collection) {
+            for (var element : collection) {
+                if (!isWritable(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return value instanceof Iterable<?>;
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof LocalDate || value instanceof OffsetDateTime || value instanceof URI
+                || value instanceof JsonValue;
+    }
+
+    /**
+     * Write a DTO, a scalar, or a map or iterable of them.
+     *
+     * @param generator generator to write to
+     * @param value     value to write
+     * @throws IllegalArgumentException if the value cannot be written, see {@link #isWritable(Object)}
+     */
+    @SuppressWarnings("unchecked")
+    public static void writeValue(JsonGenerator generator, Object value) {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        var codec = (JsonCodec<Object>) DtoJsonCodecs.CODECS.get(value.getClass());
+        if (codec != null) {
+            codec.write(generator, value);
+        } else if (value instanceof String string) {
+            generator.write(string);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            generator.write(((Number) value).longValue());
+        } else if (value instanceof BigDecimal decimal) {
+            generator.write(decimal);
+        } else if (value instanceof BigInteger integer) {
+            generator.write(integer);
+        } else if (value instanceof Number number) {
+            generator.write(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            generator.write(bool);
+        } else if (value instanceof LocalDate date && generator instanceof CborGenerator cbor) {
+            cbor.write(date);
+        } else if (value instanceof LocalDate || value instanceof URI) {
+            generator.write(value.toString());
+        } else if (value instanceof OffsetDateTime dateTime) {
+            generator.write(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime));
+        } else if (value instanceof JsonValue json) {
+            generator.write(json);
+        } else if (value instanceof Map<?, ?> map) {
+            generator.writeStartObject();
+            for (var entry : map.entrySet()) {
+                generator.writeKey(String.valueOf(entry.getKey()));
+                writeValue(generator, entry.getValue());
+            }
+            generator.writeEnd();
+        } else if (value instanceof Iterable<?> iterable) {
+            generator.writeStartArray();
+            for (var element : iterable) {
+                writeValue(generator, element);
+            }
+            generator.writeEnd();
+        } else {
+            throw new IllegalArgumentException("No JSON codec for " + value.getClass().getName());
+        }
+    }
+
+    public static void write(JsonGenerator generator, String name, String value) {
+        if (value != null) {
+            generator.write(name, value);
+        }
+    }
+
+    public static void write(JsonGenerator generator, String name, Integer value) {
+        if (value != null) {
+            generator.write(name, value.intValue());
+        }
+    }
+
+    public static void write(JsonGenerator generator, String name, Long value) {
+        if (value != null) {
+            generator.write(name, value.longValue());
+        }
+    }
+
+    public static void write(JsonGenerator generator, String name, Double value) {
+        if (value != null) {
+            generator.write(name, value.doubleValue());
+        }
+    }
+
+    public static void write(JsonGenerator generator, String name, Boolean value) {
+        if (value != null) {
+            generator.write(name, value.booleanValue());
+        }
+    }
+
+    public static void write(JsonGenerator generator, String name, LocalDate value) {
+        if (value == null) {
+            return;
+        }
+        if (generator instanceof CborGenerator cbor) {
+            cbor.write(name, value);
+        } else {
+            generator.write(name, value.toString());
+        }
+    }
+
+    /**
+     * Write a property unless its value is {@code null}.
+     *
+     * @param generator generator to write to
+     * @param name      property name
+     * @param value     DTO, scalar, or map or iterable of them
+     */
+    public static void write(JsonGenerator generator, String name, Object value) {
+        if (value != null) {
+            generator.writeKey(name);
+            writeValue(generator, value);
+        }
+    }
+
+    /**
+     * Check that the current value starts an object.
+     *
+     * @param parser parser at a value
+     * @return {@code true} at the start of an object, {@code false} at a {@code null}
+     * @throws JsonParsingException if the value is something else
+     */
+    public static boolean isObject(JsonParser parser) {
+        var event = parser.currentEvent();
+        if (event == JsonParser.Event.VALUE_NULL) {
+            return false;
+        }
+        if (event != JsonParser.Event.START_OBJECT) {
+            throw unexpected(parser, event, "an object");
+        }
+        return true;
+    }
+
+    /**
+     * Move to the next property of an object, its name is available from {@link JsonParser#getString()}.
+     *
+     * @param parser parser inside an object
+     * @return {@code true} at a property, {@code false} at the end of the object
+     */
+    public static boolean nextProperty(JsonParser parser) {
+        var event = parser.next();
+        if (event == JsonParser.Event.KEY_NAME) {
+            return true;
+        }
+        if (event != JsonParser.Event.END_OBJECT) {
+            throw unexpected(parser, event, "a property");
+        }
+        return false;
+    }
+
+    /**
+     * Skip the current value, used for properties that are not known.
+     *
+     * @param parser parser at a value
+     */
+    public static void skipValue(JsonParser parser) {
+        var event = parser.currentEvent();
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    /**
+     * Read the current object with the codec of a DTO.
+     *
+     * @param parser parser at a value
+     * @param type   DTO type
+     * @param <T>    DTO type
+     * @return the DTO, {@code null} for a JSON {@code null}
+     */
+    public static <T> T readObject(JsonParser parser, Class<T> type) {
+        var codec = codec(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("No JSON codec for " + type.getName());
+        }
+        return codec.read(parser);
+    }
+
+    /**
+     * Read the current array.
+     *
+     * @param parser  parser at a value
+     * @param element reads the element the parser is at
+     * @param <T>     element type
+     * @return the elements, {@code null} for a JSON {@code null}
+     */
+    public static <T> List<T> readList(JsonParser parser, Function<JsonParser, T> element) {
+        var event = parser.currentEvent();
+        if (event == JsonParser.Event.VALUE_NULL) {
+            return null;
+        }
+        if (event != JsonParser.Event.START_ARRAY) {
+            throw unexpected(parser, event, "an array");
+        }
+        var list = new ArrayList<T>();
+        while (parser.next() != JsonParser.Event.END_ARRAY) {
+            list.add(element.apply(parser));
+        }
+        return list;
+    }
+
+    public static String readString(JsonParser parser) {
+        var event = parser.currentEvent();
+        return switch (event) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parser.getString();
+            default -> throw unexpected(parser, event, "a string");
+        };
+    }
+
+    public static Integer readInteger(JsonParser parser) {
+        var value = readLong(parser);
+        if (value != null && value.intValue() != value) {
+            throw new JsonParsingException("Number " + value + " is out of range", parser.getLocation());
+        }
+        return value == null ? null : value.intValue();
+    }
+
+    public static Long readLong(JsonParser parser) {
+        var event = parser.currentEvent();
+        return switch (event) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER -> {
+                if (!parser.isIntegralNumber()) {
+                    throw new JsonParsingException("Expected an integer", parser.getLocation());
+                }
+                yield parser.getLong();
+            }
+            default -> throw unexpected(parser, event, "a number");
+        };
+    }
+
+    public static Double readDouble(JsonParser parser) {
+        var event = parser.currentEvent();
+        return switch (event) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER -> parser.getBigDecimal().doubleValue();
+            default -> throw unexpected(parser, event, "a number");
+        };
+    }
+
+    public static Boolean readBoolean(JsonParser parser) {
+        var event = parser.currentEvent();
+        return switch (event) {
+            case VALUE_NULL -> null;
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> throw unexpected(parser, event, "a boolean");
+        };
+    }
+
+    public static LocalDate readLocalDate(JsonParser parser) {
+        if (parser instanceof CborParser cbor) {
+            var date = cbor.getLocalDate();
+            if (date != null) {
+                return date;
+            }
+        }
+        var value = readString(parser);
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    public static OffsetDateTime readOffsetDateTime(JsonParser parser) {
+        var value = readString(parser);
+        return value == null ? null : OffsetDateTime.parse(value);
+    }
+
+    public static URI readUri(JsonParser parser) {
+        var value = readString(parser);
+        return value == null ? null : URI.create(value);
+    }
+
+    /**
+     * Read the current free-form value.
+     *
+     * @param parser parser at a value
+     * @return a map, list, string, {@link BigDecimal}, boolean or {@code null}
+     */
+    public static Object readValue(JsonParser parser) {
+        var event = parser.currentEvent();
+        return switch (event) {
+            case VALUE_NULL -> null;
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_STRING -> parser.getString();
+            case VALUE_NUMBER -> parser.getBigDecimal();
+            case START_OBJECT -> {
+                var map = new LinkedHashMap<String, Object>();
+                while (nextProperty(parser)) {
+                    var name = parser.getString();
+                    parser.next();
+                    map.put(name, readValue(parser));
+                }
+                yield map;
+            }
+            case START_ARRAY -> readList(parser, JsonCodecs::readValue);
+            default -> throw unexpected(parser, event, "a value");
+        };
+    }
+
+    private static JsonParsingException unexpected(JsonParser parser, JsonParser.Event event, String expected) {
+        return new JsonParsingException("Expected " + expected + " but found " + event, parser.getLocation());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+/**
+ * Names of the dependency tags carried by {@link DataChanged}.
+ * <p>
+ * A type tag stands for every entity of a type and is part of every change of the type, so everything listing
+ * entities of the type depends on it. An entity tag stands for one entity and is part of the changes of the entity
+ * and of the entities it embeds in responses: a visit change also tags its pet and owner.
+ */
+public final class CacheTags {
+    private CacheTags() {
+    }
+
+    /**
+     * Tag of all entities of a type.
+     *
+     * @param type entity type
+     * @return type tag
+     */
+    public static String of(Class<?> type) {
+        return type.getSimpleName();
+    }
+
+    /**
+     * Tag of one entity.
+     *
+     * @param type entity type
+     * @param id   entity id
+     * @return entity tag
+     */
+    public static String of(Class<?> type, Integer id) {
+        return type.getSimpleName() + '#' + id;
+    }
+
+    /**
+     * Id of the entity of an entity tag.
+     *
+     * @param type entity type
+     * @param tag  tag
+     * @return id of the entity if the tag is an entity tag of the type, {@code null} otherwise
+     */
+    public static Integer idOf(Class<?> type, String tag) {
+        var name = type.getSimpleName();
+        if (tag.length() <= name.length() + 1 || !tag.startsWith(name) || tag.charAt(name.length()) != '#') {
+            return null;
+        }
+        try {
+            return Integer.valueOf(tag.substring(name.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
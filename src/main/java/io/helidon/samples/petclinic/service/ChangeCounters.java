@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.ChangeCounter;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+
+/**
+ * Counts the committed changes of each entity type in its {@link ChangeCounter}.
+ * <p>
+ * The counters are incremented once a change has committed, in a short transaction of their own and in the order of
+ * their names, so the transactions writing the entities neither wait for the rows of the counters nor lock them in
+ * different orders. An increment lost to a failure after the commit cannot make a stale snapshot current: the
+ * in-memory caches dropped what the change made stale when it committed, and the snapshot of the previous run is
+ * deleted once restored.
+ * <p>
+ * The counters are incremented after the caches observing the change have dropped what it made stale, so a snapshot
+ * saved with the incremented counters never holds entries older than the change.
+ */
+@ApplicationScoped
+public class ChangeCounters {
+    private static final System.Logger LOGGER = System.getLogger(ChangeCounters.class.getName());
+
+    private final ClinicService clinicService;
+
+    @Inject
+    public ChangeCounters(ClinicService clinicService) {
+        this.clinicService = clinicService;
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) @Priority(Interceptor.Priority.PLATFORM_AFTER)
+                 DataChanged event) {
+        var types = event.tags().stream().filter(tag -> tag.indexOf('#') < 0).sorted().toList();
+        if (types.isEmpty()) {
+            return;
+        }
+        try {
+            clinicService.incrementChangeCounters(types);
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Changes of " + types + " not counted", e);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -18,13 +18,31 @@ package io.helidon.samples.petclinic.service;
 
 import io.helidon.samples.petclinic.model.*;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Mostly used as a facade so all controllers have a single point of entry
+ * <p>
+ * Associations are fetched lazily. Entities are returned detached, so the {@code expand} variants
+ * of the finders fetch the named associations with fetch joins: {@code pets} and {@code pets.visits}
+ * for owners, {@code visits} for pets and {@code specialties} for vets.
+ * <p>
+ * The {@code ByIdIn} finders read many entities with one {@code IN} query per chunk of ids and
+ * return them in the order of the given ids, skipping unknown ids.
+ * <p>
+ * The {@code streamAll} finders read all entities lazily, one page of ids at a time, so only a page is
+ * held in memory while the stream is consumed. Pages are read in separate queries, so the stream is not
+ * a snapshot of one point in time.
+ * <p>
+ * Concurrent calls of the {@code findById} finders with an {@code expand}, {@code findAllVets},
+ * {@code findAllPetTypes} and {@code findAllSpecialties} with the same arguments share one load, see
+ * {@link SingleFlight}, so outside a transaction their results must not be modified.
  *
  * @author Michael Isvy
  * @author Vitaliy Fedoriv
@@ -32,24 +50,47 @@ import java.util.Set;
 public interface ClinicService {
 
 	Optional<Pet> findPetById(int id);
+	Optional<Pet> findPetById(int id, Set<String> expand);
 	List<Pet> findAllPets();
+	Stream<Pet> streamAllPets(Set<String> expand);
+	List<Pet> findPetsByIdIn(List<Integer> ids, Set<String> expand);
+	List<PetSummary> findPets(String name, Integer typeId, LocalDate bornFrom, LocalDate bornTo,
+			int firstResult, int maxResults);
+	List<Map<String, Object>> findPetFields(Integer petId, List<String> fields);
 	void savePet(Pet pet);
 	void deletePet(Pet pet);
 
 	List<Visit> findVisitsByPetId(int petId);
+	List<VisitSummary> findVisitsByPetId(int petId, LocalDate beforeDate, Integer beforeId, int maxResults);
 	Optional<Visit> findVisitById(int visitId);
 	List<Visit> findAllVisits();
+	Stream<VisitSummary> streamAllVisits();
+	List<VisitSummary> findVisitsByIdIn(List<Integer> ids);
+	List<VisitSummary> findVisits(LocalDate from, LocalDate to, Integer petTypeId, int firstResult, int maxResults);
 	void saveVisit(Visit visit);
 	void deleteVisit(Visit visit);
 	Optional<Vet> findVetById(int id);
+	Optional<Vet> findVetById(int id, Set<String> expand);
 	Collection<Vet> findAllVets();
+	Stream<Vet> streamAllVets(Set<String> expand);
+	List<Vet> findVetsByIdIn(List<Integer> ids, Set<String> expand);
+	List<Map<String, Object>> findVetFields(Integer vetId, List<String> fields);
 	void saveVet(Vet vet);
 	void deleteVet(Vet vet);
+	List<Vet> findVetsBySpecialties(Set<String> specialtyNames, boolean matchAll);
+	List<Vet> findVetsBySpecialtyId(int specialtyId);
 	Optional<Owner> findOwnerById(int id);
+	Optional<Owner> findOwnerById(int id, Set<String> expand);
 	Collection<Owner> findAllOwners();
+	Stream<Owner> streamAllOwners(Set<String> expand);
+	List<Owner> findOwnersByIdIn(List<Integer> ids, Set<String> expand);
+	List<Map<String, Object>> findOwnerFields(Integer ownerId, List<String> fields);
 	void saveOwner(Owner owner);
 	void deleteOwner(Owner owner);
 	List<Owner> findOwnerByLastName(String lastName);
+	Optional<Owner> findOwnerByTelephone(String telephone);
+	List<DuplicateOwner> findDuplicateOwners(double minScore);
+	List<DuplicateOwner> findDuplicatesOf(Owner owner, double minScore);
 
 	Optional<PetType> findPetTypeById(int petTypeId);
 	List<PetType> findAllPetTypes();
@@ -60,9 +101,23 @@ public interface ClinicService {
 	void saveSpecialty(Specialty specialty);
 	void deleteSpecialty(Specialty specialty);
 
-	List<Specialty> findSpecialtiesByIdIn(Set<Integer> ids);
+	List<Specialty> findSpecialtiesByIdIn(Collection<Integer> ids);
 
 	List<Specialty> findSpecialtiesByNameIn(Set<String> names);
 
     PetType findPetTypeByName(String name);
+
+	/**
+	 * Committed changes to the entities of every type, by the cache tag of the type.
+	 *
+	 * @return number of changes by type
+	 */
+	Map<String, Long> findChangeCounters();
+
+	/**
+	 * Count a committed change to the entities of types, in a new transaction.
+	 *
+	 * @param types cache tags of the types, in the order their counters are locked
+	 */
+	void incrementChangeCounters(List<String> types);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -16,17 +16,31 @@
  */
 package io.helidon.samples.petclinic.service;
 
+import io.helidon.samples.petclinic.collection.IntHashSet;
+import io.helidon.samples.petclinic.collection.IntObjectMap;
 import io.helidon.samples.petclinic.model.*;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.NotFoundException;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 /**
  * Mostly used as a facade for all Petclinic controllers
@@ -37,25 +51,135 @@ import java.util.Set;
  */
 @ApplicationScoped
 public class ClinicServiceImpl implements ClinicService {
+	private static final Map<String, String> OWNER_COLUMNS = Map.of("id", "e.id", "firstName", "e.firstName",
+			"lastName", "e.lastName", "address", "e.address", "city", "e.city", "telephone", "e.telephone");
+	private static final Map<String, String> PET_COLUMNS = Map.of("id", "e.id", "name", "e.name",
+			"birthDate", "e.birthDate", "ownerId", "e.owner.id");
+	private static final Map<String, String> VET_COLUMNS = Map.of("id", "e.id", "firstName", "e.firstName",
+			"lastName", "e.lastName");
+	// keeps the IN lists well below the bind parameter limits of the databases
+	private static final int ID_CHUNK_SIZE = 100;
+	private static final int STREAM_PAGE_SIZE = 100;
+
 	@PersistenceContext(unitName = "pu1")
 	private EntityManager entityManager;
 
+	@Inject
+	private OwnerTelephoneIndex telephoneIndex;
+
+	@Inject
+	private DuplicateOwnerDetector duplicateOwnerDetector;
+
+	@Inject
+	private VetSpecialtyIndex vetSpecialtyIndex;
+
+	@Inject
+	private Event<DataChanged> dataChanged;
+
+	@Inject
+	private SingleFlight singleFlight;
+
+	@Inject
+	private ExistingIdFilter existingIds;
+
+	@Inject
+	private QueryResultCache queryCache;
+
 	@Override
 	public List<Pet> findAllPets() {
 		return entityManager.createNamedQuery("findAllPets", Pet.class).getResultList();
 	}
 
+	@Override
+	public Stream<Pet> streamAllPets(Set<String> expand) {
+		return streamAll("Pet", ids -> findPetsByIdIn(ids, expand));
+	}
+
+	@Override
+	public Optional<Pet> findPetById(int petId, Set<String> expand) {
+		if (!mightExist(Pet.class, petId)) {
+			return Optional.empty();
+		}
+		return singleFlight.load("findPetById", Arrays.asList(petId, expand), () -> entityManager
+				.createQuery("SELECT DISTINCT p FROM Pet p" + petFetches(expand) + " WHERE p.id = :id", Pet.class)
+				.setParameter("id", petId)
+				.getResultStream()
+				.findFirst());
+	}
+
+	@Override
+	public List<Pet> findPetsByIdIn(List<Integer> ids, Set<String> expand) {
+		return findByIdIn("SELECT DISTINCT p FROM Pet p" + petFetches(expand) + " WHERE p.id IN :ids",
+				Pet.class, Pet::getId, ids);
+	}
+
+	private static String petFetches(Set<String> expand) {
+		return expand.contains("visits") ? " LEFT JOIN FETCH p.visits" : "";
+	}
+
+	@Override
+	public List<Map<String, Object>> findPetFields(Integer petId, List<String> fields) {
+		return findFields("Pet", PET_COLUMNS, petId, fields);
+	}
+
+	@Override
+	public List<PetSummary> findPets(String name, Integer typeId, LocalDate bornFrom, LocalDate bornTo,
+			int firstResult, int maxResults) {
+		var conditions = new ArrayList<String>();
+		var parameters = new HashMap<String, Object>();
+		if (name != null && !name.isEmpty()) {
+			conditions.add("p.name LIKE :name");
+			parameters.put("name", name + "%");
+		}
+		if (typeId != null) {
+			conditions.add("p.type.id = :typeId");
+			parameters.put("typeId", typeId);
+		}
+		if (bornFrom != null) {
+			conditions.add("p.birthDate >= :bornFrom");
+			parameters.put("bornFrom", bornFrom);
+		}
+		if (bornTo != null) {
+			conditions.add("p.birthDate <= :bornTo");
+			parameters.put("bornTo", bornTo);
+		}
+		// constructor projection, so no pet graph with its EAGER visits is loaded
+		var jpql = new StringBuilder("SELECT new io.helidon.samples.petclinic.model.PetSummary("
+				+ "p.id, p.name, p.birthDate, p.type, p.owner.id) FROM Pet p");
+		if (!conditions.isEmpty()) {
+			jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+		}
+		jpql.append(" ORDER BY p.name, p.id");
+
+		var query = entityManager.createQuery(jpql.toString(), PetSummary.class);
+		parameters.forEach(query::setParameter);
+		return query.setFirstResult(firstResult).setMaxResults(maxResults).getResultList();
+	}
+
 	@Override
 	@Transactional
 	public void deletePet(Pet pet) {
+		var deleted = new ArrayList<String>();
+		deleted.add(CacheTags.of(Pet.class, pet.getId()));
+		entityManager.createQuery("SELECT v.id FROM Visit v WHERE v.pet.id = :petId", Integer.class)
+				.setParameter("petId", pet.getId())
+				.getResultStream()
+				.forEach(visitId -> deleted.add(CacheTags.of(Visit.class, visitId)));
+		var tags = petTags(pet);
+		tags.add(CacheTags.of(Visit.class));
+		tags.addAll(deleted);
 		var owner = pet.getOwner();
 		owner.deletePet(pet);
 		entityManager.merge(owner);
 		entityManager.flush();
+		fireChanged(tags, deleted);
 	}
 
 	@Override
 	public Optional<Visit> findVisitById(int visitId) {
+		if (!mightExist(Visit.class, visitId)) {
+			return Optional.empty();
+		}
 		return Optional.ofNullable(entityManager.find(Visit.class, visitId));
 	}
 
@@ -64,6 +188,49 @@ public class ClinicServiceImpl implements ClinicService {
 		return entityManager.createNamedQuery("findAllVisits", Visit.class).getResultList();
 	}
 
+	@Override
+	public Stream<VisitSummary> streamAllVisits() {
+		return streamAll("Visit", this::findVisitsByIdIn);
+	}
+
+	@Override
+	public List<VisitSummary> findVisitsByIdIn(List<Integer> ids) {
+		// constructor projection, so the pet of each visit is not loaded
+		return findByIdIn("SELECT new io.helidon.samples.petclinic.model.VisitSummary("
+				+ "v.id, v.date, v.description, v.pet.id) FROM Visit v WHERE v.id IN :ids",
+				VisitSummary.class, VisitSummary::id, ids);
+	}
+
+	@Override
+	public List<VisitSummary> findVisits(LocalDate from, LocalDate to, Integer petTypeId,
+			int firstResult, int maxResults) {
+		var conditions = new ArrayList<String>();
+		var parameters = new HashMap<String, Object>();
+		if (from != null) {
+			conditions.add("v.date >= :from");
+			parameters.put("from", from);
+		}
+		if (to != null) {
+			conditions.add("v.date <= :to");
+			parameters.put("to", to);
+		}
+		if (petTypeId != null) {
+			conditions.add("v.pet.type.id = :petTypeId");
+			parameters.put("petTypeId", petTypeId);
+		}
+		// constructor projection, so the pet of each visit with its owner and visits is not loaded
+		var jpql = new StringBuilder("SELECT new io.helidon.samples.petclinic.model.VisitSummary("
+				+ "v.id, v.date, v.description, v.pet.id) FROM Visit v");
+		if (!conditions.isEmpty()) {
+			jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+		}
+		jpql.append(" ORDER BY v.date, v.id");
+
+		var query = entityManager.createQuery(jpql.toString(), VisitSummary.class);
+		parameters.forEach(query::setParameter);
+		return query.setFirstResult(firstResult).setMaxResults(maxResults).getResultList();
+	}
+
 	@Override
 	@Transactional
 	public void deleteVisit(Visit visit) {
@@ -71,6 +238,7 @@ public class ClinicServiceImpl implements ClinicService {
 		pet.deleteVisit(visit);
 		entityManager.merge(pet);
 		entityManager.flush();
+		fireChanged(visitTags(visit, pet), List.of(CacheTags.of(Visit.class, visit.getId())));
 	}
 
 	@Override
@@ -80,7 +248,37 @@ public class ClinicServiceImpl implements ClinicService {
 
 	@Override
 	public List<Vet> findAllVets() {
-		return entityManager.createNamedQuery("findAllVets", Vet.class).getResultList();
+		return singleFlight.load("findAllVets", List.of(),
+				() -> entityManager.createNamedQuery("findAllVets", Vet.class).getResultList());
+	}
+
+	@Override
+	public Stream<Vet> streamAllVets(Set<String> expand) {
+		return streamAll("Vet", ids -> findVetsByIdIn(ids, expand));
+	}
+
+	@Override
+	public Optional<Vet> findVetById(int vetId, Set<String> expand) {
+		return singleFlight.load("findVetById", Arrays.asList(vetId, expand), () -> entityManager
+				.createQuery("SELECT DISTINCT v FROM Vet v" + vetFetches(expand) + " WHERE v.id = :id", Vet.class)
+				.setParameter("id", vetId)
+				.getResultStream()
+				.findFirst());
+	}
+
+	@Override
+	public List<Vet> findVetsByIdIn(List<Integer> ids, Set<String> expand) {
+		return findByIdIn("SELECT DISTINCT v FROM Vet v" + vetFetches(expand) + " WHERE v.id IN :ids",
+				Vet.class, Vet::getId, ids);
+	}
+
+	private static String vetFetches(Set<String> expand) {
+		return expand.contains("specialties") ? " LEFT JOIN FETCH v.specialties" : "";
+	}
+
+	@Override
+	public List<Map<String, Object>> findVetFields(Integer vetId, List<String> fields) {
+		return findFields("Vet", VET_COLUMNS, vetId, fields);
 	}
 
 	@Override
@@ -91,12 +289,43 @@ public class ClinicServiceImpl implements ClinicService {
 		} else {
 			entityManager.merge(vet);
 		}
+		fireChanged(tags(Vet.class, vet.getId()), List.of(), List.of(vet));
 	}
 
 	@Override
 	@Transactional
 	public void deleteVet(Vet vet) {
 		entityManager.remove(vet);
+		fireChanged(tags(Vet.class, vet.getId()), List.of(CacheTags.of(Vet.class, vet.getId())));
+	}
+
+	@Override
+	public List<Vet> findVetsBySpecialties(Set<String> specialtyNames, boolean matchAll) {
+		var vetIds = loadedVetSpecialtyIndex().findVets(specialtyNames, matchAll);
+		// the index only narrows the candidates, the loaded specialties decide
+		return findVetsByIdIn(vetIds, Set.of("specialties")).stream()
+				.filter(vet -> {
+					var names = vet.getSpecialties().stream().map(Specialty::getName).toList();
+					return matchAll ? names.containsAll(specialtyNames) : names.stream().anyMatch(specialtyNames::contains);
+				})
+				.toList();
+	}
+
+	@Override
+	public List<Vet> findVetsBySpecialtyId(int specialtyId) {
+		var vetIds = loadedVetSpecialtyIndex().findVets(specialtyId);
+		return findVetsByIdIn(vetIds, Set.of("specialties")).stream()
+				.filter(vet -> vet.getSpecialties().stream().anyMatch(s -> s.getId() == specialtyId))
+				.toList();
+	}
+
+	private VetSpecialtyIndex loadedVetSpecialtyIndex() {
+		if (!vetSpecialtyIndex.isLoaded()) {
+			vetSpecialtyIndex.load(() -> entityManager.createNamedQuery("findSpecialtyNames", Object[].class)
+					.getResultList(),
+					() -> entityManager.createNamedQuery("findVetSpecialtyIds", Object[].class).getResultList());
+		}
+		return vetSpecialtyIndex;
 	}
 
 	@Override
@@ -105,10 +334,135 @@ public class ClinicServiceImpl implements ClinicService {
 		return entityManager.createNamedQuery("findAllOwners", Owner.class).getResultList();
 	}
 
+	@Override
+	public Stream<Owner> streamAllOwners(Set<String> expand) {
+		return streamAll("Owner", ids -> findOwnersByIdIn(ids, expand));
+	}
+
+	@Override
+	public Optional<Owner> findOwnerById(int ownerId, Set<String> expand) {
+		if (!mightExist(Owner.class, ownerId)) {
+			return Optional.empty();
+		}
+		return singleFlight.load("findOwnerById", Arrays.asList(ownerId, expand), () -> entityManager
+				.createQuery("SELECT DISTINCT o FROM Owner o" + ownerFetches(expand) + " WHERE o.id = :id", Owner.class)
+				.setParameter("id", ownerId)
+				.getResultStream()
+				.findFirst());
+	}
+
+	@Override
+	public List<Owner> findOwnersByIdIn(List<Integer> ids, Set<String> expand) {
+		return findByIdIn("SELECT DISTINCT o FROM Owner o" + ownerFetches(expand) + " WHERE o.id IN :ids",
+				Owner.class, Owner::getId, ids);
+	}
+
+	private static String ownerFetches(Set<String> expand) {
+		if (expand.contains("pets.visits")) {
+			return " LEFT JOIN FETCH o.pets p LEFT JOIN FETCH p.visits";
+		}
+		return expand.contains("pets") ? " LEFT JOIN FETCH o.pets" : "";
+	}
+
+	@Override
+	public List<Map<String, Object>> findOwnerFields(Integer ownerId, List<String> fields) {
+		return findFields("Owner", OWNER_COLUMNS, ownerId, fields);
+	}
+
+	/**
+	 * Select only the given columns of one or all entities, so neither unused columns nor associations are read.
+	 */
+	private List<Map<String, Object>> findFields(String entity, Map<String, String> columns, Integer id,
+			List<String> fields) {
+		var select = new ArrayList<String>();
+		for (var field : fields) {
+			var column = columns.get(field);
+			if (column == null) {
+				throw new IllegalArgumentException("Unknown field " + field + " of " + entity);
+			}
+			select.add(column);
+		}
+		var jpql = "SELECT " + String.join(", ", select) + " FROM " + entity + " e"
+				+ (id == null ? "" : " WHERE e.id = :id") + " ORDER BY e.id";
+		var query = entityManager.createQuery(jpql, Tuple.class);
+		if (id != null) {
+			query.setParameter("id", id);
+		}
+		var rows = new ArrayList<Map<String, Object>>();
+		for (var tuple : query.getResultList()) {
+			var row = new LinkedHashMap<String, Object>();
+			for (int i = 0; i < fields.size(); i++) {
+				row.put(fields.get(i), tuple.get(i));
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	/**
+	 * Run an {@code IN :ids} query once per chunk of distinct ids and put the results back into the order of the ids.
+	 */
+	private <T> List<T> findByIdIn(String jpql, Class<T> type, ToIntFunction<T> idOf, List<Integer> ids) {
+		var seen = new IntHashSet(ids.size());
+		var distinctIds = new ArrayList<Integer>(ids.size());
+		for (var id : ids) {
+			if (seen.add(id)) {
+				distinctIds.add(id);
+			}
+		}
+		var found = new IntObjectMap<T>(distinctIds.size());
+		for (int from = 0; from < distinctIds.size(); from += ID_CHUNK_SIZE) {
+			var chunk = distinctIds.subList(from, Math.min(from + ID_CHUNK_SIZE, distinctIds.size()));
+			for (var result : entityManager.createQuery(jpql, type).setParameter("ids", chunk).getResultList()) {
+				found.put(idOf.applyAsInt(result), result);
+			}
+		}
+		var results = new ArrayList<T>(found.size());
+		for (var id : distinctIds) {
+			var result = found.get(id);
+			if (result != null) {
+				results.add(result);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Page through the ids of an entity in ascending order and load each page only when the stream reaches it.
+	 * Keyset pages, unlike a scrollable result, do not need a connection to be held open between pages.
+	 */
+	private <T> Stream<T> streamAll(String entity, Function<List<Integer>, List<T>> load) {
+		var jpql = "SELECT e.id FROM " + entity + " e WHERE e.id > :after ORDER BY e.id";
+		Function<Integer, List<Integer>> idsAfter = after -> entityManager.createQuery(jpql, Integer.class)
+				.setParameter("after", after)
+				.setMaxResults(STREAM_PAGE_SIZE)
+				.getResultList();
+		return Stream.iterate(idsAfter.apply(Integer.MIN_VALUE),
+						ids -> !ids.isEmpty(),
+						ids -> ids.size() < STREAM_PAGE_SIZE ? List.of() : idsAfter.apply(ids.get(ids.size() - 1)))
+				.flatMap(ids -> load.apply(ids).stream());
+	}
+
 	@Override
 	@Transactional
 	public void deleteOwner(Owner owner) {
+		var deleted = new ArrayList<String>();
+		deleted.add(CacheTags.of(Owner.class, owner.getId()));
+		entityManager.createQuery("SELECT p.id FROM Pet p WHERE p.owner.id = :ownerId", Integer.class)
+				.setParameter("ownerId", owner.getId())
+				.getResultStream()
+				.forEach(petId -> deleted.add(CacheTags.of(Pet.class, petId)));
+		entityManager.createQuery("SELECT v.id FROM Visit v WHERE v.pet.owner.id = :ownerId", Integer.class)
+				.setParameter("ownerId", owner.getId())
+				.getResultStream()
+				.forEach(visitId -> deleted.add(CacheTags.of(Visit.class, visitId)));
+		var tags = tags(Owner.class, owner.getId());
+		tags.add(CacheTags.of(Pet.class));
+		tags.add(CacheTags.of(Visit.class));
+		tags.addAll(deleted);
 		entityManager.remove(owner);
+		telephoneIndex.remove(owner.getTelephone(), owner.getId());
+		fireChanged(tags, deleted);
 	}
 
 	@Override
@@ -118,7 +472,8 @@ public class ClinicServiceImpl implements ClinicService {
 
 	@Override
 	public List<PetType> findAllPetTypes() {
-		return entityManager.createNamedQuery("findAllPetTypes", PetType.class).getResultList();
+		return singleFlight.load("findAllPetTypes", List.of(),
+				() -> entityManager.createNamedQuery("findAllPetTypes", PetType.class).getResultList());
 	}
 
 	@Override
@@ -129,12 +484,14 @@ public class ClinicServiceImpl implements ClinicService {
 		} else {
 			entityManager.merge(petType);
 		}
+		fireChanged(tags(PetType.class, petType.getId()));
 	}
 
 	@Override
 	@Transactional
 	public void deletePetType(PetType petType) {
 		entityManager.remove(petType);
+		fireChanged(tags(PetType.class, petType.getId()), List.of(CacheTags.of(PetType.class, petType.getId())));
 	}
 
 	@Override
@@ -144,7 +501,8 @@ public class ClinicServiceImpl implements ClinicService {
 
 	@Override
 	public Collection<Specialty> findAllSpecialties() {
-		return entityManager.createNamedQuery("findAllSpecialities", Specialty.class).getResultList();
+		return singleFlight.load("findAllSpecialties", List.of(),
+				() -> entityManager.createNamedQuery("findAllSpecialities", Specialty.class).getResultList());
 	}
 
 	@Override
@@ -155,33 +513,46 @@ public class ClinicServiceImpl implements ClinicService {
 		} else {
 			entityManager.merge(specialty);
 		}
+		fireChanged(specialtyTags(specialty), List.of(), List.of(specialty));
 	}
 
 	@Override
 	@Transactional
 	public void deleteSpecialty(Specialty specialty) {
 		entityManager.remove(specialty);
+		fireChanged(specialtyTags(specialty), List.of(CacheTags.of(Specialty.class, specialty.getId())));
 	}
 
 	@Override
-	public List<Specialty> findSpecialtiesByIdIn(Set<Integer> ids) {
+	public List<Specialty> findSpecialtiesByIdIn(Collection<Integer> ids) {
 		var query = entityManager.createNamedQuery("findSpecialtiesByIdsIn", Specialty.class);
 		return query.setParameter("ids", ids).getResultList();
 	}
 
 	@Override
 	public List<Specialty> findSpecialtiesByNameIn(Set<String> names) {
-		var query = entityManager.createNamedQuery("findSpecialtiesByNameIn", Specialty.class);
-		return query.setParameter("names", names).getResultList();
+		// any saved or deleted specialty may have one of the names
+		return queryCache.find("findSpecialtiesByNameIn", List.of(Set.copyOf(names)), Specialty.class,
+				Set.of(CacheTags.of(Specialty.class)), Specialty::getId,
+				() -> entityManager.createNamedQuery("findSpecialtiesByNameIn", Specialty.class)
+						.setParameter("names", names)
+						.getResultList(),
+				ids -> findByIdIn("SELECT s FROM Specialty s WHERE s.id IN :ids", Specialty.class, Specialty::getId, ids));
 	}
 
 	@Override
 	public Optional<Owner> findOwnerById(int ownerId) {
+		if (!mightExist(Owner.class, ownerId)) {
+			return Optional.empty();
+		}
 		return Optional.ofNullable(entityManager.find(Owner.class, ownerId));
 	}
 
 	@Override
 	public Optional<Pet> findPetById(int petId) {
+		if (!mightExist(Pet.class, petId)) {
+			return Optional.empty();
+		}
 		return Optional.ofNullable(entityManager.find(Pet.class, petId));
 	}
 
@@ -194,6 +565,8 @@ public class ClinicServiceImpl implements ClinicService {
 			entityManager.merge(pet);
 		}
 		entityManager.flush();
+		existingIds.add(Pet.class, pet.getId());
+		fireChanged(petTags(pet));
 	}
 
 	@Override
@@ -202,9 +575,13 @@ public class ClinicServiceImpl implements ClinicService {
 		if (visit.isNew()) {
 			var pet = findPetById(visit.getPet().getId()).orElseThrow();
 			pet.addVisit(visit);
-			entityManager.merge(pet);
+			// persisted rather than merged with its pet, so the visit itself gets its id
+			entityManager.persist(visit);
+			existingIds.add(Visit.class, visit.getId());
+			fireChanged(visitTags(visit, pet));
 		} else {
 			entityManager.merge(visit);
+			fireChanged(visitTags(visit, visit.getPet()));
 		}
 	}
 
@@ -216,18 +593,99 @@ public class ClinicServiceImpl implements ClinicService {
 		} else {
 			entityManager.merge(owner);
 		}
+		existingIds.add(Owner.class, owner.getId());
+		telephoneIndex.put(owner.getTelephone(), owner.getId());
+		fireChanged(tags(Owner.class, owner.getId()), List.of(), List.of(owner));
 	}
 
 	@Override
 	public List<Owner> findOwnerByLastName(String lastName) {
-		var query = entityManager.createNamedQuery("findOwnersByLastName", Owner.class);
-		return query.setParameter("lastName", lastName + "%").getResultList();
+		// any saved owner may have the last name, the writes of pets and visits do not change it
+		return queryCache.find("findOwnersByLastName", List.of(lastName), Owner.class,
+				Set.of(CacheTags.of(Owner.class)), Owner::getId,
+				() -> entityManager.createNamedQuery("findOwnersByLastName", Owner.class)
+						.setParameter("lastName", lastName + "%")
+						.getResultList(),
+				ids -> findByIdIn("SELECT o FROM Owner o WHERE o.id IN :ids", Owner.class, Owner::getId, ids));
+	}
+
+	@Override
+	public Optional<Owner> findOwnerByTelephone(String telephone) {
+		var digits = OwnerTelephoneIndex.normalize(telephone);
+		if (digits.isEmpty()) {
+			return Optional.empty();
+		}
+		if (!telephoneIndex.isLoaded()) {
+			telephoneIndex.load(entityManager.createNamedQuery("findOwnerTelephones", Object[].class).getResultList());
+		}
+		var ownerId = telephoneIndex.find(digits);
+		if (ownerId.isPresent()) {
+			var owner = findOwnerById(ownerId.getAsInt());
+			if (owner.isPresent() && digits.equals(OwnerTelephoneIndex.normalize(owner.get().getTelephone()))) {
+				return owner;
+			}
+			telephoneIndex.remove(digits, ownerId.getAsInt());
+		}
+		// index miss or stale entry, fall back to the owners_telephone database index
+		var query = entityManager.createNamedQuery("findOwnersByTelephone", Owner.class);
+		var owners = query.setParameter("telephone", digits).setMaxResults(1).getResultList();
+		if (owners.isEmpty()) {
+			return Optional.empty();
+		}
+		var owner = owners.get(0);
+		telephoneIndex.put(digits, owner.getId());
+		return Optional.of(owner);
+	}
+
+	@Override
+	public List<DuplicateOwner> findDuplicateOwners(double minScore) {
+		return loadedDuplicateOwnerDetector().findDuplicates(minScore);
+	}
+
+	@Override
+	public List<DuplicateOwner> findDuplicatesOf(Owner owner, double minScore) {
+		return loadedDuplicateOwnerDetector().findDuplicatesOf(owner, minScore);
+	}
+
+	private DuplicateOwnerDetector loadedDuplicateOwnerDetector() {
+		if (!duplicateOwnerDetector.isLoaded()) {
+			duplicateOwnerDetector.load(() -> entityManager.createNamedQuery("findOwnerContacts", Object[].class)
+					.getResultList());
+		}
+		return duplicateOwnerDetector;
 	}
 
 	@Override
 	public List<Visit> findVisitsByPetId(int petId) {
-		var query = entityManager.createNamedQuery("findVisitsByPetId", Visit.class);
-        return query.setParameter("petId", petId).getResultList();
+		// a new visit is tagged with its pet, a visit moved to another pet with its id
+		return queryCache.find("findVisitsByPetId", List.of(petId), Visit.class,
+				Set.of(CacheTags.of(Pet.class, petId)), Visit::getId,
+				() -> entityManager.createNamedQuery("findVisitsByPetId", Visit.class)
+						.setParameter("petId", petId)
+						.getResultList(),
+				ids -> findByIdIn("SELECT v FROM Visit v WHERE v.id IN :ids", Visit.class, Visit::getId, ids));
+	}
+
+	@Override
+	public List<VisitSummary> findVisitsByPetId(int petId, LocalDate beforeDate, Integer beforeId, int maxResults) {
+		// keyset pagination on (visit_date, id) reads the visits_pet_id_visit_date index backwards
+		var jpql = new StringBuilder("SELECT new io.helidon.samples.petclinic.model.VisitSummary("
+				+ "v.id, v.date, v.description, v.pet.id) FROM Visit v WHERE v.pet.id = :petId");
+		if (beforeDate != null && beforeId != null) {
+			jpql.append(" AND (v.date < :beforeDate OR (v.date = :beforeDate AND v.id < :beforeId))");
+		} else if (beforeDate != null) {
+			jpql.append(" AND v.date < :beforeDate");
+		}
+		jpql.append(" ORDER BY v.date DESC, v.id DESC");
+
+		var query = entityManager.createQuery(jpql.toString(), VisitSummary.class).setParameter("petId", petId);
+		if (beforeDate != null) {
+			query.setParameter("beforeDate", beforeDate);
+		}
+		if (beforeDate != null && beforeId != null) {
+			query.setParameter("beforeId", beforeId);
+		}
+		return query.setMaxResults(maxResults).getResultList();
 	}
 
     @Override
@@ -239,4 +697,79 @@ public class ClinicServiceImpl implements ClinicService {
 		}
 		return petTypeList.get(0);
     }
+
+	@Override
+	public Map<String, Long> findChangeCounters() {
+		var counters = new HashMap<String, Long>();
+		for (var counter : entityManager.createNamedQuery("findAllChangeCounters", ChangeCounter.class).getResultList()) {
+			counters.put(counter.getName(), counter.getChanges());
+		}
+		return counters;
+	}
+
+	@Override
+	@Transactional(Transactional.TxType.REQUIRES_NEW)
+	public void incrementChangeCounters(List<String> types) {
+		entityManager.createNamedQuery("incrementChangeCounters").setParameter("names", types).executeUpdate();
+	}
+
+	private void fireChanged(Collection<String> tags) {
+		fireChanged(tags, List.of());
+	}
+
+	private void fireChanged(Collection<String> tags, Collection<String> deleted) {
+		fireChanged(tags, deleted, List.of());
+	}
+
+	/**
+	 * Fire the change of entities, observed after the transaction commits, so the in-memory indexes updated from
+	 * the saved entities never keep the changes of a transaction that rolled back.
+	 */
+	private void fireChanged(Collection<String> tags, Collection<String> deleted, List<Object> saved) {
+		dataChanged.fire(new DataChanged(Set.copyOf(tags), Set.copyOf(deleted), List.copyOf(saved)));
+	}
+
+	/**
+	 * Whether an entity may exist, loading the ids of its type into the {@link ExistingIdFilter} on first use.
+	 */
+	private boolean mightExist(Class<?> type, int id) {
+		if (!existingIds.isLoaded(type)) {
+			existingIds.load(type, entityManager
+					.createQuery("SELECT e.id FROM " + type.getSimpleName() + " e", Integer.class)
+					.getResultList());
+		}
+		return existingIds.mightExist(type, id);
+	}
+
+	private static List<String> tags(Class<?> type, Integer id) {
+		var tags = new ArrayList<String>();
+		tags.add(CacheTags.of(type));
+		if (id != null) {
+			tags.add(CacheTags.of(type, id));
+		}
+		return tags;
+	}
+
+	private static List<String> petTags(Pet pet) {
+		var tags = tags(Pet.class, pet.getId());
+		if (pet.getOwner() != null) {
+			tags.add(CacheTags.of(Owner.class, pet.getOwner().getId()));
+		}
+		return tags;
+	}
+
+	private static List<String> visitTags(Visit visit, Pet pet) {
+		var tags = tags(Visit.class, visit.getId());
+		tags.addAll(petTags(pet));
+		// the visit changes what its pet and owner embed, not the pets listed
+		tags.remove(CacheTags.of(Pet.class));
+		return tags;
+	}
+
+	private static List<String> specialtyTags(Specialty specialty) {
+		var tags = tags(Specialty.class, specialty.getId());
+		// vets embed their specialties, the vets of a specialty are listed by it
+		tags.add(CacheTags.of(Vet.class));
+		return tags;
+	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Event fired by {@link ClinicService} when entities are saved or deleted.
+ *
+ * @param tags    {@link CacheTags} of the changed entities and of the entities embedding them
+ * @param deleted {@link CacheTags} of the deleted entities, including the ones deleted with them
+ * @param saved   saved entities whose state the in-memory indexes copy once the change is committed
+ */
+public record DataChanged(Set<String> tags, Set<String> deleted, List<Object> saved) {
+    /**
+     * Event of saved entities.
+     *
+     * @param tags {@link CacheTags} of the changed entities and of the entities embedding them
+     */
+    public DataChanged(Set<String> tags) {
+        this(tags, Set.of());
+    }
+
+    /**
+     * Event of saved and deleted entities.
+     *
+     * @param tags    {@link CacheTags} of the changed entities and of the entities embedding them
+     * @param deleted {@link CacheTags} of the deleted entities, including the ones deleted with them
+     */
+    public DataChanged(Set<String> tags, Set<String> deleted) {
+        this(tags, deleted, List.of());
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+/**
+ * A pair of owners that are likely the same person.
+ *
+ * @param ownerId          id of the owner
+ * @param duplicateOwnerId id of the likely duplicate
+ * @param score            similarity of the two owners between 0 and 1
+ */
+public record DuplicateOwner(Integer ownerId, Integer duplicateOwnerId, Double score) {
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.collection.IntHashSet;
+import io.helidon.samples.petclinic.model.Owner;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Finds owners that are likely the same person without comparing every pair of owners.
+ * <p>
+ * Each owner is put into blocks keyed by the Soundex code of the last name, the digits of the
+ * telephone number and the trigrams of the address. Only owners sharing a block are scored,
+ * and scoring runs in parallel on the fork/join common pool. Blocks larger than
+ * {@value #MAX_BLOCK_SIZE} owners, such as the trigram of a common street suffix, are too
+ * unselective to be useful and are skipped.
+ * <p>
+ * Saved and deleted owners are applied from the {@link DataChanged} events of committed transactions only, so a
+ * rolled back change neither drops a live owner nor adds a phantom one. The events observed while the owners are
+ * read by {@link #load(Supplier)} are applied again to the loaded rows, which may have been read before them.
+ */
+@ApplicationScoped
+public class DuplicateOwnerDetector {
+    /**
+     * Score from which two owners are reported as duplicates by default.
+     */
+    public static final double DEFAULT_MIN_SCORE = 0.75;
+
+    private static final int MAX_BLOCK_SIZE = 256;
+    private static final double LAST_NAME_WEIGHT = 0.3;
+    private static final double FIRST_NAME_WEIGHT = 0.2;
+    private static final double TELEPHONE_WEIGHT = 0.3;
+    private static final double ADDRESS_WEIGHT = 0.2;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> blocks = new ConcurrentHashMap<>();
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    // the changes observed while a load reads the owners, guarded by this
+    private List<DataChanged> changesDuringLoad;
+
+    /**
+     * Whether the index has been populated from the database.
+     *
+     * @return {@code true} once {@link #load(Supplier)} completed
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replace the content of the index with owner rows read from the database, unless it is loaded already. The
+     * changes committed while the rows are read are applied after them.
+     *
+     * @param rows reads the owner id, first name, last name, address, city and telephone of every owner
+     */
+    public void load(Supplier<List<Object[]>> rows) {
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            synchronized (this) {
+                changesDuringLoad = new ArrayList<>();
+            }
+            List<Object[]> read;
+            try {
+                read = rows.get();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringLoad = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                entries.clear();
+                blocks.clear();
+                for (var row : read) {
+                    add(new Entry((Integer) row[0], (String) row[1], (String) row[2],
+                            (String) row[3], (String) row[4], (String) row[5]));
+                }
+                changesDuringLoad.forEach(this::apply);
+                changesDuringLoad = null;
+                loaded = true;
+            }
+        }
+    }
+
+    /**
+     * Add an owner to the index or refresh its blocking keys after an update.
+     *
+     * @param owner saved owner
+     */
+    public synchronized void put(Owner owner) {
+        remove(owner.getId());
+        add(entry(owner));
+    }
+
+    /**
+     * Remove an owner from the index.
+     *
+     * @param ownerId id of the owner
+     */
+    public synchronized void remove(int ownerId) {
+        var entry = entries.remove(ownerId);
+        if (entry != null) {
+            for (var key : entry.keys()) {
+                blocks.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(ownerId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    synchronized void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        apply(event);
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(event);
+        }
+    }
+
+    private void apply(DataChanged event) {
+        for (var tag : event.deleted()) {
+            var ownerId = CacheTags.idOf(Owner.class, tag);
+            if (ownerId != null) {
+                remove(ownerId);
+            }
+        }
+        for (var entity : event.saved()) {
+            if (entity instanceof Owner owner) {
+                put(owner);
+            }
+        }
+    }
+
+    /**
+     * Find all likely duplicate pairs in the index.
+     *
+     * @param minScore minimum similarity score of a reported pair
+     * @return pairs ordered from the best match, each pair reported once with the lower id first
+     */
+    public List<DuplicateOwner> findDuplicates(double minScore) {
+        return entries.values()
+                .parallelStream()
+                .flatMap(entry -> candidates(entry)
+                        .filter(other -> other.id() > entry.id())
+                        .map(other -> new DuplicateOwner(entry.id(), other.id(), score(entry, other))))
+                .filter(duplicate -> duplicate.score() >= minScore)
+                .sorted(Comparator.comparing(DuplicateOwner::score).reversed()
+                                .thenComparing(DuplicateOwner::ownerId)
+                                .thenComparing(DuplicateOwner::duplicateOwnerId))
+                .toList();
+    }
+
+    /**
+     * Find the likely duplicates of a single owner, for example one that is just being added.
+     *
+     * @param owner    owner to check, does not need to be in the index
+     * @param minScore minimum similarity score of a reported duplicate
+     * @return duplicates ordered from the best match
+     */
+    public List<DuplicateOwner> findDuplicatesOf(Owner owner, double minScore) {
+        var entry = entry(owner);
+        return candidates(entry)
+                .filter(other -> !other.id().equals(entry.id()))
+                .map(other -> new DuplicateOwner(entry.id(), other.id(), score(entry, other)))
+                .filter(duplicate -> duplicate.score() >= minScore)
+                .sorted(Comparator.comparing(DuplicateOwner::score).reversed()
+                                .thenComparing(DuplicateOwner::duplicateOwnerId))
+                .toList();
+    }
+
+    private static Entry entry(Owner owner) {
+        return new Entry(owner.getId(), owner.getFirstName(), owner.getLastName(),
+                owner.getAddress(), owner.getCity(), owner.getTelephone());
+    }
+
+    private static double score(Entry first, Entry second) {
+        double score = LAST_NAME_WEIGHT * OwnerSimilarity.jaroWinkler(first.lastName(), second.lastName())
+                + FIRST_NAME_WEIGHT * OwnerSimilarity.jaroWinkler(first.firstName(), second.firstName())
+                + ADDRESS_WEIGHT * OwnerSimilarity.jaccard(first.addressTrigrams(), second.addressTrigrams());
+        if (!first.telephone().isEmpty() && first.telephone().equals(second.telephone())) {
+            score += TELEPHONE_WEIGHT;
+        }
+        return Math.round(score * 1000) / 1000.0;
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id(), entry);
+        for (var key : entry.keys()) {
+            blocks.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(entry.id());
+        }
+    }
+
+    private Stream<Entry> candidates(Entry entry) {
+        var ids = new IntHashSet();
+        for (var key : entry.keys()) {
+            var block = blocks.get(key);
+            if (block != null && block.size() <= MAX_BLOCK_SIZE) {
+                block.forEach(ids::add);
+            }
+        }
+        return ids.stream().mapToObj(entries::get).filter(Objects::nonNull);
+    }
+
+    private record Entry(Integer id, String firstName, String lastName, String telephone,
+                         Set<String> addressTrigrams, List<String> keys) {
+        Entry(Integer id, String firstName, String lastName, String address, String city, String telephone) {
+            this(id, nonNull(firstName), nonNull(lastName), OwnerTelephoneIndex.normalize(telephone),
+                    OwnerSimilarity.trigrams(nonNull(address) + " " + nonNull(city)),
+                    new ArrayList<>());
+            var phonetic = OwnerSimilarity.soundex(lastName());
+            if (!phonetic.isEmpty()) {
+                keys.add("n:" + phonetic);
+            }
+            if (!telephone().isEmpty()) {
+                keys.add("t:" + telephone());
+            }
+            for (var trigram : OwnerSimilarity.trigrams(nonNull(address))) {
+                keys.add("a:" + trigram);
+            }
+        }
+
+        private static String nonNull(String value) {
+            return value == null ? "" : value;
+        }
+    }
+}
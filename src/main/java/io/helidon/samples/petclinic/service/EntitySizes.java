@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.cache.Sized;
+import io.helidon.samples.petclinic.model.NamedEntity;
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Person;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.Vet;
+import io.helidon.samples.petclinic.model.Visit;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceUtil;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Estimates the heap bytes of the values loaded by {@link ClinicService} and of their keys: entities with the
+ * associations that are loaded, optional values and collections of them, strings and numbers.
+ * <p>
+ * Associations that are not loaded yet are not counted and never loaded, and the references back from pets to their
+ * owner and from visits to their pet are not followed. The estimates assume 16 byte object headers, 8 byte references
+ * and compact strings, and are meant to bound caches, not to measure them.
+ */
+final class EntitySizes {
+    private static final int HEADER = 16;
+    private static final int REFERENCE = 8;
+    private static final int STRING = 40;
+    private static final int LOCAL_DATE = 24;
+    private static final int NUMBER = 24;
+    private static final int COLLECTION = 48;
+    // object of unknown type
+    private static final int OTHER = 64;
+
+    private EntitySizes() {
+    }
+
+    /**
+     * Estimate the bytes of a value.
+     *
+     * @param value value, may be {@code null}
+     * @return estimated bytes
+     */
+    static long estimate(Object value) {
+        return estimate(Persistence.getPersistenceUtil(), value);
+    }
+
+    private static long estimate(PersistenceUtil persistence, Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Sized sized) {
+            return sized.estimatedBytes();
+        } else if (value instanceof Optional<?> optional) {
+            return HEADER + REFERENCE + estimate(persistence, optional.orElse(null));
+        } else if (value instanceof Collection<?> collection) {
+            long bytes = COLLECTION + (long) REFERENCE * collection.size();
+            for (var element : collection) {
+                bytes += estimate(persistence, element);
+            }
+            return bytes;
+        } else if (value instanceof String string) {
+            return STRING + string.length();
+        } else if (value instanceof LocalDate) {
+            return LOCAL_DATE;
+        } else if (value instanceof Number) {
+            return NUMBER;
+        } else if (value instanceof Owner owner) {
+            return person(owner) + 4 * REFERENCE + strings(owner.getAddress(), owner.getCity(), owner.getTelephone())
+                    + (persistence.isLoaded(owner, "pets") ? estimate(persistence, owner.getPets()) : 0);
+        } else if (value instanceof Pet pet) {
+            return named(pet) + 4 * REFERENCE + LOCAL_DATE
+                    + (persistence.isLoaded(pet, "type") ? estimate(persistence, pet.getType()) : 0)
+                    + (persistence.isLoaded(pet, "visits") ? estimate(persistence, pet.getVisits()) : 0);
+        } else if (value instanceof Visit visit) {
+            return HEADER + 4 * REFERENCE + LOCAL_DATE + strings(visit.getDescription());
+        } else if (value instanceof Vet vet) {
+            return person(vet) + REFERENCE
+                    + (persistence.isLoaded(vet, "specialties") ? estimate(persistence, vet.getSpecialties()) : 0);
+        } else if (value instanceof NamedEntity named) {
+            return named(named);
+        } else if (value instanceof byte[] bytes) {
+            return HEADER + bytes.length;
+        }
+        return OTHER;
+    }
+
+    private static long person(Person person) {
+        return HEADER + 3 * REFERENCE + strings(person.getFirstName(), person.getLastName());
+    }
+
+    private static long named(NamedEntity entity) {
+        return HEADER + 2 * REFERENCE + strings(entity.getName());
+    }
+
+    private static long strings(String... strings) {
+        long bytes = 0;
+        for (var string : strings) {
+            if (string != null) {
+                bytes += STRING + string.length();
+            }
+        }
+        return bytes;
+    }
+}
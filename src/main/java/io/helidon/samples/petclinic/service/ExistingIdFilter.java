@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.Visit;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ids of the owners, pets and visits in the database, one bit per id, so that a lookup of an id that does not exist
+ * is answered without a query. The ids are assigned by identity columns, so the bitmaps stay dense.
+ * <p>
+ * A set bit only means that the id may exist. Ids are added as soon as they are persisted, before their transaction
+ * commits, and removed once a committed {@link DataChanged} event lists them as deleted, so a rolled back
+ * transaction can leave an id that does not exist but never misses one that does. Until the ids of a type are
+ * loaded, any id of the type may exist.
+ * <p>
+ * Configured with {@code app.id-filter.enabled}. The {@code clinic.lookups.rejected} counter counts, per entity,
+ * the lookups answered without a query.
+ */
+@ApplicationScoped
+public class ExistingIdFilter {
+    private final boolean enabled;
+    private final Map<Class<?>, IdBitmap> bitmaps;
+
+    /**
+     * Create the filter.
+     *
+     * @param enabled whether lookups are filtered at all
+     * @param metrics registry of the rejected lookup counters
+     */
+    @Inject
+    public ExistingIdFilter(@ConfigProperty(name = "app.id-filter.enabled", defaultValue = "true") boolean enabled,
+                            MetricRegistry metrics) {
+        this.enabled = enabled;
+        this.bitmaps = Map.of(Owner.class, bitmap(metrics, Owner.class),
+                Pet.class, bitmap(metrics, Pet.class),
+                Visit.class, bitmap(metrics, Visit.class));
+    }
+
+    /**
+     * Whether the ids of a type need no loading, because they are loaded or not filtered.
+     *
+     * @param type entity type
+     * @return {@code false} if {@link #load(Class, Collection)} should be called first
+     */
+    public boolean isLoaded(Class<?> type) {
+        var bitmap = bitmaps.get(type);
+        return !enabled || bitmap == null || bitmap.loaded;
+    }
+
+    /**
+     * Add the ids of a type read from the database.
+     *
+     * @param type entity type
+     * @param ids  ids of all the entities of the type
+     */
+    public void load(Class<?> type, Collection<Integer> ids) {
+        var bitmap = bitmaps.get(type);
+        if (bitmap != null) {
+            // ids persisted meanwhile were added already, so the loaded ones are added rather than replacing them
+            bitmap.setAll(ids);
+            bitmap.loaded = true;
+        }
+    }
+
+    /**
+     * Whether an entity may exist. A lookup of an id that can not exist is counted as rejected.
+     *
+     * @param type entity type
+     * @param id   id of the entity
+     * @return {@code false} if the entity does not exist
+     */
+    public boolean mightExist(Class<?> type, int id) {
+        var bitmap = bitmaps.get(type);
+        if (!enabled || bitmap == null || !bitmap.loaded || bitmap.get(id)) {
+            return true;
+        }
+        bitmap.rejected.inc();
+        return false;
+    }
+
+    /**
+     * Add the id of a persisted entity.
+     *
+     * @param type entity type
+     * @param id   id of the entity
+     */
+    public void add(Class<?> type, int id) {
+        var bitmap = bitmaps.get(type);
+        if (bitmap != null) {
+            bitmap.set(id);
+        }
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        for (var tag : event.deleted()) {
+            bitmaps.forEach((type, bitmap) -> {
+                var id = CacheTags.idOf(type, tag);
+                if (id != null) {
+                    bitmap.clear(id);
+                }
+            });
+        }
+    }
+
+    private static IdBitmap bitmap(MetricRegistry metrics, Class<?> type) {
+        return new IdBitmap(metrics.counter("clinic.lookups.rejected", new Tag("entity", type.getSimpleName())));
+    }
+
+    /**
+     * Bits of the positive ids of a type. Reads are lock free, writes are serialized and replace the words with a
+     * larger copy when an id does not fit.
+     */
+    private static final class IdBitmap {
+        private final Counter rejected;
+        private volatile AtomicLongArray words = new AtomicLongArray(0);
+        private volatile boolean loaded;
+
+        private IdBitmap(Counter rejected) {
+            this.rejected = rejected;
+        }
+
+        boolean get(int id) {
+            var current = words;
+            int word = id >> 6;
+            return id > 0 && word < current.length() && (current.get(word) & (1L << id)) != 0;
+        }
+
+        synchronized void set(int id) {
+            if (id > 0) {
+                setInternal(id);
+            }
+        }
+
+        synchronized void setAll(Collection<Integer> ids) {
+            for (var id : ids) {
+                if (id != null && id > 0) {
+                    setInternal(id);
+                }
+            }
+        }
+
+        synchronized void clear(int id) {
+            int word = id >> 6;
+            if (id > 0 && word < words.length()) {
+                words.getAndUpdate(word, bits -> bits & ~(1L << id));
+            }
+        }
+
+        private void setInternal(int id) {
+            int word = id >> 6;
+            var current = words;
+            if (word >= current.length()) {
+                var grown = new AtomicLongArray(Math.max(word + 1, current.length() * 2));
+                for (int i = 0; i < current.length(); i++) {
+                    grown.set(i, current.get(i));
+                }
+                current = grown;
+                words = grown;
+            }
+            current.getAndUpdate(word, bits -> bits | (1L << id));
+        }
+    }
+}
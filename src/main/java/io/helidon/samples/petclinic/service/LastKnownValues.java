@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.cache.Cache;
+import io.helidon.samples.petclinic.cache.Caches;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Last value loaded by each {@link SingleFlight} key, served instead of a fresh one when its load fails or when a
+ * caller has waited for it longer than the latency budget, so that reads go on while the database is slow or down.
+ * The load that is still running refreshes the value for the next callers once it completes.
+ * <p>
+ * A stale read is recorded on the thread that served it, so the response can say so and caches do not keep what was
+ * built from it, see {@link #servedStale()} and {@link #takeStaleRead()}.
+ * <p>
+ * Configured with {@code app.stale.budget-ms}, the time a caller waits for a load before it gets the last known value,
+ * {@code 0} to never serve stale values, and {@code app.stale.max-bytes}, the estimated size of the values kept, see
+ * {@link EntitySizes}. The
+ * {@code clinic.loads.stale} counter counts the stale values served per method and the {@code clinic.loads.stale.keys}
+ * gauge the keys that were served stale since their last successful load.
+ */
+@ApplicationScoped
+public class LastKnownValues {
+    private final long budgetNanos;
+    private final Cache<Object, Known> values;
+    private final MetricRegistry metrics;
+    private final Set<Object> staleKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, Counter> staleCounters = new ConcurrentHashMap<>();
+    private final ThreadLocal<StaleRead> staleReads = new ThreadLocal<>();
+    private volatile Instant lastStaleRead;
+
+    /**
+     * Create the last known values.
+     *
+     * @param budgetMillis time in milliseconds a caller waits for a load before it gets the last known value,
+     *                     {@code 0} to never serve stale values
+     * @param maxBytes     estimated size in bytes of the values kept
+     * @param caches       creates the cache of the values
+     * @param metrics      registry of the stale read metrics
+     */
+    @Inject
+    public LastKnownValues(@ConfigProperty(name = "app.stale.budget-ms", defaultValue = "500") long budgetMillis,
+                           @ConfigProperty(name = "app.stale.max-bytes", defaultValue = "67108864") long maxBytes,
+                           Caches caches, MetricRegistry metrics) {
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(budgetMillis, 0));
+        this.values = budgetMillis > 0 ? caches.create("last-known", maxBytes, LastKnownValues::weigh) : null;
+        this.metrics = metrics;
+        if (values != null) {
+            metrics.gauge("clinic.loads.stale.keys", staleKeys, Set::size);
+        }
+    }
+
+    private static int weigh(Object key, Known known) {
+        // the entry, the known value and its instant
+        long bytes = 96 + EntitySizes.estimate(key) + EntitySizes.estimate(known.value());
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private LastKnownValues() {
+        this.budgetNanos = 0;
+        this.values = null;
+        this.metrics = null;
+    }
+
+    /**
+     * Last known values that are never kept nor served.
+     *
+     * @return disabled values
+     */
+    public static LastKnownValues disabled() {
+        return new LastKnownValues();
+    }
+
+    /**
+     * Time a caller waits for a load before it gets the last known value.
+     *
+     * @return budget in nanoseconds
+     */
+    public long budgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Last known value of a key.
+     *
+     * @param key key of the load
+     * @return last known value, {@code null} if there is none or stale values are never served
+     */
+    public Known get(Object key) {
+        return values == null ? null : values.getIfPresent(key);
+    }
+
+    /**
+     * Keep the value of a successful load, which ends the stale reads of its key.
+     *
+     * @param key   key of the load
+     * @param value loaded value
+     */
+    public void loaded(Object key, Object value) {
+        if (values != null) {
+            values.put(key, new Known(value, Instant.now()));
+            staleKeys.remove(key);
+        }
+    }
+
+    /**
+     * Serve the last known value of a key instead of loading it, and record the stale read on the current thread.
+     *
+     * @param method name of the loading method
+     * @param key    key of the load
+     * @param known  last known value of the key
+     * @param failed {@code true} if the load failed, {@code false} if it took longer than the budget
+     * @return the last known value
+     */
+    public Object serveStale(String method, Object key, Known known, boolean failed) {
+        staleCounters.computeIfAbsent(method, m -> metrics.counter("clinic.loads.stale", new Tag("method", m))).inc();
+        staleKeys.add(key);
+        lastStaleRead = Instant.now();
+        var previous = staleReads.get();
+        staleReads.set(previous == null
+                ? new StaleRead(known.loadedAt(), failed)
+                : new StaleRead(previous.loadedAt().isBefore(known.loadedAt()) ? previous.loadedAt() : known.loadedAt(),
+                        previous.failed() || failed));
+        return known.value();
+    }
+
+    /**
+     * Whether the current thread was served a stale value since the last {@link #takeStaleRead()}.
+     *
+     * @return {@code true} if a stale value was served
+     */
+    public boolean servedStale() {
+        return staleReads.get() != null;
+    }
+
+    /**
+     * Take the stale read recorded on the current thread, which clears it.
+     *
+     * @return oldest stale value served to the thread, {@code null} if there was none
+     */
+    public StaleRead takeStaleRead() {
+        var staleRead = staleReads.get();
+        staleReads.remove();
+        return staleRead;
+    }
+
+    /**
+     * Number of keys served stale since their last successful load.
+     *
+     * @return number of stale keys
+     */
+    public int staleKeys() {
+        return staleKeys.size();
+    }
+
+    /**
+     * Time of the last stale read.
+     *
+     * @return time, {@code null} if no stale value was served
+     */
+    public Instant lastStaleRead() {
+        return lastStaleRead;
+    }
+
+    /**
+     * A loaded value and the time it was loaded at.
+     *
+     * @param value    loaded value
+     * @param loadedAt time of the load
+     */
+    public record Known(Object value, Instant loadedAt) {
+    }
+
+    /**
+     * Stale values served to a thread.
+     *
+     * @param loadedAt load time of the oldest value served
+     * @param failed   {@code true} if a load failed, {@code false} if they all took longer than the budget
+     */
+    public record StaleRead(Instant loadedAt, boolean failed) {
+    }
+}
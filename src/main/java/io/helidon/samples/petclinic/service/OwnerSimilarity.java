@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * String similarity functions used to find duplicate owners.
+ */
+final class OwnerSimilarity {
+    //                                        ABCDEFGHIJKLMNOPQRSTUVWXYZ
+    private static final String SOUNDEX_CODES = "01230120022455012623010202";
+
+    private OwnerSimilarity() {
+    }
+
+    /**
+     * American Soundex code of a name, so that {@code Rodriquez} and {@code Rodriguez} share a code.
+     *
+     * @param name name to encode
+     * @return four character code, empty if the name contains no letters
+     */
+    static String soundex(String name) {
+        var code = new StringBuilder(4);
+        char last = 0;
+        for (int i = 0; i < name.length() && code.length() < 4; i++) {
+            char c = Character.toUpperCase(name.charAt(i));
+            if (c < 'A' || c > 'Z') {
+                continue;
+            }
+            char digit = SOUNDEX_CODES.charAt(c - 'A');
+            if (code.isEmpty()) {
+                code.append(c);
+                last = digit;
+                continue;
+            }
+            if (digit != '0' && digit != last) {
+                code.append(digit);
+            }
+            // H and W do not separate letters with the same code, vowels do
+            if (c != 'H' && c != 'W') {
+                last = digit;
+            }
+        }
+        if (code.isEmpty()) {
+            return "";
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Jaro-Winkler similarity of two strings, ignoring case.
+     *
+     * @param first  first string
+     * @param second second string
+     * @return similarity between 0 (nothing in common) and 1 (equal)
+     */
+    static double jaroWinkler(String first, String second) {
+        var a = first.toLowerCase(Locale.ROOT);
+        var b = second.toLowerCase(Locale.ROOT);
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int window = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        var aMatched = new boolean[a.length()];
+        var bMatched = new boolean[b.length()];
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(b.length(), i + window + 1);
+            for (int j = from; j < to; j++) {
+                if (!bMatched[j] && a.charAt(i) == b.charAt(j)) {
+                    aMatched[i] = true;
+                    bMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (aMatched[i]) {
+                while (!bMatched[j]) {
+                    j++;
+                }
+                if (a.charAt(i) != b.charAt(j)) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3.0;
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(a.length(), b.length())) && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1.0 - jaro);
+    }
+
+    /**
+     * Character trigrams of a text after lower casing it and reducing it to letters, digits and single spaces.
+     *
+     * @param text text to split
+     * @return set of trigrams, empty for blank text
+     */
+    static Set<String> trigrams(String text) {
+        var normalized = new StringBuilder(text.length() + 2).append(' ');
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            } else if (normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        if (normalized.charAt(normalized.length() - 1) != ' ') {
+            normalized.append(' ');
+        }
+        var trigrams = new HashSet<String>();
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            trigrams.add(normalized.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Jaccard similarity of two sets.
+     *
+     * @param first  first set
+     * @param second second set
+     * @return size of the intersection divided by size of the union, 0 if both are empty
+     */
+    static double jaccard(Set<String> first, Set<String> second) {
+        if (first.isEmpty() && second.isEmpty()) {
+            return 0.0;
+        }
+        var smaller = first.size() <= second.size() ? first : second;
+        var larger = smaller == first ? second : first;
+        int common = 0;
+        for (var element : smaller) {
+            if (larger.contains(element)) {
+                common++;
+            }
+        }
+        return (double) common / (first.size() + second.size() - common);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory caller-ID index from telephone numbers to owner ids.
+ * <p>
+ * Numbers are normalized to their digits and packed into a {@code long} key, so a lookup
+ * is a primitive hash probe that does not allocate. Reads are optimistic and only fall back
+ * to a read lock when they race with a write.
+ * <p>
+ * The index is a hint, not the source of truth: callers verify the owner it points to and
+ * fall back to the database when it misses or is stale.
+ */
+@ApplicationScoped
+public class OwnerTelephoneIndex {
+    /**
+     * A leading marker digit keeps leading zeros significant, so the key fits 18 digits.
+     */
+    private static final int MAX_DIGITS = 18;
+    private static final long NO_KEY = 0L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile boolean loaded;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Strip everything but digits from a telephone number.
+     *
+     * @param telephone telephone number as entered, may be {@code null}
+     * @return digits of the number, empty if there are none
+     */
+    public static String normalize(String telephone) {
+        if (telephone == null) {
+            return "";
+        }
+        var digits = new StringBuilder(telephone.length());
+        for (int i = 0; i < telephone.length(); i++) {
+            var c = telephone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Whether the index has been populated from the database.
+     *
+     * @return {@code true} once {@link #load(List)} completed
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replace the content of the index with owner rows read from the database.
+     *
+     * @param rows pairs of owner id and telephone number
+     */
+    public void load(List<Object[]> rows) {
+        long stamp = lock.writeLock();
+        try {
+            int capacity = INITIAL_CAPACITY;
+            while (capacity < rows.size() * 2) {
+                capacity <<= 1;
+            }
+            keys = new long[capacity];
+            values = new int[capacity];
+            size = 0;
+            for (var row : rows) {
+                long key = key((String) row[1]);
+                if (key != NO_KEY) {
+                    insert(key, (Integer) row[0]);
+                }
+            }
+            loaded = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Find the owner registered with a telephone number.
+     *
+     * @param telephone telephone number, formatting characters are ignored
+     * @return owner id if the number is indexed
+     */
+    public OptionalInt find(String telephone) {
+        long key = key(telephone);
+        if (key == NO_KEY) {
+            return OptionalInt.empty();
+        }
+        long stamp = lock.tryOptimisticRead();
+        int ownerId = probe(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                ownerId = probe(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return ownerId < 0 ? OptionalInt.empty() : OptionalInt.of(ownerId);
+    }
+
+    /**
+     * Register an owner under a telephone number, replacing any previous owner of the number.
+     *
+     * @param telephone telephone number
+     * @param ownerId   id of the owner
+     */
+    public void put(String telephone, int ownerId) {
+        long key = key(telephone);
+        if (key == NO_KEY) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length << 1);
+            }
+            insert(key, ownerId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove a telephone number from the index if it still points to the given owner.
+     *
+     * @param telephone telephone number
+     * @param ownerId   id of the owner
+     */
+    public void remove(String telephone, int ownerId) {
+        long key = key(telephone);
+        if (key == NO_KEY) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != NO_KEY) {
+                if (keys[slot] == key) {
+                    if (values[slot] == ownerId) {
+                        delete(slot, mask);
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static long key(String telephone) {
+        long key = 1;
+        int digits = 0;
+        if (telephone == null) {
+            return NO_KEY;
+        }
+        for (int i = 0; i < telephone.length(); i++) {
+            var c = telephone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return NO_KEY;
+                }
+                key = key * 10 + (c - '0');
+            }
+        }
+        return digits == 0 ? NO_KEY : key;
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private int probe(long key) {
+        var currentKeys = keys;
+        var currentValues = values;
+        if (currentKeys.length != currentValues.length) {
+            return -1;
+        }
+        int mask = currentKeys.length - 1;
+        int slot = slot(key, mask);
+        for (int i = 0; i < currentKeys.length; i++) {
+            long candidate = currentKeys[slot];
+            if (candidate == key) {
+                return currentValues[slot];
+            }
+            if (candidate == NO_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long key, int ownerId) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != NO_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == NO_KEY) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = ownerId;
+    }
+
+    private void delete(int slot, int mask) {
+        // backward shift deletion keeps probe sequences intact without tombstones
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != NO_KEY) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = NO_KEY;
+        values[hole] = 0;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != NO_KEY) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.cache.TaggedCache;
+import io.helidon.samples.petclinic.collection.IntArrayList;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.Config;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ids of the results of parameterized named queries, by query and bound parameters, with the dependency tags of
+ * each result.
+ * <p>
+ * A hit loads the entities by their ids, which the persistence context or a primary key lookup answers, instead of
+ * running the query again. A result is tagged with the {@link CacheTags} given by its finder and with the tags of
+ * the entities it contains, and is removed as soon as a {@link DataChanged} event with one of its tags is committed.
+ * A result loaded while such a change commits is not stored, and results are neither read nor stored within a
+ * transaction, as it may not be committed.
+ * <p>
+ * Each named query has its own {@link TaggedCache}, {@code query.<query>} in the cache metrics, of at most
+ * {@code app.query-cache.<query>.max-bytes} bytes, by default {@code app.query-cache.max-bytes}, {@code 0} disables
+ * it for the query. A result weighs {@value #RESULT_BYTES} bytes plus {@value #PARAMETER_BYTES} per parameter and
+ * {@value #ID_BYTES} per id, which counts the tag of the id.
+ */
+@ApplicationScoped
+public class QueryResultCache {
+    private static final String PREFIX = "app.query-cache.";
+    private static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+    // the entry, the parameter list, the id list and the tag set of a result
+    private static final int RESULT_BYTES = 160;
+    private static final int PARAMETER_BYTES = 32;
+    // the id, and the tag string and index entries of the id
+    private static final int ID_BYTES = 4 + 96;
+
+    private final ToLongFunction<String> maxBytes;
+    private final Caches caches;
+    private final BooleanSupplier inTransaction;
+    private final Map<String, Optional<TaggedCache<List<?>, IntArrayList>>> queries = new ConcurrentHashMap<>();
+
+    @Inject
+    public QueryResultCache(Config config, Caches caches, Instance<TransactionSynchronizationRegistry> transactions) {
+        this(query -> config.getOptionalValue(PREFIX + query + ".max-bytes", Long.class)
+                        .or(() -> config.getOptionalValue(PREFIX + "max-bytes", Long.class))
+                        .orElse(DEFAULT_MAX_BYTES),
+                caches,
+                () -> transactions.isResolvable()
+                        && transactions.get().getTransactionStatus() != Status.STATUS_NO_TRANSACTION);
+    }
+
+    /**
+     * Create a query result cache.
+     *
+     * @param maxBytes      maximum weight of the results kept for a named query, {@code 0} to not cache it
+     * @param caches        creates the caches of the queries
+     * @param inTransaction whether the current thread is in a transaction
+     */
+    public QueryResultCache(ToLongFunction<String> maxBytes, Caches caches, BooleanSupplier inTransaction) {
+        this.maxBytes = maxBytes;
+        this.caches = caches;
+        this.inTransaction = inTransaction;
+    }
+
+    /**
+     * Find the results of a named query, from the ids of its cached result if there is one.
+     *
+     * @param query      name of the named query
+     * @param parameters bound parameters of the query, compared with {@link Object#equals(Object)}
+     * @param type       entity type of the results, whose {@link CacheTags} the result is tagged with
+     * @param tags       {@link CacheTags} of the changes that may add results to the query
+     * @param idOf       id of a result
+     * @param run        runs the query
+     * @param findByIds  loads the results by their ids, in the order of the ids
+     * @param <T>        result type
+     * @return results of the query
+     */
+    public <T> List<T> find(String query, List<?> parameters, Class<?> type, Set<String> tags,
+                            ToIntFunction<T> idOf, Supplier<List<T>> run, Function<List<Integer>, List<T>> findByIds) {
+        var cache = queries.computeIfAbsent(query, this::cache).orElse(null);
+        if (cache == null || inTransaction.getAsBoolean()) {
+            return run.get();
+        }
+        var cached = cache.get(parameters);
+        if (cached != null) {
+            return findByIds.apply(cached.toList());
+        }
+        long generation = cache.generation();
+        var results = run.get();
+        var ids = new IntArrayList(results.size());
+        var resultTags = new HashSet<>(tags);
+        for (var result : results) {
+            int id = idOf.applyAsInt(result);
+            ids.add(id);
+            resultTags.add(CacheTags.of(type, id));
+        }
+        cache.put(List.copyOf(parameters), ids, resultTags, generation);
+        return results;
+    }
+
+    /**
+     * Remove the results with any of the tags.
+     *
+     * @param tags dependency tags
+     */
+    public void invalidate(Set<String> tags) {
+        for (var cache : queries.values()) {
+            cache.ifPresent(c -> c.invalidate(tags));
+        }
+    }
+
+    /**
+     * Number of cached results of a named query.
+     *
+     * @param query name of the named query
+     * @return size
+     */
+    public int size(String query) {
+        var cache = queries.getOrDefault(query, Optional.empty());
+        return cache.map(c -> (int) c.size()).orElse(0);
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        invalidate(event.tags());
+    }
+
+    private Optional<TaggedCache<List<?>, IntArrayList>> cache(String query) {
+        long max = maxBytes.applyAsLong(query);
+        if (max <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(caches.createTagged("query." + query, max, (parameters, ids) -> RESULT_BYTES
+                + PARAMETER_BYTES * parameters.size() + ID_BYTES * ids.size()));
+    }
+}
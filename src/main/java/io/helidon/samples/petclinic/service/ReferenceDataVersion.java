@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.PetType;
+import io.helidon.samples.petclinic.model.Specialty;
+import io.helidon.samples.petclinic.model.Vet;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the pet types, specialties and vets, incremented after every committed change to them.
+ * <p>
+ * A value derived from the reference data is current as long as the version read before loading the data
+ * is still the current version. The version only changes once the change is committed, so a value loaded
+ * concurrently with a change is never taken for current.
+ */
+@ApplicationScoped
+public class ReferenceDataVersion {
+    private static final Set<String> REFERENCE_TAGS = Set.of(CacheTags.of(PetType.class),
+            CacheTags.of(Specialty.class), CacheTags.of(Vet.class));
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Current version.
+     *
+     * @return version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        if (event.tags().stream().anyMatch(REFERENCE_TAGS::contains)) {
+            version.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs one load per key at a time. Callers asking for a key while it is being loaded wait for that load and get
+ * its result, or its exception, instead of loading it again, which costs a parked virtual thread rather than a
+ * database call.
+ * <p>
+ * The shared result is the same instance for all the callers, so it must not be modified. Loads within a
+ * transaction are never shared, as their entities belong to the persistence context of the transaction.
+ * <p>
+ * The {@code clinic.loads} and {@code clinic.loads.coalesced} counters count, per method, the loads that were run
+ * and the calls that waited for another load instead.
+ * <p>
+ * With {@link LastKnownValues} enabled, a failed load returns the last known value of its key instead of its
+ * exception, and a caller that waited for another load longer than the latency budget returns it without waiting
+ * for the end of the load, which goes on and refreshes the value for the next callers.
+ */
+@ApplicationScoped
+public class SingleFlight {
+    private final MetricRegistry metrics;
+    private final BooleanSupplier inTransaction;
+    private final LastKnownValues lastKnown;
+    private final Map<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<String, MethodStats> stats = new ConcurrentHashMap<>();
+
+    @Inject
+    public SingleFlight(MetricRegistry metrics, Instance<TransactionSynchronizationRegistry> transactions,
+                        LastKnownValues lastKnown) {
+        this(metrics, () -> transactions.isResolvable()
+                && transactions.get().getTransactionStatus() != Status.STATUS_NO_TRANSACTION, lastKnown);
+    }
+
+    /**
+     * Create a single flight.
+     *
+     * @param metrics       registry of the load counters
+     * @param inTransaction whether the current thread is in a transaction
+     */
+    public SingleFlight(MetricRegistry metrics, BooleanSupplier inTransaction) {
+        this(metrics, inTransaction, LastKnownValues.disabled());
+    }
+
+    /**
+     * Create a single flight serving the last known values when loads fail or are slow.
+     *
+     * @param metrics       registry of the load counters
+     * @param inTransaction whether the current thread is in a transaction
+     * @param lastKnown     last known values of the loads
+     */
+    public SingleFlight(MetricRegistry metrics, BooleanSupplier inTransaction, LastKnownValues lastKnown) {
+        this.metrics = metrics;
+        this.inTransaction = inTransaction;
+        this.lastKnown = lastKnown;
+    }
+
+    /**
+     * Load a value, or wait for the load of the same key in progress.
+     *
+     * @param method name of the loading method
+     * @param key    arguments of the load, compared with {@link Object#equals(Object)}
+     * @param loader loads the value
+     * @param <T>    value type
+     * @return loaded value, shared with the callers that waited for it, or the last known value if the load failed
+     *         or took longer than the latency budget
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String method, Object key, Supplier<T> loader) {
+        if (inTransaction.getAsBoolean()) {
+            return loader.get();
+        }
+        var methodStats = stats(method);
+        var flightKey = new FlightKey(method, key);
+        var flight = new Flight(new CompletableFuture<>(), System.nanoTime());
+        var inFlight = flights.putIfAbsent(flightKey, flight);
+        if (inFlight != null) {
+            methodStats.coalesced().inc();
+            var known = lastKnown.get(flightKey);
+            return (T) (known == null ? await(inFlight.result()) : awaitOrStale(method, flightKey, inFlight, known));
+        }
+        methodStats.loads().inc();
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(flightKey, flight);
+            flight.result().completeExceptionally(e);
+            var known = lastKnown.get(flightKey);
+            if (known == null || e instanceof Error) {
+                throw e;
+            }
+            return (T) lastKnown.serveStale(method, flightKey, known, true);
+        }
+        lastKnown.loaded(flightKey, value);
+        // removed before completing, so a caller that comes after the result loads it again
+        flights.remove(flightKey, flight);
+        flight.result().complete(value);
+        return value;
+    }
+
+    /**
+     * Whether the current thread was served a last known value instead of a loaded one, so what is built from it
+     * must not be cached.
+     *
+     * @return {@code true} if a stale value was served
+     */
+    public boolean servedStale() {
+        return lastKnown.servedStale();
+    }
+
+    private Object awaitOrStale(String method, FlightKey flightKey, Flight flight, LastKnownValues.Known known) {
+        var remaining = flight.startedNanos() + lastKnown.budgetNanos() - System.nanoTime();
+        try {
+            return flight.result().get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return lastKnown.serveStale(method, flightKey, known, false);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            return lastKnown.serveStale(method, flightKey, known, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return lastKnown.serveStale(method, flightKey, known, false);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private MethodStats stats(String method) {
+        return stats.computeIfAbsent(method, m -> {
+            var tag = new Tag("method", m);
+            return new MethodStats(metrics.counter("clinic.loads", tag), metrics.counter("clinic.loads.coalesced", tag));
+        });
+    }
+
+    private record FlightKey(String method, Object key) {
+    }
+
+    private record Flight(CompletableFuture<Object> result, long startedNanos) {
+    }
+
+    private record MethodStats(Counter loads, Counter coalesced) {
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Readiness check reporting whether {@link LastKnownValues} are served instead of loaded ones. It is always up, as an
+ * instance serving stale data still answers, so it is kept in rotation while the database recovers.
+ */
+@Readiness
+@ApplicationScoped
+public class StaleDataCheck implements HealthCheck {
+    private final LastKnownValues lastKnown;
+
+    @Inject
+    public StaleDataCheck(LastKnownValues lastKnown) {
+        this.lastKnown = lastKnown;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        var staleKeys = lastKnown.staleKeys();
+        var lastStaleRead = lastKnown.lastStaleRead();
+        return HealthCheckResponse.named("stale-data")
+                .up()
+                .withData("servingStale", staleKeys > 0)
+                .withData("staleKeys", staleKeys)
+                .withData("lastStaleRead", lastStaleRead == null ? "never" : lastStaleRead.toString())
+                .build();
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.collection.IntArrayList;
+import io.helidon.samples.petclinic.collection.IntObjectMap;
+import io.helidon.samples.petclinic.model.Specialty;
+import io.helidon.samples.petclinic.model.Vet;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of the specialties of each vet.
+ * <p>
+ * Every specialty is given a bit position and every vet is stored as a {@code long[]} bitset of its
+ * specialties, so matching a vet against a set of required specialties is one {@code AND} per 64
+ * specialties. An inverse posting list of vet ids per specialty lists the vets of one specialty and
+ * narrows the candidates of an all-of match to the vets of its rarest specialty. Bit positions of
+ * removed specialties are reused. Both are held in primitive {@code int} keyed maps and sorted {@code int} lists,
+ * so the index neither boxes ids nor allocates a node per vet and specialty.
+ * <p>
+ * Saved and deleted vets and specialties are applied from the {@link DataChanged} events of committed transactions
+ * only, so a rolled back change never hides a vet from the searches by specialty. The events observed while the rows
+ * are read by {@link #load(Supplier, Supplier)} are applied again to the loaded rows, which may have been read before
+ * them.
+ */
+@ApplicationScoped
+public class VetSpecialtyIndex {
+    private final IntObjectMap<Posting> postings = new IntObjectMap<>();
+    private final Map<String, Integer> specialtyIds = new HashMap<>();
+    private final BitSet usedBits = new BitSet();
+    private final IntObjectMap<long[]> vets = new IntObjectMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    // the changes observed while a load reads the rows, guarded by the lock
+    private List<DataChanged> changesDuringLoad;
+
+    /**
+     * Whether the index has been populated from the database.
+     *
+     * @return {@code true} once {@link #load(Supplier, Supplier)} completed
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replace the content of the index with rows read from the database, unless it is loaded already. The changes
+     * committed while the rows are read are applied after them.
+     *
+     * @param specialties    reads the id and name of every specialty
+     * @param vetSpecialties reads the vet id and specialty id of every vet, the specialty id is {@code null} for a vet
+     *                       without specialties
+     */
+    public void load(Supplier<List<Object[]>> specialties, Supplier<List<Object[]>> vetSpecialties) {
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            setChangesDuringLoad(new ArrayList<>());
+            List<Object[]> specialtyRows;
+            List<Object[]> vetSpecialtyRows;
+            try {
+                specialtyRows = specialties.get();
+                vetSpecialtyRows = vetSpecialties.get();
+            } catch (RuntimeException e) {
+                setChangesDuringLoad(null);
+                throw e;
+            }
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                specialtyIds.clear();
+                usedBits.clear();
+                vets.clear();
+                for (var row : specialtyRows) {
+                    addSpecialty((Integer) row[0], (String) row[1]);
+                }
+                for (var row : vetSpecialtyRows) {
+                    int vetId = (Integer) row[0];
+                    var words = vets.computeIfAbsent(vetId, id -> new long[0]);
+                    if (row[1] != null) {
+                        vets.put(vetId, addSpecialtyToVet(vetId, words, (Integer) row[1]));
+                    }
+                }
+                changesDuringLoad.forEach(this::apply);
+                changesDuringLoad = null;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Add a specialty to the index or update its name.
+     *
+     * @param specialtyId id of the specialty
+     * @param name        name of the specialty
+     */
+    public void putSpecialty(int specialtyId, String name) {
+        lock.writeLock().lock();
+        try {
+            specialtyIds.values().remove(specialtyId);
+            addSpecialty(specialtyId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a specialty from the index and from all vets that have it.
+     *
+     * @param specialtyId id of the specialty
+     */
+    public void removeSpecialty(int specialtyId) {
+        lock.writeLock().lock();
+        try {
+            specialtyIds.values().remove(specialtyId);
+            var posting = postings.remove(specialtyId);
+            if (posting == null) {
+                return;
+            }
+            int bit = posting.bit();
+            posting.vetIds().forEach(vetId -> {
+                var words = vets.get(vetId);
+                if (words != null && bit >> 6 < words.length) {
+                    words[bit >> 6] &= ~(1L << bit);
+                }
+            });
+            usedBits.clear(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a vet to the index or replace its specialties after an update.
+     *
+     * @param vetId        id of the vet
+     * @param specialtyIds ids of the specialties of the vet
+     */
+    public void putVet(int vetId, Collection<Integer> specialtyIds) {
+        lock.writeLock().lock();
+        try {
+            removeVetInternal(vetId);
+            var words = new long[0];
+            for (var specialtyId : specialtyIds) {
+                words = addSpecialtyToVet(vetId, words, specialtyId);
+            }
+            vets.put(vetId, words);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a vet from the index.
+     *
+     * @param vetId id of the vet
+     */
+    public void removeVet(int vetId) {
+        lock.writeLock().lock();
+        try {
+            removeVetInternal(vetId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void changed(@Observes(during = TransactionPhase.AFTER_SUCCESS) DataChanged event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setChangesDuringLoad(List<DataChanged> changes) {
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(DataChanged event) {
+        for (var tag : event.deleted()) {
+            var vetId = CacheTags.idOf(Vet.class, tag);
+            if (vetId != null) {
+                removeVet(vetId);
+            }
+            var specialtyId = CacheTags.idOf(Specialty.class, tag);
+            if (specialtyId != null) {
+                removeSpecialty(specialtyId);
+            }
+        }
+        // specialties first, so a saved vet finds the bit of a specialty saved with it
+        for (var entity : event.saved()) {
+            if (entity instanceof Specialty specialty) {
+                putSpecialty(specialty.getId(), specialty.getName());
+            }
+        }
+        for (var entity : event.saved()) {
+            if (entity instanceof Vet vet) {
+                putVet(vet.getId(), vet.getSpecialties().stream().map(Specialty::getId).toList());
+            }
+        }
+    }
+
+    /**
+     * Find the vets having the given specialties.
+     *
+     * @param specialtyNames names of the specialties
+     * @param matchAll       {@code true} if a vet must have all the specialties, {@code false} if any one is enough
+     * @return ids of the matching vets in ascending order, empty if an all-of match names an unknown specialty
+     */
+    public List<Integer> findVets(Collection<String> specialtyNames, boolean matchAll) {
+        lock.readLock().lock();
+        try {
+            var mask = new long[0];
+            IntArrayList candidates = null;
+            for (var name : specialtyNames) {
+                var specialtyId = specialtyIds.get(name);
+                if (specialtyId == null) {
+                    if (matchAll) {
+                        return List.of();
+                    }
+                    continue;
+                }
+                var posting = postings.get(specialtyId);
+                mask = setBit(mask, posting.bit());
+                if (matchAll && (candidates == null || posting.vetIds().size() < candidates.size())) {
+                    candidates = posting.vetIds();
+                }
+            }
+            if (candidates == null) {
+                candidates = vets.sortedKeys();
+            }
+            var result = new ArrayList<Integer>();
+            for (int i = 0; i < candidates.size(); i++) {
+                int vetId = candidates.get(i);
+                if (matches(vets.get(vetId), mask, matchAll)) {
+                    result.add(vetId);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the vets having a specialty.
+     *
+     * @param specialtyId id of the specialty
+     * @return ids of the vets in ascending order
+     */
+    public List<Integer> findVets(int specialtyId) {
+        lock.readLock().lock();
+        try {
+            var posting = postings.get(specialtyId);
+            return posting == null ? List.of() : posting.vetIds().toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addSpecialty(int specialtyId, String name) {
+        specialtyIds.put(name, specialtyId);
+        postings.computeIfAbsent(specialtyId, id -> {
+            int bit = usedBits.nextClearBit(0);
+            usedBits.set(bit);
+            return new Posting(bit, new IntArrayList());
+        });
+    }
+
+    private long[] addSpecialtyToVet(int vetId, long[] words, int specialtyId) {
+        var posting = postings.get(specialtyId);
+        if (posting == null) {
+            return words;
+        }
+        posting.vetIds().addSorted(vetId);
+        return setBit(words, posting.bit());
+    }
+
+    private void removeVetInternal(int vetId) {
+        if (vets.remove(vetId) != null) {
+            postings.forEachValue(posting -> posting.vetIds().removeSorted(vetId));
+        }
+    }
+
+    private static long[] setBit(long[] words, int bit) {
+        int word = bit >> 6;
+        if (word >= words.length) {
+            var grown = new long[word + 1];
+            System.arraycopy(words, 0, grown, 0, words.length);
+            words = grown;
+        }
+        words[word] |= 1L << bit;
+        return words;
+    }
+
+    private static boolean matches(long[] words, long[] mask, boolean matchAll) {
+        if (words == null) {
+            return false;
+        }
+        for (int i = 0; i < mask.length; i++) {
+            long word = i < words.length ? words[i] : 0L;
+            if (matchAll && (word & mask[i]) != mask[i]) {
+                return false;
+            }
+            if (!matchAll && (word & mask[i]) != 0) {
+                return true;
+            }
+        }
+        return matchAll;
+    }
+
+    /**
+     * Bit position of a specialty and the ids of its vets in ascending order.
+     */
+    private record Posting(int bit, IntArrayList vetIds) {
+    }
+}
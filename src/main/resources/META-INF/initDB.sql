@@ -7,6 +7,7 @@ DROP TABLE types IF EXISTS;
 DROP TABLE owners IF EXISTS;
 DROP TABLE roles IF EXISTS;
 DROP TABLE users IF EXISTS;
+DROP TABLE change_counters IF EXISTS;
 
 CREATE TABLE vets (id INTEGER IDENTITY PRIMARY KEY, first_name VARCHAR(30), last_name VARCHAR(30));
 CREATE INDEX vets_last_name ON vets (last_name);
@@ -23,15 +24,18 @@ CREATE INDEX types_name ON types (name);
 
 CREATE TABLE owners (id INTEGER IDENTITY PRIMARY KEY, first_name VARCHAR(30), last_name VARCHAR_IGNORECASE(30), address VARCHAR(255), city VARCHAR(80), telephone VARCHAR(20));
 CREATE INDEX owners_last_name ON owners (last_name);
+CREATE INDEX owners_telephone ON owners (telephone);
 
 CREATE TABLE pets (id INTEGER IDENTITY PRIMARY KEY, name VARCHAR(30), birth_date DATE, type_id INTEGER NOT NULL, owner_id INTEGER NOT NULL);
 ALTER TABLE pets ADD CONSTRAINT fk_pets_owners FOREIGN KEY (owner_id) REFERENCES owners (id);
 ALTER TABLE pets ADD CONSTRAINT fk_pets_types FOREIGN KEY (type_id) REFERENCES types (id);
 CREATE INDEX pets_name ON pets (name);
+CREATE INDEX pets_type_id_birth_date ON pets (type_id, birth_date);
 
 CREATE TABLE visits (id INTEGER IDENTITY PRIMARY KEY, pet_id INTEGER NOT NULL, visit_date DATE, description VARCHAR(255));
 ALTER TABLE visits ADD CONSTRAINT fk_visits_pets FOREIGN KEY (pet_id) REFERENCES pets (id);
-CREATE INDEX visits_pet_id ON visits (pet_id);
+CREATE INDEX visits_pet_id_visit_date ON visits (pet_id, visit_date);
+CREATE INDEX visits_visit_date ON visits (visit_date);
 
 CREATE  TABLE users (username VARCHAR(20) NOT NULL, password VARCHAR(20) NOT NULL, enabled BOOLEAN DEFAULT TRUE NOT NULL, PRIMARY KEY (username));
 
@@ -39,3 +43,4 @@ CREATE TABLE roles (id INTEGER IDENTITY PRIMARY KEY, username VARCHAR(20) NOT NU
 ALTER TABLE roles ADD CONSTRAINT fk_username FOREIGN KEY (username) REFERENCES users (username);
 CREATE INDEX fk_username_idx ON roles (username);
 
+CREATE TABLE change_counters (name VARCHAR(30) PRIMARY KEY, changes BIGINT DEFAULT 0 NOT NULL);
@@ -57,3 +57,10 @@ INSERT INTO users(username,password,enabled) VALUES ('admin','{noop}admin', true
 INSERT INTO roles (username, role) VALUES ('admin', 'ROLE_OWNER_ADMIN');
 INSERT INTO roles (username, role) VALUES ('admin', 'ROLE_VET_ADMIN');
 INSERT INTO roles (username, role) VALUES ('admin', 'ROLE_ADMIN');
+
+INSERT INTO change_counters (name) VALUES ('Owner');
+INSERT INTO change_counters (name) VALUES ('Pet');
+INSERT INTO change_counters (name) VALUES ('Visit');
+INSERT INTO change_counters (name) VALUES ('Vet');
+INSERT INTO change_counters (name) VALUES ('PetType');
+INSERT INTO change_counters (name) VALUES ('Specialty');
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CachesTest {
+
+    @Test
+    void testCreatesCacheOfPolicy() {
+        var metrics = Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS);
+
+        assertThat(new Caches(Caches.TINY_LFU, metrics).create("owners", 100, Weigher.singleton()),
+                instanceOf(TinyLfuCache.class));
+        assertThat(new Caches(Caches.LRU, metrics).create("owners", 100, Weigher.singleton()),
+                instanceOf(LruCache.class));
+        assertThrows(IllegalArgumentException.class, () -> new Caches("fifo", metrics));
+    }
+
+    @Test
+    void testPublishesMetrics() {
+        var metrics = Mockito.mock(MetricRegistry.class);
+        var hits = Mockito.mock(Counter.class);
+        var misses = Mockito.mock(Counter.class);
+        var evictions = Mockito.mock(Counter.class);
+        var evictedWeight = Mockito.mock(Counter.class);
+        var tag = new Tag("cache", "owners");
+        Mockito.when(metrics.counter("cache.hits", tag)).thenReturn(hits);
+        Mockito.when(metrics.counter("cache.misses", tag)).thenReturn(misses);
+        Mockito.when(metrics.counter("cache.evictions", tag)).thenReturn(evictions);
+        Mockito.when(metrics.counter("cache.evictions.weight", tag)).thenReturn(evictedWeight);
+        var cache = new Caches(Caches.LRU, metrics).<Integer, byte[]>create("owners", 100, (key, value) -> value.length);
+
+        cache.getIfPresent(1);
+        cache.put(1, new byte[60]);
+        cache.getIfPresent(1);
+        cache.put(2, new byte[60]);
+
+        Mockito.verify(misses).inc();
+        Mockito.verify(hits).inc();
+        Mockito.verify(evictions).inc();
+        Mockito.verify(evictedWeight).inc(60);
+        Mockito.verify(metrics).gauge(ArgumentMatchers.eq("cache.weight"), ArgumentMatchers.eq(cache),
+                ArgumentMatchers.any(), ArgumentMatchers.eq(tag));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class FrequencySketchTest {
+
+    @Test
+    void testCountsIncrements() {
+        var sketch = new FrequencySketch();
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("owner 1");
+        }
+
+        assertThat(sketch.frequency("owner 1"), is(5));
+        assertThat(sketch.frequency("owner 2"), lessThan(5));
+    }
+
+    @Test
+    void testSaturates() {
+        var sketch = new FrequencySketch();
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(42);
+        }
+
+        assertThat(sketch.frequency(42), is(15));
+    }
+
+    @Test
+    void testHalvesAfterSample() {
+        var sketch = new FrequencySketch();
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(-1);
+        }
+        // the table of 16 longs is reset after 160 counted increments
+        for (int i = 0; i < 160; i++) {
+            sketch.increment(i);
+        }
+
+        assertThat(sketch.frequency(-1), lessThan(8));
+    }
+}
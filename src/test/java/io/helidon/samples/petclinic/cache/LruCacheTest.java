@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class LruCacheTest {
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        var stats = Mockito.mock(StatsCounter.class);
+        var cache = new LruCache<Integer, String>(2, Weigher.singleton(), stats);
+        cache.put(1, "owner 1");
+        cache.put(2, "owner 2");
+        cache.getIfPresent(1);
+        cache.put(3, "owner 3");
+
+        assertThat(cache.getIfPresent(2), nullValue());
+        assertThat(cache.getIfPresent(1), is("owner 1"));
+        assertThat(cache.getIfPresent(3), is("owner 3"));
+        Mockito.verify(stats).recordEviction(1);
+    }
+
+    @Test
+    void testBoundedByWeight() {
+        var cache = new LruCache<Integer, byte[]>(1000, (key, value) -> value.length, StatsCounter.DISABLED);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, new byte[50]);
+        }
+        cache.put(1, new byte[500]);
+        cache.invalidate(99);
+
+        assertThat(cache.weightedSize(), is(950L));
+        assertThat(cache.estimatedSize(), is(10L));
+    }
+}
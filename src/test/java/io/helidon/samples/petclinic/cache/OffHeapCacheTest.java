@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class OffHeapCacheTest {
+
+    @Test
+    void testGetAndPut() {
+        var stats = Mockito.mock(StatsCounter.class);
+        var cache = new OffHeapCache(1024, 256, stats);
+
+        assertThat(cache.getIfPresent(1), nullValue());
+        cache.put(1, bytes("owner 1"));
+
+        assertThat(string(cache.getIfPresent(1)), is("owner 1"));
+        assertThat(cache.weightedSize(), is(15L));
+        assertThat(cache.estimatedSize(), is(1L));
+        assertThat(cache.allocatedBytes(), is(256L));
+        Mockito.verify(stats).recordMiss();
+        Mockito.verify(stats).recordHit();
+    }
+
+    @Test
+    void testReplace() {
+        var cache = new OffHeapCache(1024, 256, StatsCounter.DISABLED);
+        cache.put(1, bytes("owner 1"));
+        cache.put(1, bytes("owner one"));
+
+        assertThat(string(cache.getIfPresent(1)), is("owner one"));
+        assertThat(cache.weightedSize(), is(17L));
+        assertThat(cache.estimatedSize(), is(1L));
+    }
+
+    @Test
+    void testEvictsOldestSlab() {
+        var stats = Mockito.mock(StatsCounter.class);
+        // two slabs of four records of 8 + 24 bytes
+        var cache = new OffHeapCache(256, 128, stats);
+        for (int id = 0; id < 9; id++) {
+            cache.put(id, new byte[24]);
+        }
+
+        for (int id = 0; id < 4; id++) {
+            assertThat(cache.getIfPresent(id), nullValue());
+        }
+        for (int id = 4; id < 9; id++) {
+            assertThat(cache.getIfPresent(id).length, is(24));
+        }
+        assertThat(cache.weightedSize(), is(5L * 32));
+        assertThat(cache.allocatedBytes(), is(256L));
+        Mockito.verify(stats, Mockito.times(4)).recordEviction(32);
+    }
+
+    @Test
+    void testEvictionSkipsReplacedRecords() {
+        var cache = new OffHeapCache(256, 128, StatsCounter.DISABLED);
+        for (int id = 0; id < 4; id++) {
+            cache.put(id, new byte[24]);
+        }
+        // the current record of owner 0 moves to the second slab
+        cache.put(0, new byte[24]);
+        for (int id = 4; id < 8; id++) {
+            cache.put(id, new byte[24]);
+        }
+
+        assertThat(cache.getIfPresent(0).length, is(24));
+        assertThat(cache.getIfPresent(1), nullValue());
+        assertThat(cache.weightedSize(), lessThanOrEqualTo(256L));
+    }
+
+    @Test
+    void testInvalidate() {
+        var cache = new OffHeapCache(1024, 256, StatsCounter.DISABLED);
+        cache.put(1, bytes("owner 1"));
+        cache.put(2, bytes("owner 2"));
+
+        cache.invalidate(1);
+        assertThat(cache.getIfPresent(1), nullValue());
+        assertThat(cache.weightedSize(), is(15L));
+
+        cache.invalidateAll();
+        assertThat(cache.getIfPresent(2), nullValue());
+        assertThat(cache.estimatedSize(), is(0L));
+        assertThat(cache.weightedSize(), is(0L));
+    }
+
+    @Test
+    void testSkipsValueLargerThanSlab() {
+        var cache = new OffHeapCache(1024, 256, StatsCounter.DISABLED);
+        cache.put(1, new byte[16]);
+        cache.put(1, new byte[300]);
+
+        assertThat(cache.getIfPresent(1), nullValue());
+        assertThat(cache.weightedSize(), is(0L));
+    }
+
+    @Test
+    void testForEachFromOldest() {
+        // two slabs of four records of 8 + 24 bytes
+        var cache = new OffHeapCache(256, 128, StatsCounter.DISABLED);
+        for (int id = 0; id < 6; id++) {
+            cache.put(id, new byte[24]);
+        }
+        cache.put(1, new byte[24]);
+        cache.invalidate(2);
+        // owner 7 wraps to the first slab, evicting owners 0 and 3
+        for (int id = 6; id < 9; id++) {
+            cache.put(id, new byte[24]);
+        }
+
+        var keys = new ArrayList<Integer>();
+        cache.forEach((key, value) -> {
+            assertThat(value.length, is(24));
+            keys.add(key);
+        });
+
+        assertThat(keys, is(List.of(4, 5, 1, 6, 7, 8)));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnapshotFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTrip() throws IOException {
+        var file = directory.resolve("caches.bin");
+        SnapshotFile.write(file, Map.of("Owner", 3L, "Vet", 0L), List.of(
+                new SnapshotFile.Section("owners", output -> {
+                    output.writeInt(1);
+                    SnapshotFile.writeString(output, "Franklin");
+                }),
+                new SnapshotFile.Section("empty", output -> {
+                })));
+
+        var snapshot = SnapshotFile.read(file);
+
+        assertThat(snapshot.counters(), is(Map.of("Owner", 3L, "Vet", 0L)));
+        var owners = snapshot.section("owners");
+        assertThat(owners.getInt(), is(1));
+        assertThat(SnapshotFile.readString(owners), is("Franklin"));
+        assertThat(owners.hasRemaining(), is(false));
+        assertThat(snapshot.section("empty").hasRemaining(), is(false));
+        assertThat(snapshot.section("vets"), nullValue());
+        assertThat(Files.exists(directory.resolve("caches.bin.tmp")), is(false));
+    }
+
+    @Test
+    void testRejectsCorruptedFile() throws IOException {
+        var file = directory.resolve("caches.bin");
+        SnapshotFile.write(file, Map.of("Owner", 3L), List.of(new SnapshotFile.Section("owners",
+                output -> output.writeInt(1))));
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), channel.size() - 1);
+        }
+
+        assertThrows(IOException.class, () -> SnapshotFile.read(file));
+    }
+
+    @Test
+    void testRejectsTruncatedFile() throws IOException {
+        var file = directory.resolve("caches.bin");
+        SnapshotFile.write(file, Map.of(), List.of());
+        Files.write(file, new byte[] {0x50, 0x43});
+
+        assertThrows(IOException.class, () -> SnapshotFile.read(file));
+    }
+
+    @Test
+    void testRejectsOtherFile() throws IOException {
+        var file = directory.resolve("caches.bin");
+        Files.writeString(file, "not a snapshot of the caches");
+
+        assertThrows(IOException.class, () -> SnapshotFile.read(file));
+    }
+}
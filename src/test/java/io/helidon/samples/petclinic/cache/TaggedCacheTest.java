@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TaggedCacheTest {
+    private TaggedCache<String, String> cache;
+
+    @BeforeEach
+    void setup() {
+        var caches = new Caches(Caches.LRU, Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS));
+        cache = caches.createTagged("owners", 2, Weigher.singleton());
+    }
+
+    @Test
+    void testInvalidateByTag() {
+        cache.put("/owners/1", "owner 1", Set.of("Owner#1", "Pet#1"), cache.generation());
+        cache.put("/pets/2", "pet 2", Set.of("Pet#2"), cache.generation());
+
+        cache.invalidate(Set.of("Pet#1", "Visit"));
+        assertThat(cache.get("/owners/1"), nullValue());
+        assertThat(cache.get("/pets/2"), is("pet 2"));
+        assertThat(cache.size(), is(1L));
+    }
+
+    @Test
+    void testDoesNotStoreValueLoadedBeforeInvalidation() {
+        var generation = cache.generation();
+        cache.invalidate(Set.of("Owner#1"));
+
+        assertThat(cache.put("/owners/1", "owner 1", Set.of("Owner#1"), generation), is(false));
+        assertThat(cache.get("/owners/1"), nullValue());
+    }
+
+    @Test
+    void testUntagsEvictedAndReplacedValues() {
+        cache.put("/owners/1", "owner 1", Set.of("Owner#1"), cache.generation());
+        cache.put("/owners/2", "owner 2", Set.of("Owner#2"), cache.generation());
+        cache.put("/owners/3", "owner 3", Set.of("Owner#3"), cache.generation());
+        cache.put("/owners/3", "owner 3", Set.of("Owner#4"), cache.generation());
+
+        // owner 1 was evicted and owner 3 replaced, their tags no longer remove the values now stored
+        cache.put("/owners/1", "owner 1", Set.of("Owner#5"), cache.generation());
+        cache.invalidate(Set.of("Owner#1", "Owner#3"));
+        assertThat(cache.get("/owners/1"), is("owner 1"));
+        assertThat(cache.get("/owners/3"), is("owner 3"));
+
+        cache.invalidate(Set.of("Owner#4"));
+        assertThat(cache.get("/owners/3"), nullValue());
+    }
+}
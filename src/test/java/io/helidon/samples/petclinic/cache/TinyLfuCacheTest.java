@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TinyLfuCacheTest {
+
+    @Test
+    void testGetAndPut() {
+        var stats = Mockito.mock(StatsCounter.class);
+        var cache = new TinyLfuCache<Integer, String>(100, Weigher.singleton(), stats);
+
+        assertThat(cache.getIfPresent(1), nullValue());
+        cache.put(1, "owner 1");
+
+        assertThat(cache.getIfPresent(1), is("owner 1"));
+        assertThat(cache.get(2, id -> "owner " + id), is("owner 2"));
+        assertThat(cache.estimatedSize(), is(2L));
+        Mockito.verify(stats, Mockito.times(2)).recordMiss();
+        Mockito.verify(stats).recordHit();
+    }
+
+    @Test
+    void testNotifiesEvictedAndReplacedValues() {
+        var removed = new ArrayList<String>();
+        var cache = new TinyLfuCache<Integer, String>(10, Weigher.singleton(), StatsCounter.DISABLED,
+                (key, value) -> removed.add(value));
+        cache.put(1, "owner 1");
+        cache.put(1, "owner 1 renamed");
+        cache.invalidate(1);
+        for (int i = 0; i < 20; i++) {
+            cache.put(i + 2, "owner " + (i + 2));
+        }
+        cache.cleanUp();
+
+        // the replaced value and the 10 evicted ones, not the invalidated value
+        assertThat(removed.get(0), is("owner 1"));
+        assertThat(removed.size(), is(11));
+        assertThat(cache.estimatedSize(), is(10L));
+    }
+
+    @Test
+    void testBoundedByWeight() {
+        var stats = Mockito.mock(StatsCounter.class);
+        var cache = new TinyLfuCache<Integer, byte[]>(1000, (key, value) -> value.length, stats);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, new byte[50]);
+        }
+
+        assertThat(cache.weightedSize(), lessThanOrEqualTo(1000L));
+        assertThat(cache.estimatedSize(), lessThanOrEqualTo(20L));
+        Mockito.verify(stats, Mockito.atLeast(80)).recordEviction(50);
+    }
+
+    @Test
+    void testReplaceUpdatesWeight() {
+        var cache = new TinyLfuCache<Integer, byte[]>(1000, (key, value) -> value.length, StatsCounter.DISABLED);
+        cache.put(1, new byte[100]);
+        cache.put(1, new byte[300]);
+
+        assertThat(cache.weightedSize(), is(300L));
+        assertThat(cache.getIfPresent(1).length, is(300));
+    }
+
+    @Test
+    void testEvictsEntryHeavierThanMaximum() {
+        var cache = new TinyLfuCache<Integer, byte[]>(1000, (key, value) -> value.length, StatsCounter.DISABLED);
+        cache.put(1, new byte[100]);
+        cache.put(2, new byte[2000]);
+
+        assertThat(cache.getIfPresent(2), nullValue());
+        assertThat(cache.weightedSize(), lessThanOrEqualTo(1000L));
+    }
+
+    @Test
+    void testKeepsFrequentEntriesDuringScan() {
+        var cache = new TinyLfuCache<Integer, String>(100, Weigher.singleton(), StatsCounter.DISABLED);
+        for (int round = 0; round < 10; round++) {
+            for (int id = 0; id < 50; id++) {
+                cache.get(id, String::valueOf);
+            }
+        }
+        for (int id = 1000; id < 11000; id++) {
+            cache.get(id, String::valueOf);
+        }
+
+        var kept = 0;
+        for (int id = 0; id < 50; id++) {
+            if (cache.getIfPresent(id) != null) {
+                kept++;
+            }
+        }
+        assertThat(kept, greaterThanOrEqualTo(45));
+        assertThat(cache.estimatedSize(), lessThanOrEqualTo(100L));
+    }
+
+    @Test
+    void testInvalidate() {
+        var cache = new TinyLfuCache<Integer, String>(100, Weigher.singleton(), StatsCounter.DISABLED);
+        cache.put(1, "owner 1");
+        cache.put(2, "owner 2");
+        cache.put(3, "owner 3");
+
+        cache.invalidate(1);
+        assertThat(cache.getIfPresent(1), nullValue());
+        assertThat(cache.weightedSize(), is(2L));
+
+        cache.invalidateAll();
+        assertThat(cache.estimatedSize(), is(0L));
+        assertThat(cache.weightedSize(), is(0L));
+    }
+
+    @Test
+    void testConcurrentWritesKeepWeightConsistent() throws Exception {
+        var cache = new TinyLfuCache<Integer, byte[]>(10_000, (key, value) -> value.length, StatsCounter.DISABLED);
+        var tasks = new ArrayList<Future<?>>();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                tasks.add(executor.submit(() -> {
+                    var random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        var key = random.nextInt(2000);
+                        switch (random.nextInt(10)) {
+                            case 0 -> cache.invalidate(key);
+                            case 1, 2, 3 -> cache.put(key, new byte[random.nextInt(1, 200)]);
+                            default -> cache.getIfPresent(key);
+                        }
+                    }
+                }));
+            }
+        }
+        for (var task : tasks) {
+            task.get();
+        }
+        cache.cleanUp();
+
+        long weight = 0;
+        for (int key = 0; key < 2000; key++) {
+            var value = cache.getIfPresent(key);
+            if (value != null) {
+                weight += value.length;
+            }
+        }
+        assertThat(cache.weightedSize(), is(weight));
+        assertThat(cache.weightedSize(), lessThanOrEqualTo(10_000L));
+    }
+
+    @Test
+    void testRejectsNegativeWeights() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TinyLfuCache<>(-1, Weigher.singleton(), StatsCounter.DISABLED));
+        var cache = new TinyLfuCache<Integer, String>(100, (key, value) -> -1, StatsCounter.DISABLED);
+        assertThrows(IllegalArgumentException.class, () -> cache.put(1, "owner 1"));
+    }
+}
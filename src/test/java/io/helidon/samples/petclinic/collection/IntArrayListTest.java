@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IntArrayListTest {
+
+    @Test
+    void testAddGetRemove() {
+        var list = new IntArrayList();
+        for (int i = 0; i < 20; i++) {
+            list.add(i * 2);
+        }
+        list.add(0, -1);
+        list.set(1, 100);
+
+        assertThat(list.size(), is(21));
+        assertThat(list.get(0), is(-1));
+        assertThat(list.get(1), is(100));
+        assertThat(list.removeAt(0), is(-1));
+        assertThat(list.get(0), is(100));
+        assertThat(list.toArray().length, is(20));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(20));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(21, 0));
+    }
+
+    @Test
+    void testSorted() {
+        var list = new IntArrayList(0);
+        for (var value : new int[] {5, 3, 9, 3, 1}) {
+            list.addSorted(value);
+        }
+        assertThat(list.toList(), contains(1, 3, 5, 9));
+
+        assertThat(list.removeSorted(3), is(true));
+        assertThat(list.removeSorted(4), is(false));
+        assertThat(list.binarySearch(9), is(2));
+        assertThat(list.toList(), contains(1, 5, 9));
+    }
+
+    @Test
+    void testSort() {
+        var list = new IntArrayList();
+        for (var value : new int[] {5, -3, 9, 0}) {
+            list.add(value);
+        }
+        list.sort();
+
+        assertThat(list.stream().sum(), is(11));
+        assertThat(list.toList(), contains(-3, 0, 5, 9));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+public class IntHashSetTest {
+
+    @Test
+    void testAddContainsRemove() {
+        var set = new IntHashSet();
+        assertThat(set.add(3), is(true));
+        assertThat(set.add(3), is(false));
+        assertThat(set.add(0), is(true));
+        assertThat(set.add(-5), is(true));
+
+        assertThat(set.contains(0), is(true));
+        assertThat(set.contains(4), is(false));
+        assertThat(set.size(), is(3));
+        assertThat(set.toList(), containsInAnyOrder(0, 3, -5));
+
+        assertThat(set.remove(0), is(true));
+        assertThat(set.remove(0), is(false));
+        assertThat(set.remove(3), is(true));
+        assertThat(set.stream().boxed().toList(), containsInAnyOrder(-5));
+
+        set.clear();
+        assertThat(set.isEmpty(), is(true));
+        assertThat(set.contains(-5), is(false));
+    }
+
+    @Test
+    void testMatchesHashSet() {
+        var set = new IntHashSet(4);
+        var expected = new HashSet<Integer>();
+        var random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            var value = random.nextInt(5000) - 2500;
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value), is(expected.remove(value)));
+            } else {
+                assertThat(set.add(value), is(expected.add(value)));
+            }
+        }
+
+        assertThat(set.size(), is(expected.size()));
+        assertThat(set.stream().boxed().collect(Collectors.toSet()), is(expected));
+    }
+}
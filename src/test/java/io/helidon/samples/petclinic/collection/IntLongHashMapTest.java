@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IntLongHashMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        var map = new IntLongHashMap();
+        assertThat(map.put(7, 70), is(0L));
+        assertThat(map.put(7, 71), is(70L));
+        assertThat(map.get(7), is(71L));
+        assertThat(map.get(8), is(0L));
+
+        assertThat(map.remove(7), is(71L));
+        assertThat(map.get(7), is(0L));
+        assertThat(map.size(), is(0));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, 0));
+    }
+
+    @Test
+    void testMatchesHashMap() {
+        var map = new IntLongHashMap();
+        var expected = new HashMap<Integer, Long>();
+        var random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            // few keys, so removals shift back the colliding keys of long probe sequences
+            var key = random.nextInt(5000) - 2500;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key), is(expected.getOrDefault(key, 0L)));
+                expected.remove(key);
+            } else {
+                var value = random.nextLong(1, Long.MAX_VALUE);
+                assertThat(map.put(key, value), is(expected.getOrDefault(key, 0L)));
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(map.size(), is(expected.size()));
+        for (int key = -2500; key < 2500; key++) {
+            assertThat(map.get(key), is(expected.getOrDefault(key, 0L)));
+        }
+    }
+}
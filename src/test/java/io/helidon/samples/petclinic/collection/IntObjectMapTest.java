@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IntObjectMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        var map = new IntObjectMap<String>();
+        assertThat(map.put(7, "seven"), nullValue());
+        assertThat(map.put(7, "sept"), is("seven"));
+        assertThat(map.get(7), is("sept"));
+        assertThat(map.get(0), nullValue());
+        assertThat(map.containsKey(7), is(true));
+
+        assertThat(map.remove(7), is("sept"));
+        assertThat(map.get(7), nullValue());
+        assertThat(map.isEmpty(), is(true));
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        var map = new IntObjectMap<String>();
+        assertThat(map.computeIfAbsent(0, Integer::toString), is("0"));
+        assertThat(map.computeIfAbsent(0, key -> "zero"), is("0"));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    void testSortedKeys() {
+        var map = new IntObjectMap<String>(2);
+        for (var key : new int[] {42, -1, 7, 1000, 0}) {
+            map.put(key, "value");
+        }
+
+        assertThat(map.sortedKeys().toList(), contains(-1, 0, 7, 42, 1000));
+    }
+
+    @Test
+    void testMatchesHashMap() {
+        var map = new IntObjectMap<Long>();
+        var expected = new HashMap<Integer, Long>();
+        var random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            // few keys, so removals shift back the colliding keys of long probe sequences
+            var key = random.nextInt(5000) - 2500;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key), is(expected.remove(key)));
+            } else {
+                var value = random.nextLong();
+                assertThat(map.put(key, value), is(expected.put(key, value)));
+            }
+        }
+
+        assertThat(map.size(), is(expected.size()));
+        var visited = new HashMap<Integer, Long>();
+        map.forEach(visited::put);
+        assertThat(visited, is(expected));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.integration;
+
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@HelidonTest
+class BatchResourceIT {
+    @Inject
+    private WebTarget target;
+
+    @Test
+    void testAtomicBatch() {
+        var batch = Json.createObjectBuilder()
+                .add("operations", Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder()
+                                .add("method", "POST")
+                                .add("path", "/specialties")
+                                .add("body", Json.createObjectBuilder().add("name", "batch committed")))
+                        .add(Json.createObjectBuilder()
+                                .add("method", "POST")
+                                .add("path", "/specialties")
+                                .add("body", Json.createObjectBuilder().add("name", "batch committed too"))))
+                .build();
+
+        var response = executeBatch(batch);
+        assertThat(response.getBoolean("committed"), is(true));
+        assertThat(response.getJsonArray("results").getJsonObject(0).getInt("status"), is(201));
+        assertThat(specialtyNames(), hasItems("batch committed", "batch committed too"));
+    }
+
+    @Test
+    void testAtomicBatchRollback() {
+        var batch = Json.createObjectBuilder()
+                .add("mode", "atomic")
+                .add("operations", Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder()
+                                .add("method", "POST")
+                                .add("path", "/specialties")
+                                .add("body", Json.createObjectBuilder().add("name", "batch rolled back")))
+                        .add(Json.createObjectBuilder()
+                                .add("method", "DELETE")
+                                .add("path", "/vets/9999")))
+                .build();
+
+        var response = executeBatch(batch);
+        assertThat(response.getBoolean("committed"), is(false));
+        assertThat(response.getJsonArray("results").getJsonObject(1).getInt("status"), is(404));
+        assertThat(specialtyNames(), not(hasItem("batch rolled back")));
+    }
+
+    @Test
+    void testBestEffortBatch() {
+        var batch = Json.createObjectBuilder()
+                .add("mode", "bestEffort")
+                .add("operations", Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder()
+                                .add("method", "DELETE")
+                                .add("path", "/vets/9999"))
+                        .add(Json.createObjectBuilder()
+                                .add("method", "POST")
+                                .add("path", "/specialties")
+                                .add("body", Json.createObjectBuilder().add("name", "batch best effort"))))
+                .build();
+
+        var response = executeBatch(batch);
+        var results = response.getJsonArray("results");
+        assertThat(results.getJsonObject(0).getInt("status"), is(404));
+        assertThat(results.getJsonObject(1).getInt("status"), is(201));
+        assertThat(specialtyNames(), hasItem("batch best effort"));
+    }
+
+    private JsonObject executeBatch(JsonObject batch) {
+        var response = target
+                .path("/petclinic/api/batch")
+                .request()
+                .post(Entity.entity(batch, MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus(), is(200));
+        return response.readEntity(JsonObject.class);
+    }
+
+    private List<String> specialtyNames() {
+        return target
+                .path("/petclinic/api/specialties")
+                .request()
+                .get(JsonArray.class)
+                .getValuesAs(JsonObject.class)
+                .stream()
+                .map(specialty -> specialty.getString("name"))
+                .toList();
+    }
+}
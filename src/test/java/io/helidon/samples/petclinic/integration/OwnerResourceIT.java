@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,24 @@ package io.helidon.samples.petclinic.integration;
 
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import io.helidon.samples.petclinic.rest.dto.*;
+import io.helidon.samples.petclinic.rest.json.CborParser;
+import io.helidon.samples.petclinic.rest.json.DtoCborProvider;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
 import jakarta.inject.Inject;
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -84,12 +92,46 @@ class OwnerResourceIT {
     void testGetOwner() {
         var owner = getOwner(1).orElseThrow();
         assertThat(owner.getId(), is(1));
-        assertThat(owner.getPets().size(), is(1));
+        assertTrue(owner.getPets().isEmpty());
         assertThat(owner.getCity(), equalTo("Madison"));
         assertThat(owner.getFirstName(), equalTo("George"));
         assertThat(owner.getLastName(), equalTo("Franklin"));
     }
 
+    @Test
+    void testGetOwnerExpanded() {
+        var owner = target
+                .path("/petclinic/api/owners/6")
+                .queryParam("expand", "pets,pets.visits")
+                .request()
+                .get(OwnerDto.class);
+        assertThat(owner.getPets().size(), is(2));
+        assertThat(owner.getPets().get(0).getName(), equalTo("Filimon"));
+        assertThat(owner.getPets().get(0).getVisits().size(), is(2));
+
+        var response = target
+                .path("/petclinic/api/owners/6")
+                .queryParam("expand", "specialties")
+                .request()
+                .get();
+        assertThat(response.getStatus(), is(400));
+    }
+
+    @Test
+    void testListOwnersByIds() {
+        var owners = target
+                .path("/petclinic/api/owners")
+                .queryParam("ids", "6,2,9999")
+                .queryParam("expand", "pets")
+                .request()
+                .get(JsonArray.class);
+
+        assertThat(owners.size(), is(2));
+        assertThat(owners.getJsonObject(0).getInt("id"), is(6));
+        assertThat(owners.getJsonObject(0).getJsonArray("pets").size(), is(2));
+        assertThat(owners.getJsonObject(1).getInt("id"), is(2));
+    }
+
     @Test
     void testListOwners() {
         var owners = target
@@ -106,6 +148,101 @@ class OwnerResourceIT {
         assertThat(owners.getJsonObject(1).getString("lastName"), equalTo("Davis"));
     }
 
+    @Test
+    void testListOwnersFields() {
+        var owners = target
+                .path("/petclinic/api/owners")
+                .queryParam("fields", "id,lastName")
+                .request()
+                .get(JsonArray.class);
+
+        assertThat(owners.getJsonObject(0).keySet(), containsInAnyOrder("id", "lastName"));
+        assertThat(owners.getJsonObject(0).getString("lastName"), equalTo("Franklin"));
+    }
+
+    @Test
+    void testListOwnersAsCbor() {
+        var response = target
+                .path("/petclinic/api/owners")
+                .request(DtoCborProvider.APPLICATION_CBOR)
+                .get();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getMediaType(), equalTo(DtoCborProvider.APPLICATION_CBOR_TYPE));
+
+        try (var parser = new CborParser(response.readEntity(InputStream.class))) {
+            parser.next();
+            var owners = JsonCodecs.readList(parser, element -> JsonCodecs.readObject(element, OwnerDto.class));
+            assertThat(owners.get(0).getId(), is(1));
+            assertThat(owners.get(0).getLastName(), equalTo("Franklin"));
+        }
+    }
+
+    @Test
+    void testListOwnersCompressed() throws IOException {
+        var response = target
+                .path("/petclinic/api/owners")
+                .request(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .get();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), equalTo("gzip"));
+
+        try (var reader = Json.createReader(new GZIPInputStream(response.readEntity(InputStream.class)))) {
+            var owners = reader.readArray();
+            assertThat(owners.getJsonObject(0).getString("lastName"), equalTo("Franklin"));
+        }
+    }
+
+    @Test
+    void testAddOwnerAsCbor() {
+        var ownerDto = createOwnerDto();
+        var response = target
+                .register(DtoCborProvider.class)
+                .path("/petclinic/api/owners")
+                .request(DtoCborProvider.APPLICATION_CBOR)
+                .post(Entity.entity(ownerDto, DtoCborProvider.APPLICATION_CBOR));
+        assertThat(response.getStatus(), is(201));
+        assertThat(response.getMediaType(), equalTo(DtoCborProvider.APPLICATION_CBOR_TYPE));
+
+        var returnedOwner = response.readEntity(OwnerDto.class);
+        assertNotNull(returnedOwner.getId());
+        assertThat(returnedOwner.getLastName(), equalTo(ownerDto.getLastName()));
+    }
+
+    @Test
+    void testGetOwnerByTelephone() {
+        var response = target
+                .path("/petclinic/api/owners/by-phone/608-555-1023")
+                .request()
+                .get();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.readEntity(OwnerDto.class).getId(), is(1));
+    }
+
+    @Test
+    void testAddDuplicateOwner() {
+        var ownerDto = new OwnerFieldsDto();
+        ownerDto.setFirstName("Eduardo");
+        ownerDto.setLastName("Rodriguez");
+        ownerDto.setAddress("2693 Commerce Street");
+        ownerDto.setCity("McFarland");
+        ownerDto.setTelephone("6085558763");
+
+        var response = target
+                .path("/petclinic/api/owners")
+                .request()
+                .post(Entity.entity(ownerDto, MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus(), is(201));
+        assertThat(response.getHeaderString("Warning"), containsString("Possible duplicate of owners 3"));
+
+        var duplicates = target
+                .path("/petclinic/api/owners/duplicates")
+                .request()
+                .get(JsonArray.class);
+        assertThat(duplicates.size(), greaterThan(0));
+        assertThat(duplicates.getJsonObject(0).getInt("ownerId"), is(3));
+    }
+
     @Test
     void testUpdateOwner() {
         var ownerId = 3;
@@ -196,6 +333,22 @@ class OwnerResourceIT {
         assertThat(retrievedVisit.getPetId(), is(1));
     }
 
+    @Test
+    void testCachedOwnerShowsAddedVisit() {
+        var visitCount = getOwnerWithVisits(2).getPets().get(0).getVisits().size();
+        var visitFieldsDto = new VisitFieldsDto();
+        visitFieldsDto.setDate(LocalDate.now());
+        visitFieldsDto.setDescription("checkup");
+
+        var response = target
+                .path("/petclinic/api/owners/2/pets/2/visits")
+                .request()
+                .post(Entity.entity(visitFieldsDto, MediaType.APPLICATION_JSON));
+        assertThat(response.getStatus(), is(201));
+
+        assertThat(getOwnerWithVisits(2).getPets().get(0).getVisits().size(), is(visitCount + 1));
+    }
+
     private OwnerDto createOwnerDto() {
         var ownerDto = new OwnerDto();
         ownerDto.setFirstName("John");
@@ -206,6 +359,16 @@ class OwnerResourceIT {
         return ownerDto;
     }
 
+    private OwnerDto getOwnerWithVisits(int id) {
+        var response = target
+                .path("/petclinic/api/owners/" + id)
+                .queryParam("expand", "pets.visits")
+                .request()
+                .get();
+        assertThat(response.getStatus(), is(200));
+        return response.readEntity(OwnerDto.class);
+    }
+
     private Optional<OwnerDto> getOwner(int id) {
         var response = target
                 .path("/petclinic/api/owners/" + id)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import io.helidon.samples.petclinic.rest.dto.PetDto;
 import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
 import jakarta.inject.Inject;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
@@ -113,6 +114,74 @@ class PetResourceIT {
         assertThat(pets.getJsonObject(0).getString("name"), equalTo("Jacka"));
     }
 
+    @Test
+    void testSearchPets() {
+        var pets = target
+                .path("/petclinic/api/pets/search")
+                .queryParam("name", "Lucky")
+                .queryParam("typeId", 4)
+                .queryParam("bornFrom", "2011-01-01")
+                .request()
+                .get(JsonArray.class);
+
+        assertThat(pets.size(), is(1));
+        assertThat(pets.getJsonObject(0).getInt("id"), is(9));
+        assertThat(pets.getJsonObject(0).getJsonObject("type").getString("name"), equalTo("snake"));
+        assertThat(pets.getJsonObject(0).containsKey("visits"), is(false));
+    }
+
+    @Test
+    void testListPetVisits() {
+        var response = target
+                .path("/petclinic/api/pets/7/visits")
+                .queryParam("limit", 1)
+                .request()
+                .get();
+        assertThat(response.getStatus(), is(200));
+
+        var visits = response.readEntity(JsonArray.class);
+        assertThat(visits.size(), is(1));
+        assertThat(visits.getJsonObject(0).getInt("id"), is(4));
+
+        var nextVisits = target
+                .path("/petclinic/api/pets/7/visits")
+                .queryParam("limit", 1)
+                .queryParam("before", "2013-01-04:4")
+                .request()
+                .get(JsonArray.class);
+        assertThat(nextVisits.size(), is(1));
+        assertThat(nextVisits.getJsonObject(0).getInt("id"), is(1));
+        assertThat(response.getLink("next").getUri().getQuery(), containsString("before=2013-01-04:4"));
+    }
+
+    @Test
+    void testGetPetWithoutVisits() {
+        var pet = target
+                .path("/petclinic/api/pets/7")
+                .queryParam("visitLimit", 0)
+                .queryParam("expand", "visits")
+                .request()
+                .get(JsonObject.class);
+        assertThat(pet.getString("name"), equalTo("Filimon"));
+        assertThat(pet.getJsonArray("visits").size(), is(0));
+    }
+
+    @Test
+    void testGetPetExpanded() {
+        var pet = target
+                .path("/petclinic/api/pets/7")
+                .request()
+                .get(JsonObject.class);
+        assertThat(pet.getJsonArray("visits").size(), is(0));
+
+        pet = target
+                .path("/petclinic/api/pets/7")
+                .queryParam("expand", "visits")
+                .request()
+                .get(JsonObject.class);
+        assertThat(pet.getJsonArray("visits").size(), is(2));
+    }
+
     @Test
     void testUpdatePet() {
         var petId = 5;
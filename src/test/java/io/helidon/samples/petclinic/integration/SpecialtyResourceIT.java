@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -98,6 +98,18 @@ class SpecialtyResourceIT {
         assertThat(specialties.getJsonObject(1).getString("name"), equalTo("surgery"));
     }
 
+    @Test
+    void testListSpecialtyVets() {
+        var vets = target
+                .path("/petclinic/api/specialties/1/vets")
+                .request()
+                .get(JsonArray.class);
+
+        assertThat(vets.size(), is(2));
+        assertThat(vets.getJsonObject(0).getString("lastName"), equalTo("Leary"));
+        assertThat(vets.getJsonObject(1).getString("lastName"), equalTo("Stevens"));
+    }
+
     @Test
     void testUpdateSpecialty() {
         var specialtyId = 3;
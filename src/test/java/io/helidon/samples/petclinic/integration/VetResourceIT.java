@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -49,6 +49,18 @@ class VetResourceIT {
         assertTrue(vet.getSpecialties().isEmpty());
     }
 
+    @Test
+    void testGetVetExpanded() {
+        var vet = target
+                .path("/petclinic/api/vets/2")
+                .queryParam("expand", "specialties")
+                .request()
+                .get(VetDto.class);
+        assertThat(vet.getSpecialties().size(), is(1));
+        assertThat(vet.getSpecialties().get(0).getName(), equalTo("radiology"));
+        assertTrue(getVet(2).orElseThrow().getSpecialties().isEmpty());
+    }
+
     @Test
     void testGetAllVets() {
         var vets = target
@@ -63,6 +75,20 @@ class VetResourceIT {
         assertThat(vets.getJsonObject(1).getString("firstName"), equalTo("Helen"));
     }
 
+    @Test
+    void testGetVetsBySpecialty() {
+        var vets = target
+                .path("/petclinic/api/vets")
+                .queryParam("specialty", "radiology", "cardiology")
+                .queryParam("match", "any")
+                .request()
+                .get(JsonArray.class);
+
+        assertThat(vets.size(), is(2));
+        assertThat(vets.getJsonObject(0).getInt("id"), is(2));
+        assertThat(vets.getJsonObject(1).getInt("id"), is(5));
+    }
+
     @Test
     void testCreateVet() {
         var vet = new VetDto();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,6 +60,36 @@ class VisitResourceIT {
         assertThat(vets.getJsonObject(0).getString("description"), equalTo("rabies shot"));
     }
 
+    @Test
+    void testGetVisitsByIds() {
+        var visits = target
+                .path("/petclinic/api/visits")
+                .queryParam("ids", "4,1")
+                .request()
+                .get(JsonArray.class);
+
+        assertThat(visits.size(), is(2));
+        assertThat(visits.getJsonObject(0).getInt("id"), is(4));
+        assertThat(visits.getJsonObject(1).getInt("id"), is(1));
+    }
+
+    @Test
+    void testGetVisitsInDateRange() {
+        var visits = target
+                .path("/petclinic/api/visits")
+                .queryParam("from", "2013-01-01")
+                .queryParam("to", "2013-01-31")
+                .queryParam("petTypeId", 2)
+                .request()
+                .get(JsonArray.class);
+
+        assertThat(visits.size(), is(2));
+        assertThat(visits.getJsonObject(0).getInt("id"), is(1));
+        assertThat(visits.getJsonObject(0).getInt("petId"), is(7));
+        assertThat(visits.getJsonObject(1).getInt("id"), is(4));
+        assertThat(visits.getJsonObject(1).getString("date"), equalTo("2013-01-04"));
+    }
+
     @Test
     void testCreateVisit() {
         var visitDto = new VisitDto(null, 1);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.samples.petclinic.mapper;
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import io.helidon.samples.petclinic.model.Owner;
 import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.PetSummary;
 import io.helidon.samples.petclinic.model.PetType;
 import io.helidon.samples.petclinic.rest.dto.PetDto;
 import io.helidon.samples.petclinic.rest.dto.PetFieldsDto;
@@ -102,6 +103,24 @@ class PetMapperTest {
         }
     }
 
+    @Test
+    void testToPetSummaryDto() {
+        var petType = new PetType();
+        petType.setId(4);
+        petType.setName("snake");
+
+        var petSummary = new PetSummary(9, "Lucky", LocalDate.now(), petType, 7);
+        var petSummaryDto = petMapper.toPetSummaryDto(petSummary);
+
+        assertNotNull(petSummaryDto);
+        assertEquals(petSummary.id(), petSummaryDto.getId());
+        assertEquals(petSummary.name(), petSummaryDto.getName());
+        assertEquals(petSummary.birthDate(), petSummaryDto.getBirthDate());
+        assertEquals(petSummary.type().getId(), petSummaryDto.getType().getId());
+        assertEquals(petSummary.type().getName(), petSummaryDto.getType().getName());
+        assertEquals(petSummary.ownerId(), petSummaryDto.getOwnerId());
+    }
+
     @Test
     void testToPet() {
         var petTypeDto = new PetTypeDto();
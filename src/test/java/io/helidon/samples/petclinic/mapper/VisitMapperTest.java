@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.samples.petclinic.mapper;
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import io.helidon.samples.petclinic.model.Pet;
 import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.model.VisitSummary;
 import io.helidon.samples.petclinic.rest.dto.VisitDto;
 import io.helidon.samples.petclinic.rest.dto.VisitFieldsDto;
 import jakarta.inject.Inject;
@@ -55,6 +56,17 @@ class VisitMapperTest {
         assertThat(visitDto.getPetId(), is(21));
     }
 
+    @Test
+    void testToVisitDtoFromVisitSummary() {
+        var visitSummary = new VisitSummary(1, LocalDate.now(), "emasculation", 21);
+
+        var visitDto = visitMapper.toVisitDto(visitSummary);
+        assertThat(visitDto.getId(), is(1));
+        assertThat(visitDto.getDate(), equalTo(visitSummary.date()));
+        assertThat(visitDto.getDescription(), equalTo("emasculation"));
+        assertThat(visitDto.getPetId(), is(21));
+    }
+
     @Test
     void testToVisit() {
         var visitDto = new VisitDto(1, 11);
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.rest.dto.BatchOperationDto;
+import io.helidon.samples.petclinic.rest.dto.BatchRequestDto;
+import io.helidon.samples.petclinic.rest.dto.BatchResponseDto;
+import io.helidon.samples.petclinic.rest.dto.BatchResultDto;
+import io.helidon.samples.petclinic.rest.dto.OwnerFieldsDto;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchResourceTest {
+    OwnerResource ownerResource;
+    PetResource petResource;
+    VisitResource visitResource;
+    BatchResource batchResource;
+
+    @BeforeEach
+    void setup() {
+        ownerResource = Mockito.mock(OwnerResource.class);
+        petResource = Mockito.mock(PetResource.class);
+        visitResource = Mockito.mock(VisitResource.class);
+        batchResource = new BatchResource(new BatchTransactions(), ownerResource, petResource,
+                Mockito.mock(PetTypesResource.class), Mockito.mock(SpecialtyResource.class),
+                Mockito.mock(VetResource.class), visitResource);
+    }
+
+    @Test
+    void testExecuteAtomic() {
+        Mockito.when(ownerResource.addOwner(Mockito.any()))
+                .thenReturn(Response.created(URI.create("http://localhost:9966/petclinic/api/owners/11")).build());
+        Mockito.when(petResource.deletePet(7)).thenReturn(Response.noContent().build());
+
+        var response = execute("atomic",
+                operation("POST", "/owners", Map.of("firstName", "George", "lastName", "Franklin")),
+                operation("DELETE", "/pets/7", null));
+        assertThat(response.getCommitted(), is(true));
+        assertThat(statuses(response), contains(201, 204));
+        assertThat(response.getResults().get(0).getLocation(), equalTo("http://localhost:9966/petclinic/api/owners/11"));
+
+        var owner = ArgumentCaptor.forClass(OwnerFieldsDto.class);
+        Mockito.verify(ownerResource).addOwner(owner.capture());
+        assertThat(owner.getValue().getFirstName(), equalTo("George"));
+    }
+
+    @Test
+    void testExecuteAtomicRollsBackOnFailure() {
+        Mockito.when(ownerResource.addOwner(Mockito.any()))
+                .thenReturn(Response.created(URI.create("http://localhost:9966/petclinic/api/owners/11")).build());
+        Mockito.when(petResource.deletePet(99)).thenThrow(new NotFoundException());
+
+        var response = execute("atomic",
+                operation("POST", "/owners", Map.of("firstName", "George", "lastName", "Franklin")),
+                operation("DELETE", "/pets/99", null),
+                operation("DELETE", "/visits/1", null));
+        assertThat(response.getCommitted(), is(false));
+        assertThat(statuses(response), contains(424, 404, 424));
+        assertThat(response.getResults().get(0).getLocation(), is(nullValue()));
+        assertThat(response.getResults().get(0).getError(), equalTo("Rolled back, a later operation failed"));
+        Mockito.verifyNoInteractions(visitResource);
+    }
+
+    @Test
+    void testExecuteBestEffort() {
+        Mockito.when(petResource.deletePet(7)).thenReturn(Response.noContent().build());
+        Mockito.when(visitResource.deleteVisit(1)).thenReturn(Response.noContent().build());
+
+        var response = execute("bestEffort",
+                operation("DELETE", "/pets/7", null),
+                operation("PATCH", "/pets/8", null),
+                operation("PUT", "/owners/1", null),
+                operation("DELETE", "/visits/1", null));
+        assertThat(response.getCommitted(), is(true));
+        assertThat(statuses(response), contains(204, 404, 400, 204));
+        assertThat(response.getResults().get(2).getError(), equalTo("Missing body"));
+    }
+
+    @Test
+    void testExecuteWithInvalidMode() {
+        assertThrows(BadRequestException.class, () -> execute("sometimes", operation("DELETE", "/pets/7", null)));
+    }
+
+    @Test
+    void testExecuteWithTooManyOperations() {
+        var operations = new BatchOperationDto[BatchResource.MAX_OPERATIONS + 1];
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = operation("DELETE", "/visits/" + i, null);
+        }
+        assertThrows(BadRequestException.class, () -> execute("atomic", operations));
+    }
+
+    private BatchResponseDto execute(String mode, BatchOperationDto... operations) {
+        var request = new BatchRequestDto();
+        request.setMode(mode);
+        request.setOperations(List.of(operations));
+        var response = batchResource.executeBatch(request);
+        assertThat(response.getStatus(), is(200));
+        return (BatchResponseDto) response.getEntity();
+    }
+
+    private static BatchOperationDto operation(String method, String path, Object body) {
+        var operation = new BatchOperationDto();
+        operation.setMethod(method);
+        operation.setPath(path);
+        operation.setBody(body);
+        return operation;
+    }
+
+    private static List<Integer> statuses(BatchResponseDto response) {
+        return response.getResults().stream().map(BatchResultDto::getStatus).toList();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
+import io.helidon.samples.petclinic.rest.json.DtoCborProvider;
+import io.helidon.samples.petclinic.rest.json.DtoJsonProvider;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class JsonArrayStreamTest {
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Test
+    void testWritesElementsAsArray() {
+        var specialties = List.of(specialty("radiology"), specialty("surgery"), specialty("dentistry"));
+
+        var array = write(JsonArrayStream.of(specialties.iterator(), specialty -> specialty));
+        assertThat(array.getValuesAs(JsonObject.class).stream().map(s -> s.getString("name")).toList(),
+                contains("radiology", "surgery", "dentistry"));
+    }
+
+    @Test
+    void testWritesMappedElements() {
+        var array = write(JsonArrayStream.of(List.of(1, 2).iterator(), id -> Map.of("id", id)));
+        assertThat(array.size(), is(2));
+        assertThat(array.getJsonObject(1).getInt("id"), is(2));
+    }
+
+    @Test
+    void testWritesEmptyArray() {
+        assertThat(write(JsonArrayStream.of(Collections.emptyIterator(), element -> element)).isEmpty(), is(true));
+    }
+
+    @Test
+    void testWritableAsJsonAndCbor() {
+        var stream = JsonArrayStream.of(Collections.emptyIterator(), element -> element);
+        assertThat(new DtoJsonProvider().isWriteable(stream.getClass(), stream.getClass(), NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE), is(true));
+        assertThat(new DtoCborProvider().isWriteable(stream.getClass(), stream.getClass(), NO_ANNOTATIONS,
+                DtoCborProvider.APPLICATION_CBOR_TYPE), is(true));
+    }
+
+    @Test
+    void testIteratesMappedElements() {
+        var elements = new ArrayList<>();
+        JsonArrayStream.of(List.of(1, 2).iterator(), id -> Map.of("id", id)).forEach(elements::add);
+        assertThat(elements, contains(Map.of("id", 1), Map.of("id", 2)));
+    }
+
+    /**
+     * Read the JSON array written by a streamed response.
+     *
+     * @param response response with a {@link JsonArrayStream} entity
+     * @return the written array
+     */
+    static JsonArray written(Response response) {
+        return write((JsonArrayStream) response.getEntity());
+    }
+
+    private static JsonArray write(JsonArrayStream body) {
+        var output = new ByteArrayOutputStream();
+        try {
+            new DtoJsonProvider().writeTo(body, body.getClass(), body.getClass(), NO_ANNOTATIONS,
+                    MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (var reader = Json.createReader(new ByteArrayInputStream(output.toByteArray()))) {
+            return reader.readArray();
+        }
+    }
+
+    private static SpecialtyDto specialty(String name) {
+        var specialty = new SpecialtyDto();
+        specialty.setName(name);
+        return specialty;
+    }
+}
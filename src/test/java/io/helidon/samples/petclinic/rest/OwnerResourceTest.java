@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.samples.petclinic.rest;
 
 import io.helidon.microprofile.testing.junit5.HelidonTest;
+import io.helidon.samples.petclinic.cache.Caches;
 import io.helidon.samples.petclinic.mapper.OwnerMapper;
 import io.helidon.samples.petclinic.mapper.PetMapper;
 import io.helidon.samples.petclinic.mapper.VisitMapper;
@@ -23,9 +24,17 @@ import io.helidon.samples.petclinic.model.Owner;
 import io.helidon.samples.petclinic.model.Pet;
 import io.helidon.samples.petclinic.model.PetType;
 import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.rest.cache.OwnerAggregateCache;
 import io.helidon.samples.petclinic.rest.dto.*;
 import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.DuplicateOwner;
+import io.helidon.samples.petclinic.service.LastKnownValues;
+import jakarta.json.Json;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,15 +44,23 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @HelidonTest
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +76,9 @@ public class OwnerResourceTest {
     @Mock
     UriInfo uriInfo;
 
+    @Mock
+    HttpHeaders headers;
+
     @InjectMocks
     OwnerResource ownerResource;
 
@@ -68,7 +88,9 @@ public class OwnerResourceTest {
         ownerMapper = Mockito.mock(OwnerMapper.class);
         petMapper = Mockito.mock(PetMapper.class);
         visitMapper = Mockito.mock(VisitMapper.class);
-        ownerResource = new OwnerResource(clinicService, ownerMapper, petMapper, visitMapper);
+        var caches = new Caches(Caches.TINY_LFU, Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS));
+        ownerResource = new OwnerResource(clinicService, ownerMapper, petMapper, visitMapper,
+                new OwnerAggregateCache(1024 * 1024, caches, LastKnownValues.disabled()));
         MockitoAnnotations.openMocks(this);
     }
 
@@ -85,6 +107,21 @@ public class OwnerResourceTest {
         assertThat(response.getLocation().toString(), equalTo("http://localhost:9966/petclinic/api/owners/1"));
     }
 
+    @Test
+    void testAddOwnerWarnsAboutDuplicates() {
+        var ownerFieldsDto = createOwnerFieldsDto();
+        var owner = createOwner(11);
+
+        Mockito.when(uriInfo.getBaseUri()).thenReturn(URI.create("http://localhost:9966/petclinic"));
+        Mockito.when(ownerMapper.toOwner(ownerFieldsDto)).thenReturn(owner);
+        Mockito.when(clinicService.findDuplicatesOf(Mockito.eq(owner), Mockito.anyDouble()))
+                .thenReturn(List.of(new DuplicateOwner(11, 3, 0.98), new DuplicateOwner(11, 7, 0.8)));
+
+        var response = ownerResource.addOwner(ownerFieldsDto);
+        assertThat(response.getStatus(), is(201));
+        assertThat(response.getHeaderString("Warning"), equalTo("199 - \"Possible duplicate of owners 3, 7\""));
+    }
+
     @Test
     void testAddPetToOwner() {
         var petFieldsDto = createPetFieldsDto();
@@ -126,9 +163,77 @@ public class OwnerResourceTest {
     @Test
     void testGetOwner() {
         Mockito.when(ownerMapper.toOwnerDto(Mockito.any())).thenReturn(createOwnerDto(1));
-        Mockito.when(clinicService.findOwnerById(1)).thenReturn(Optional.of(createOwner(1)));
+        Mockito.when(clinicService.findOwnerById(1, Set.of())).thenReturn(Optional.of(createOwner(1)));
+
+        var response = ownerResource.getOwner(1, null, null, null);
+        var owner = (OwnerDto)response.getEntity();
+        assertThat(response.getStatus(), is(200));
+        assertThat(owner.getId(), is(1));
+    }
+
+    @Test
+    void testGetOwnerAggregateFromCache() {
+        Mockito.when(headers.getAcceptableMediaTypes()).thenReturn(List.of(MediaType.WILDCARD_TYPE));
+        Mockito.when(ownerMapper.toOwnerDto(Mockito.any())).thenReturn(createOwnerDto(1));
+        Mockito.when(clinicService.findOwnerById(1, Set.of("pets", "pets.visits"))).thenReturn(Optional.of(createOwner(1)));
+
+        var first = ownerResource.getOwner(1, null, null, "pets.visits");
+        var second = ownerResource.getOwner(1, null, null, "pets,pets.visits");
+
+        assertThat(first.getMediaType(), is(MediaType.APPLICATION_JSON_TYPE));
+        var json = Json.createReader(new ByteArrayInputStream((byte[]) second.getEntity())).readObject();
+        assertThat(json.getInt("id"), is(1));
+        Mockito.verify(clinicService, Mockito.times(1)).findOwnerById(1, Set.of("pets", "pets.visits"));
+    }
+
+    @Test
+    void testGetOwnerExpanded() {
+        Mockito.when(ownerMapper.toOwnerDto(Mockito.any())).thenReturn(createOwnerDto(1));
+        Mockito.when(clinicService.findOwnerById(1, Set.of("pets", "pets.visits"))).thenReturn(Optional.of(createOwner(1)));
+
+        var response = ownerResource.getOwner(1, null, null, "pets.visits, pets");
+        assertThat(response.getStatus(), is(200));
+        Mockito.verify(clinicService).findOwnerById(1, Set.of("pets", "pets.visits"));
+    }
+
+    @Test
+    void testGetOwnerWithUnknownExpand() {
+        assertThrows(BadRequestException.class, () -> ownerResource.getOwner(1, null, null, "visits"));
+    }
+
+    @Test
+    void testGetOwnerFields() {
+        Mockito.when(clinicService.findOwnerFields(1, List.of("id", "lastName")))
+                .thenReturn(List.of(Map.of("id", 1, "lastName", "Doe")));
 
-        var response = ownerResource.getOwner(1);
+        var response = ownerResource.getOwner(1, null, "id, lastName", null);
+        assertThat(response.getStatus(), is(200));
+        assertThat((Map<String, Object>)response.getEntity(), equalTo(Map.of("id", 1, "lastName", "Doe")));
+        Mockito.verify(clinicService, Mockito.never()).findOwnerById(Mockito.eq(1), Mockito.any());
+    }
+
+    @Test
+    void testGetOwnerFieldsWithPets() {
+        Mockito.when(ownerMapper.toOwnerDto(Mockito.any())).thenReturn(createOwnerDto(1));
+        Mockito.when(clinicService.findOwnerById(1, Set.of("pets"))).thenReturn(Optional.of(createOwner(1)));
+
+        var response = ownerResource.getOwner(1, null, "lastName,pets", null);
+        var owner = (Map<String, Object>)response.getEntity();
+        assertThat(owner.keySet(), contains("lastName", "pets"));
+        assertThat(owner.get("lastName"), equalTo("Doe"));
+    }
+
+    @Test
+    void testGetOwnerWithUnknownField() {
+        assertThrows(BadRequestException.class, () -> ownerResource.getOwner(1, null, "id,password", null));
+    }
+
+    @Test
+    void testGetOwnerByTelephone() {
+        Mockito.when(ownerMapper.toOwnerDto(Mockito.any())).thenReturn(createOwnerDto(1));
+        Mockito.when(clinicService.findOwnerByTelephone("608-555-1023")).thenReturn(Optional.of(createOwner(1)));
+
+        var response = ownerResource.getOwnerByTelephone("608-555-1023");
         var owner = (OwnerDto)response.getEntity();
         assertThat(response.getStatus(), is(200));
         assertThat(owner.getId(), is(1));
@@ -138,10 +243,10 @@ public class OwnerResourceTest {
     void testGetOwnersPet() {
         var pet = createPet(1);
         pet.setOwner(createOwner(1));
-        Mockito.when(clinicService.findPetById(1)).thenReturn(Optional.of(pet));
+        Mockito.when(clinicService.findPetById(1, Set.of())).thenReturn(Optional.of(pet));
         Mockito.when(petMapper.toPetDto(pet)).thenReturn(createPetDto(1));
 
-        var response = ownerResource.getOwnersPet(1, 1);
+        var response = ownerResource.getOwnersPet(1, 1, null, null);
         var petDto = (PetDto)response.getEntity();
         assertThat(response.getStatus(), is(200));
         assertThat(petDto.getId(), is(1));
@@ -157,14 +262,65 @@ public class OwnerResourceTest {
         ownerDtos.add(createOwnerDto(1));
         ownerDtos.add(createOwnerDto(2));
 
-        Mockito.when(clinicService.findAllOwners()).thenReturn(owners);
-        Mockito.when(ownerMapper.toOwnerDtos(owners)).thenReturn(ownerDtos);
+        Mockito.when(clinicService.streamAllOwners(Set.of())).thenReturn(owners.stream());
+        Mockito.when(ownerMapper.toOwnerDto(owners.get(0))).thenReturn(ownerDtos.get(0));
+        Mockito.when(ownerMapper.toOwnerDto(owners.get(1))).thenReturn(ownerDtos.get(1));
 
-        var response = ownerResource.listOwners("Lastname");
+        var response = ownerResource.listOwners(null, "Lastname", null, null, null);
+        assertThat(response.getStatus(), is(200));
+
+        var ownerJson = JsonArrayStreamTest.written(response);
+        assertThat(ownerJson.size(), is(2));
+        assertThat(ownerJson.getJsonObject(1).getInt("id"), is(2));
+    }
+
+    @Test
+    void testListOwnersWhenEmpty() {
+        Mockito.when(clinicService.streamAllOwners(Set.of())).thenReturn(Stream.empty());
+
+        var response = ownerResource.listOwners(null, null, null, null, null);
+        assertThat(response.getStatus(), is(404));
+    }
+
+    @Test
+    void testListOwnersByIds() {
+        var owners = List.of(createOwner(3), createOwner(1));
+        Mockito.when(clinicService.findOwnersByIdIn(List.of(3, 1), Set.of("pets"))).thenReturn(owners);
+        Mockito.when(ownerMapper.toOwnerDtos(owners)).thenReturn(List.of(createOwnerDto(3), createOwnerDto(1)));
+
+        var response = ownerResource.listOwners("3, 1", null, null, null, "pets");
         assertThat(response.getStatus(), is(200));
 
         var ownerDtoList = (List<OwnerDto>)response.getEntity();
-        assertThat(ownerDtoList.size(), is(2));
+        assertThat(ownerDtoList.stream().map(OwnerDto::getId).toList(), contains(3, 1));
+        Mockito.verify(clinicService, Mockito.never()).streamAllOwners(Mockito.any());
+    }
+
+    @Test
+    void testListOwnersWithTooManyIds() {
+        var ids = IntStream.rangeClosed(1, BatchIds.MAX_IDS + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+        assertThrows(BadRequestException.class, () -> ownerResource.listOwners(ids, null, null, null, null));
+    }
+
+    @Test
+    void testListDuplicateOwners() {
+        var duplicates = List.of(new DuplicateOwner(3, 11, 0.98));
+        var duplicateDto = new DuplicateOwnerDto();
+        duplicateDto.setOwnerId(3);
+        duplicateDto.setDuplicateOwnerId(11);
+        duplicateDto.setScore(0.98);
+
+        Mockito.when(clinicService.findDuplicateOwners(0.75)).thenReturn(duplicates);
+        Mockito.when(ownerMapper.toDuplicateOwnerDtos(duplicates)).thenReturn(List.of(duplicateDto));
+
+        var response = ownerResource.listDuplicateOwners(0.75);
+        assertThat(response.getStatus(), is(200));
+
+        var duplicateDtoList = (List<DuplicateOwnerDto>)response.getEntity();
+        assertThat(duplicateDtoList.size(), is(1));
+        assertThat(duplicateDtoList.get(0).getDuplicateOwnerId(), is(11));
     }
 
     @Test
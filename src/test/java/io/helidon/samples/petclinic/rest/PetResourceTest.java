@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,22 @@ package io.helidon.samples.petclinic.rest;
 
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import io.helidon.samples.petclinic.mapper.PetMapper;
+import io.helidon.samples.petclinic.mapper.VisitMapper;
 import io.helidon.samples.petclinic.model.Owner;
 import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.PetSummary;
 import io.helidon.samples.petclinic.model.PetType;
+import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.model.VisitSummary;
 import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetSummaryDto;
 import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
 import io.helidon.samples.petclinic.service.ClinicService;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,10 +49,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @HelidonTest
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +67,9 @@ public class PetResourceTest {
     @Inject
     PetMapper petMapper;
 
+    @Inject
+    VisitMapper visitMapper;
+
     @Mock
     UriInfo uriInfo;
 
@@ -62,7 +79,7 @@ public class PetResourceTest {
     @BeforeEach
     void setup() {
         clinicService = Mockito.mock(ClinicService.class);
-        petResource = new PetResource(clinicService, petMapper);
+        petResource = new PetResource(clinicService, petMapper, visitMapper);
         MockitoAnnotations.openMocks(this);
     }
 
@@ -93,30 +110,131 @@ public class PetResourceTest {
 
     @Test
     void testGetPet() {
-        Mockito.when(clinicService.findPetById(1)).thenReturn(Optional.of(createPet(1)));
-        var response = petResource.getPet(1);
+        Mockito.when(clinicService.findPetById(1, Set.of())).thenReturn(Optional.of(createPet(1)));
+        var response = petResource.getPet(1, null, null, null);
         var pet = (PetDto)response.getEntity();
         assertThat(response.getStatus(), is(200));
         assertThat(pet.getId(), is(1));
         assertThat(pet.getName(), equalTo("Falco"));
     }
 
+    @Test
+    void testGetPetWithVisitLimit() {
+        var pet = createPet(1);
+        for (int day = 1; day <= 3; day++) {
+            var visit = new Visit();
+            visit.setId(day);
+            visit.setDate(LocalDate.of(2013, 1, day));
+            visit.setDescription("visit " + day);
+            pet.addVisit(visit);
+        }
+        Mockito.when(clinicService.findPetById(1, Set.of("visits"))).thenReturn(Optional.of(pet));
+
+        var petDto = (PetDto)petResource.getPet(1, 2, null, "visits").getEntity();
+        assertThat(petDto.getVisits().stream().map(VisitDto::getId).toList(), contains(2, 3));
+
+        petDto = (PetDto)petResource.getPet(1, 0, null, "visits").getEntity();
+        assertThat(petDto.getVisits(), is(empty()));
+    }
+
+    @Test
+    void testListPetVisits() {
+        var visits = List.of(new VisitSummary(4, LocalDate.of(2013, 1, 4), "spayed", 7),
+                new VisitSummary(1, LocalDate.of(2013, 1, 1), "rabies shot", 7));
+        Mockito.when(clinicService.findVisitsByPetId(7, LocalDate.of(2013, 1, 5), 9, 2)).thenReturn(visits);
+        Mockito.when(uriInfo.getRequestUriBuilder()).thenReturn(
+                UriBuilder.fromUri("http://localhost:9966/petclinic/api/pets/7/visits?before=2013-01-05:9&limit=2"));
+
+        var response = petResource.listPetVisits(7, "2013-01-05:9", 2);
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getLink("next").getUri().toString(),
+                equalTo("http://localhost:9966/petclinic/api/pets/7/visits?before=2013-01-01%3A1&limit=2"));
+
+        var visitDtoList = (List<VisitDto>)response.getEntity();
+        assertThat(visitDtoList.stream().map(VisitDto::getId).toList(), contains(4, 1));
+    }
+
+    @Test
+    void testListPetVisitsLastPage() {
+        Mockito.when(clinicService.findVisitsByPetId(7, LocalDate.of(2013, 1, 4), null, 20))
+                .thenReturn(List.of(new VisitSummary(1, LocalDate.of(2013, 1, 1), "rabies shot", 7)));
+
+        var response = petResource.listPetVisits(7, "2013-01-04", 20);
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getLink("next"), is(nullValue()));
+    }
+
+    @Test
+    void testListPetVisitsWithInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> petResource.listPetVisits(7, "yesterday", 20));
+    }
+
+    @Test
+    void testListVisitsOfUnknownPet() {
+        Mockito.when(clinicService.findPetById(42)).thenReturn(Optional.empty());
+        assertThrows(NotFoundException.class, () -> petResource.listPetVisits(42, null, 20));
+    }
+
+    @Test
+    void testListPetsByIds() {
+        Mockito.when(clinicService.findPetsByIdIn(List.of(2, 1), Set.of()))
+                .thenReturn(List.of(createPet(2), createPet(1)));
+
+        var response = petResource.listPets("2,1", null, null, null);
+        assertThat(response.getStatus(), is(200));
+
+        var petDtoList = (List<PetDto>)response.getEntity();
+        assertThat(petDtoList.stream().map(PetDto::getId).toList(), contains(2, 1));
+    }
+
+    @Test
+    void testListPetsWithInvalidIds() {
+        assertThrows(BadRequestException.class, () -> petResource.listPets("1,two", null, null, null));
+    }
+
     @Test
     void testListPets() {
         var pets = new ArrayList<Pet>();
         pets.add(createPet(1));
         pets.add(createPet(2));
 
-        Mockito.when(clinicService.findAllPets()).thenReturn(pets);
+        Mockito.when(clinicService.streamAllPets(Set.of())).thenReturn(pets.stream());
 
-        var response = petResource.listPets();
+        var response = petResource.listPets(null, null, null, null);
         assertThat(response.getStatus(), is(200));
 
-        var petDtoList = (List<PetDto>)response.getEntity();
-        assertThat(petDtoList.size(), is(2));
-        assertThat(petDtoList.get(0).getId(), is(1));
-        assertThat(petDtoList.get(0).getName(), equalTo("Falco"));
-        assertThat(petDtoList.get(1).getId(), is(2));
+        var petJson = JsonArrayStreamTest.written(response);
+        assertThat(petJson.size(), is(2));
+        assertThat(petJson.getJsonObject(0).getInt("id"), is(1));
+        assertThat(petJson.getJsonObject(0).getString("name"), equalTo("Falco"));
+        assertThat(petJson.getJsonObject(1).getInt("id"), is(2));
+    }
+
+    @Test
+    void testSearchPets() {
+        var petType = new PetType();
+        petType.setId(4);
+        petType.setName("snake");
+        var bornFrom = LocalDate.of(2020, 1, 1);
+        var summaries = List.of(new PetSummary(9, "Lucky", LocalDate.of(2021, 8, 6), petType, 7));
+
+        Mockito.when(clinicService.findPets("Lu", 4, bornFrom, null, 20, 10)).thenReturn(summaries);
+
+        var response = petResource.searchPets("Lu", 4, bornFrom, null, 2, 10);
+        assertThat(response.getStatus(), is(200));
+
+        var petSummaryDtoList = (List<PetSummaryDto>)response.getEntity();
+        assertThat(petSummaryDtoList.size(), is(1));
+        assertThat(petSummaryDtoList.get(0).getId(), is(9));
+        assertThat(petSummaryDtoList.get(0).getOwnerId(), is(7));
+        assertThat(petSummaryDtoList.get(0).getType().getName(), equalTo("snake"));
+    }
+
+    @Test
+    void testSearchPetsBeyondLastPage() {
+        assertThrows(BadRequestException.class,
+                () -> petResource.searchPets("Lu", null, null, null, Integer.MAX_VALUE, 10));
+        Mockito.verifyNoInteractions(clinicService);
     }
 
     @Test
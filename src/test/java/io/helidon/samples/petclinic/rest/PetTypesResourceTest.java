@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@ import io.helidon.samples.petclinic.mapper.PetTypeMapper;
 import io.helidon.samples.petclinic.model.PetType;
 import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
 import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,7 +35,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -51,13 +52,17 @@ public class PetTypesResourceTest {
     @Mock
     UriInfo uriInfo;
 
+    @Mock
+    HttpHeaders headers;
+
     @InjectMocks
     PetTypesResource petTypesResource;
 
     @BeforeEach
     void setup() {
         clinicService = Mockito.mock(ClinicService.class);
-        petTypesResource = new PetTypesResource(clinicService, petTypeMapper);
+        petTypesResource = new PetTypesResource(clinicService, petTypeMapper,
+                ReferencePayloadsTest.referencePayloads(new ReferenceDataVersion()));
         MockitoAnnotations.openMocks(this);
     }
 
@@ -104,10 +109,10 @@ public class PetTypesResourceTest {
         var response = petTypesResource.listPetTypes();
         assertThat(response.getStatus(), is(200));
 
-        var petTypeDtoList = (List<PetTypeDto>)response.getEntity();
-        assertThat(petTypeDtoList.size(), is(2));
-        assertThat(petTypeDtoList.get(0).getId(), is(1));
-        assertThat(petTypeDtoList.get(1).getId(), is(2));
+        var petTypeJson = ReferencePayloadsTest.json(response);
+        assertThat(petTypeJson.size(), is(2));
+        assertThat(petTypeJson.getJsonObject(0).getInt("id"), is(1));
+        assertThat(petTypeJson.getJsonObject(1).getInt("id"), is(2));
     }
 
     @Test
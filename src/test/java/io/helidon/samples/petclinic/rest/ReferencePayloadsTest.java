@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest;
+
+import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
+import io.helidon.samples.petclinic.rest.encoding.ContentEncodings;
+import io.helidon.samples.petclinic.rest.json.CborParser;
+import io.helidon.samples.petclinic.rest.json.DtoCborProvider;
+import io.helidon.samples.petclinic.rest.json.JsonCodecs;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
+import io.helidon.samples.petclinic.service.SingleFlight;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ReferencePayloadsTest {
+    private ReferenceDataVersion version;
+    private ReferencePayloads referencePayloads;
+    private HttpHeaders headers;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        version = Mockito.mock(ReferenceDataVersion.class);
+        referencePayloads = referencePayloads(version);
+        headers = Mockito.mock(HttpHeaders.class);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testKeepsPayload() {
+        var first = referencePayloads.ok(headers, "specialties", () -> specialties(2));
+        var second = referencePayloads.ok(headers, "specialties", () -> specialties(2));
+
+        assertThat(first.getStatus(), is(200));
+        assertThat(first.getMediaType(), is(MediaType.APPLICATION_JSON_TYPE));
+        assertThat(json(first).getJsonObject(1).getString("name"), is("specialty 2"));
+        assertThat(second.getEntity(), sameInstance(first.getEntity()));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    void testServesAllVariantsFromOneLoad() {
+        var json = referencePayloads.ok(headers, "specialties", () -> specialties(100));
+        Mockito.when(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn("deflate");
+        var deflated = referencePayloads.ok(headers, "specialties", () -> specialties(100));
+        Mockito.when(headers.getAcceptableMediaTypes()).thenReturn(List.of(DtoCborProvider.APPLICATION_CBOR_TYPE));
+        var cbor = referencePayloads.ok(headers, "specialties", () -> specialties(100));
+
+        assertThat(json.getHeaderString(HttpHeaders.CONTENT_ENCODING), nullValue());
+        assertThat(deflated.getHeaderString(HttpHeaders.CONTENT_ENCODING), is(ContentEncodings.DEFLATE));
+        assertThat(cbor.getMediaType(), is(DtoCborProvider.APPLICATION_CBOR_TYPE));
+        assertThat(cbor.getHeaderString(HttpHeaders.CONTENT_ENCODING), is(ContentEncodings.DEFLATE));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    void testReloadsPayloadAfterChange() {
+        referencePayloads.ok(headers, "specialties", () -> specialties(2));
+        Mockito.when(version.current()).thenReturn(1L);
+        var response = referencePayloads.ok(headers, "specialties", () -> specialties(3));
+
+        assertThat(json(response).size(), is(3));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    void testDoesNotKeepPayloadLoadedDuringChange() {
+        Mockito.when(version.current()).thenReturn(0L, 1L);
+        referencePayloads.ok(headers, "specialties", () -> specialties(2));
+        referencePayloads.ok(headers, "specialties", () -> specialties(2));
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    void testCompressesLargePayload() {
+        Mockito.when(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+        var response = referencePayloads.ok(headers, "specialties", () -> specialties(100));
+
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), is(ContentEncodings.GZIP));
+        var compressed = (byte[]) response.getEntity();
+        var array = read(gunzip(compressed));
+        assertThat(array.size(), is(100));
+        assertThat(compressed.length, lessThan(array.toString().length()));
+    }
+
+    @Test
+    void testDoesNotCompressSmallPayload() {
+        Mockito.when(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip");
+        var response = referencePayloads.ok(headers, "specialties", () -> specialties(2));
+
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), nullValue());
+        assertThat(json(response).size(), is(2));
+    }
+
+    @Test
+    void testWritesCborWhenAccepted() {
+        Mockito.when(headers.getAcceptableMediaTypes()).thenReturn(List.of(DtoCborProvider.APPLICATION_CBOR_TYPE));
+        var response = referencePayloads.ok(headers, "specialties", () -> specialties(2));
+
+        assertThat(response.getMediaType(), is(DtoCborProvider.APPLICATION_CBOR_TYPE));
+        try (var parser = new CborParser(new ByteArrayInputStream((byte[]) response.getEntity()))) {
+            parser.next();
+            var specialties = JsonCodecs.readList(parser, p -> JsonCodecs.readObject(p, SpecialtyDto.class));
+            assertThat(specialties.get(1).getName(), is("specialty 2"));
+        }
+    }
+
+    @Test
+    void testRestoresWrittenPayloads() throws IOException {
+        referencePayloads.ok(headers, "specialties", () -> specialties(100));
+        var output = new ByteArrayOutputStream();
+        referencePayloads.write(new DataOutputStream(output));
+
+        var restored = referencePayloads(version);
+        restored.read(ByteBuffer.wrap(output.toByteArray()), 0);
+        Mockito.when(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip");
+        var response = restored.ok(headers, "specialties", () -> specialties(100));
+
+        assertThat(loads.get(), is(1));
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), is(ContentEncodings.GZIP));
+        assertThat(read(gunzip((byte[]) response.getEntity())).size(), is(100));
+    }
+
+    @Test
+    void testDoesNotRestorePayloadsAfterChange() throws IOException {
+        referencePayloads.ok(headers, "specialties", () -> specialties(2));
+        var output = new ByteArrayOutputStream();
+        referencePayloads.write(new DataOutputStream(output));
+
+        var restored = referencePayloads(version);
+        Mockito.when(version.current()).thenReturn(1L);
+        restored.read(ByteBuffer.wrap(output.toByteArray()), 0);
+        restored.ok(headers, "specialties", () -> specialties(2));
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    void testNotFoundWithoutEntity() {
+        var response = referencePayloads.ok(headers, "specialties", () -> null);
+        assertThat(response.getStatus(), is(404));
+    }
+
+    /**
+     * Create reference payloads compressing from 1024 bytes, without metrics.
+     *
+     * @param version reference data version
+     * @return reference payloads
+     */
+    static ReferencePayloads referencePayloads(ReferenceDataVersion version) {
+        return new ReferencePayloads(new ContentEncodings(true, 1024, 6), version,
+                new SingleFlight(Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS), () -> false));
+    }
+
+    /**
+     * Read the uncompressed JSON array of a reference payload response.
+     *
+     * @param response response with a payload
+     * @return JSON array
+     */
+    static JsonArray json(Response response) {
+        return read(new ByteArrayInputStream((byte[]) response.getEntity()));
+    }
+
+    private static JsonArray read(InputStream input) {
+        try (var reader = Json.createReader(input)) {
+            return reader.readArray();
+        }
+    }
+
+    private static InputStream gunzip(byte[] bytes) {
+        try {
+            return new GZIPInputStream(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<SpecialtyDto> specialties(int count) {
+        loads.incrementAndGet();
+        var specialties = new ArrayList<SpecialtyDto>();
+        for (int i = 1; i <= count; i++) {
+            var specialty = new SpecialtyDto(i);
+            specialty.setName("specialty " + i);
+            specialties.add(specialty);
+        }
+        return specialties;
+    }
+}
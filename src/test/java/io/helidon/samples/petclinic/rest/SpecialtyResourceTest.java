@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,15 @@ package io.helidon.samples.petclinic.rest;
 
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import io.helidon.samples.petclinic.mapper.SpecialtyMapper;
+import io.helidon.samples.petclinic.mapper.VetMapper;
 import io.helidon.samples.petclinic.model.Specialty;
+import io.helidon.samples.petclinic.model.Vet;
 import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
+import io.helidon.samples.petclinic.rest.dto.VetDto;
 import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,16 +53,23 @@ public class SpecialtyResourceTest {
     @Inject
     SpecialtyMapper specialtyMapper;
 
+    @Inject
+    VetMapper vetMapper;
+
     @Mock
     UriInfo uriInfo;
 
+    @Mock
+    HttpHeaders headers;
+
     @InjectMocks
     SpecialtyResource specialtyResource;
 
     @BeforeEach
     void setup() {
         clinicService = Mockito.mock(ClinicService.class);
-        specialtyResource = new SpecialtyResource(clinicService, specialtyMapper);
+        specialtyResource = new SpecialtyResource(clinicService, specialtyMapper, vetMapper,
+                ReferencePayloadsTest.referencePayloads(new ReferenceDataVersion()));
         MockitoAnnotations.openMocks(this);
     }
 
@@ -104,10 +116,30 @@ public class SpecialtyResourceTest {
         var response = specialtyResource.listSpecialties();
         assertThat(response.getStatus(), is(200));
 
-        var specialtyDtoList = (List<SpecialtyDto>)response.getEntity();
-        assertThat(specialtyDtoList.size(), is(2));
-        assertThat(specialtyDtoList.get(0).getId(), is(1));
-        assertThat(specialtyDtoList.get(1).getId(), is(2));
+        var specialtyJson = ReferencePayloadsTest.json(response);
+        assertThat(specialtyJson.size(), is(2));
+        assertThat(specialtyJson.getJsonObject(0).getInt("id"), is(1));
+        assertThat(specialtyJson.getJsonObject(1).getInt("id"), is(2));
+    }
+
+    @Test
+    void testListSpecialtyVets() {
+        var vet = new Vet();
+        vet.setId(3);
+        vet.setFirstName("Linda");
+        vet.setLastName("Douglas");
+        vet.addSpecialty(createSpecialty(1));
+
+        Mockito.when(clinicService.findSpecialtyById(1)).thenReturn(Optional.of(createSpecialty(1)));
+        Mockito.when(clinicService.findVetsBySpecialtyId(1)).thenReturn(List.of(vet));
+
+        var response = specialtyResource.listSpecialtyVets(1);
+        assertThat(response.getStatus(), is(200));
+
+        var vetDtoList = (List<VetDto>)response.getEntity();
+        assertThat(vetDtoList.size(), is(1));
+        assertThat(vetDtoList.get(0).getId(), is(3));
+        assertThat(vetDtoList.get(0).getSpecialties().get(0).getName(), equalTo("surgery"));
     }
 
     @Test
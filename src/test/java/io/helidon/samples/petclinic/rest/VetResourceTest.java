@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,16 @@ package io.helidon.samples.petclinic.rest;
 
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import io.helidon.samples.petclinic.mapper.VetMapper;
+import io.helidon.samples.petclinic.model.Specialty;
 import io.helidon.samples.petclinic.model.Vet;
+import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
 import io.helidon.samples.petclinic.rest.dto.VetDto;
 import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,11 +40,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @HelidonTest
 @ExtendWith(MockitoExtension.class)
@@ -51,13 +62,18 @@ public class VetResourceTest {
     @Mock
     UriInfo uriInfo;
 
+    @Mock
+    HttpHeaders headers;
+
     @InjectMocks
     VetResource vetsResource;
 
     @BeforeEach
     void setup() {
         clinicService = Mockito.mock(ClinicService.class);
-        vetsResource = new VetResource(clinicService, vetMapper);
+        var version = new ReferenceDataVersion();
+        vetsResource = new VetResource(clinicService, vetMapper, ReferencePayloadsTest.referencePayloads(version),
+                new VetDirectory(false, clinicService, vetMapper, version));
         MockitoAnnotations.openMocks(this);
     }
 
@@ -86,29 +102,157 @@ public class VetResourceTest {
 
     @Test
     void testGetVets() {
-        Mockito.when(clinicService.findVetById(1)).thenReturn(Optional.of(createVet(1)));
-        var response = vetsResource.getVet(1);
+        Mockito.when(clinicService.findVetById(1, Set.of())).thenReturn(Optional.of(createVet(1)));
+        var response = vetsResource.getVet(1, null, null);
         var vet = (VetDto)response.getEntity();
         assertThat(response.getStatus(), is(200));
         assertThat(vet.getId(), is(1));
         assertThat(vet.getFirstName(), equalTo("John"));
     }
 
+    @Test
+    void testGetVetExpanded() {
+        var vet = createVet(1);
+        var specialty = new Specialty();
+        specialty.setId(1);
+        specialty.setName("radiology");
+        vet.addSpecialty(specialty);
+        Mockito.when(clinicService.findVetById(1, Set.of("specialties"))).thenReturn(Optional.of(vet));
+
+        var response = vetsResource.getVet(1, null, "specialties");
+        var vetDto = (VetDto)response.getEntity();
+        assertThat(response.getStatus(), is(200));
+        assertThat(vetDto.getSpecialties().size(), is(1));
+        assertThat(vetDto.getSpecialties().get(0).getName(), equalTo("radiology"));
+    }
+
     @Test
     void testListVets() {
         var vets = new ArrayList<Vet>();
         vets.add(createVet(1));
         vets.add(createVet(2));
 
-        Mockito.when(clinicService.findAllVets()).thenReturn(vets);
+        Mockito.when(clinicService.streamAllVets(Set.of())).thenReturn(vets.stream());
+
+        var response = vetsResource.listVets(null, null, "all", null, null);
+        assertThat(response.getStatus(), is(200));
+
+        var vetJson = ReferencePayloadsTest.json(response);
+        assertThat(vetJson.size(), is(2));
+        assertThat(vetJson.getJsonObject(0).getInt("id"), is(1));
+        assertThat(vetJson.getJsonObject(1).getInt("id"), is(2));
+    }
+
+    @Test
+    void testListVetsSelectedFields() {
+        Mockito.when(clinicService.streamAllVets(Set.of("specialties"))).thenReturn(Stream.of(createVet(1)));
 
-        var response = vetsResource.listVets();
+        var response = vetsResource.listVets(null, null, "all", "lastName,specialties", null);
+        assertThat(response.getStatus(), is(200));
+
+        var vet = JsonArrayStreamTest.written(response).getJsonObject(0);
+        assertThat(vet.keySet(), contains("lastName", "specialties"));
+    }
+
+    @Test
+    void testListVetsByIds() {
+        Mockito.when(clinicService.findVetsByIdIn(List.of(2, 1), Set.of("specialties")))
+                .thenReturn(List.of(createVet(2), createVet(1)));
+
+        var response = vetsResource.listVets("2,1", null, "all", null, "specialties");
         assertThat(response.getStatus(), is(200));
 
         var vetDtoList = (List<VetDto>)response.getEntity();
-        assertThat(vetDtoList.size(), is(2));
-        assertThat(vetDtoList.get(0).getId(), is(1));
-        assertThat(vetDtoList.get(1).getId(), is(2));
+        assertThat(vetDtoList.stream().map(VetDto::getId).toList(), contains(2, 1));
+    }
+
+    @Test
+    void testListVetsByIdsAndSpecialty() {
+        assertThrows(BadRequestException.class,
+                () -> vetsResource.listVets("1", List.of("radiology"), "all", null, null));
+    }
+
+    @Test
+    void testListVetsBySpecialty() {
+        Mockito.when(clinicService.findVetsBySpecialties(Set.of("radiology", "surgery"), true))
+                .thenReturn(List.of(createVet(3)));
+
+        var response = vetsResource.listVets(null, List.of("radiology", "surgery"), "all", null, null);
+        assertThat(response.getStatus(), is(200));
+
+        var vetDtoList = (List<VetDto>)response.getEntity();
+        assertThat(vetDtoList.size(), is(1));
+        assertThat(vetDtoList.get(0).getId(), is(3));
+    }
+
+    @Test
+    void testListVetsWithInvalidMatch() {
+        assertThrows(BadRequestException.class, () -> vetsResource.listVets(null, List.of("radiology"), "some", null, null));
+    }
+
+    @Test
+    void testListVetsFields() {
+        Mockito.when(clinicService.findVetFields(null, List.of("lastName")))
+                .thenReturn(List.of(Map.of("lastName", "Carter"), Map.of("lastName", "Leary")));
+
+        var response = vetsResource.listVets(null, null, "all", "lastName", null);
+        assertThat(response.getStatus(), is(200));
+
+        var vets = (List<Map<String, Object>>)response.getEntity();
+        assertThat(vets.size(), is(2));
+        assertThat(vets.get(1).get("lastName"), equalTo("Leary"));
+        Mockito.verify(clinicService, Mockito.never()).streamAllVets(Mockito.any());
+    }
+
+    @Test
+    void testServesVetsFromDirectory() {
+        var version = new ReferenceDataVersion();
+        var vetDirectory = new VetDirectory(false, clinicService, vetMapper, version);
+        var resource = new VetResource(clinicService, vetMapper, ReferencePayloadsTest.referencePayloads(version),
+                vetDirectory);
+        resource.headers = headers;
+        var surgeon = createVet(2);
+        surgeon.addSpecialty(createSpecialty(2, "surgery"));
+        surgeon.addSpecialty(createSpecialty(1, "radiology"));
+        Mockito.when(clinicService.streamAllVets(Set.of("specialties"))).thenReturn(Stream.of(surgeon, createVet(1)));
+        vetDirectory.rebuild();
+
+        var vet = (VetDto) resource.getVet(2, null, "specialties").getEntity();
+        assertThat(vet.getSpecialties().stream().map(SpecialtyDto::getName).toList(),
+                contains("radiology", "surgery"));
+        assertThat(((VetDto) resource.getVet(2, null, null).getEntity()).getSpecialties().isEmpty(), is(true));
+        assertThrows(NotFoundException.class, () -> resource.getVet(3, null, null));
+
+        var list = resource.listVets(null, null, "all", null, null);
+        assertThat(ReferencePayloadsTest.json(list).getJsonObject(0).getInt("id"), is(1));
+        var fields = (List<Map<String, Object>>) resource.listVets(null, null, "all", "id", null).getEntity();
+        assertThat(fields, contains(Map.of("id", 1), Map.of("id", 2)));
+        var byIds = (List<VetDto>) resource.listVets("2,3,1", null, "all", null, null).getEntity();
+        assertThat(byIds.stream().map(VetDto::getId).toList(), contains(2, 1));
+        var bySpecialty = (List<VetDto>) resource.listVets(null, List.of("radiology", "dentistry"), "any", null, null)
+                .getEntity();
+        assertThat(bySpecialty.stream().map(VetDto::getId).toList(), contains(2));
+
+        Mockito.verify(clinicService).streamAllVets(Set.of("specialties"));
+        Mockito.verifyNoMoreInteractions(clinicService);
+    }
+
+    @Test
+    void testReadsDatabaseWhileDirectoryOutdated() {
+        var version = Mockito.mock(ReferenceDataVersion.class);
+        var vetDirectory = new VetDirectory(false, clinicService, vetMapper, version);
+        var resource = new VetResource(clinicService, vetMapper, ReferencePayloadsTest.referencePayloads(version),
+                vetDirectory);
+        Mockito.when(clinicService.streamAllVets(Set.of("specialties"))).thenReturn(Stream.of(createVet(1)));
+        vetDirectory.rebuild();
+        Mockito.when(version.current()).thenReturn(1L);
+        var renamed = createVet(1);
+        renamed.setLastName("Carter");
+        Mockito.when(clinicService.findVetById(1, Set.of())).thenReturn(Optional.of(renamed));
+
+        var vet = (VetDto) resource.getVet(1, null, null).getEntity();
+
+        assertThat(vet.getLastName(), is("Carter"));
     }
 
     @Test
@@ -116,7 +260,7 @@ public class VetResourceTest {
         var vetDto = createVetDto(1);
 
         Mockito.when(uriInfo.getBaseUri()).thenReturn(URI.create("http://localhost:9966/petclinic"));
-        Mockito.when(clinicService.findVetById(1)).thenReturn(Optional.of(createVet(1)));
+        Mockito.when(clinicService.findVetById(1, Set.of("specialties"))).thenReturn(Optional.of(createVet(1)));
 
         var response = vetsResource.updateVet(1, vetDto);
         assertThat(response.getStatus(), is(200));
@@ -133,6 +277,13 @@ public class VetResourceTest {
         return vetDto;
     }
 
+    private Specialty createSpecialty(int id, String name) {
+        var specialty = new Specialty();
+        specialty.setId(id);
+        specialty.setName(name);
+        return specialty;
+    }
+
     private Vet createVet(int id) {
         var vet = new Vet();
         vet.setId(id);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,11 @@ import io.helidon.samples.petclinic.model.Owner;
 import io.helidon.samples.petclinic.model.Pet;
 import io.helidon.samples.petclinic.model.PetType;
 import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.model.VisitSummary;
 import io.helidon.samples.petclinic.rest.dto.VisitDto;
 import io.helidon.samples.petclinic.service.ClinicService;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,10 +41,13 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @HelidonTest
 @ExtendWith(MockitoExtension.class)
@@ -101,19 +106,62 @@ public class VisitResourceTest {
 
     @Test
     void testListVisits() {
-        var visits = new ArrayList<Visit>();
-        visits.add(createVisit(1));
-        visits.add(createVisit(2));
+        Mockito.when(clinicService.streamAllVisits())
+                .thenReturn(Stream.of(new VisitSummary(1, LocalDate.of(2013, 1, 1), "rabies shot", 7),
+                        new VisitSummary(2, LocalDate.of(2013, 1, 2), "rabies shot", 8)));
 
-        Mockito.when(clinicService.findAllVisits()).thenReturn(visits);
+        var response = visitResource.listVisits(null, null, null, null, 0, 20);
+        assertThat(response.getStatus(), is(200));
+
+        var visitJson = JsonArrayStreamTest.written(response);
+        assertThat(visitJson.size(), is(2));
+        assertThat(visitJson.getJsonObject(0).getInt("id"), is(1));
+        assertThat(visitJson.getJsonObject(1).getInt("id"), is(2));
+        assertThat(visitJson.getJsonObject(1).getInt("petId"), is(8));
+    }
+
+    @Test
+    void testListVisitsInDateRange() {
+        var from = LocalDate.of(2013, 1, 1);
+        var to = LocalDate.of(2013, 1, 31);
+        Mockito.when(clinicService.findVisits(from, to, null, 20, 10))
+                .thenReturn(List.of(new VisitSummary(4, LocalDate.of(2013, 1, 4), "spayed", 7)));
+
+        var response = visitResource.listVisits(null, from, to, null, 2, 10);
+        assertThat(response.getStatus(), is(200));
+
+        var visitDtoList = (List<VisitDto>)response.getEntity();
+        assertThat(visitDtoList.size(), is(1));
+        assertThat(visitDtoList.get(0).getId(), is(4));
+        assertThat(visitDtoList.get(0).getPetId(), is(7));
+        Mockito.verify(clinicService, Mockito.never()).streamAllVisits();
+    }
+
+    @Test
+    void testListVisitsByIds() {
+        Mockito.when(clinicService.findVisitsByIdIn(List.of(4, 1)))
+                .thenReturn(List.of(new VisitSummary(4, LocalDate.of(2013, 1, 4), "spayed", 7),
+                        new VisitSummary(1, LocalDate.of(2013, 1, 1), "rabies shot", 7)));
 
-        var response = visitResource.listVisits();
+        var response = visitResource.listVisits("4,1,4", null, null, null, 0, 20);
         assertThat(response.getStatus(), is(200));
 
         var visitDtoList = (List<VisitDto>)response.getEntity();
-        assertThat(visitDtoList.size(), is(2));
-        assertThat(visitDtoList.get(0).getId(), is(1));
-        assertThat(visitDtoList.get(1).getId(), is(2));
+        assertThat(visitDtoList.stream().map(VisitDto::getId).toList(), contains(4, 1));
+        Mockito.verify(clinicService, Mockito.never()).streamAllVisits();
+    }
+
+    @Test
+    void testListVisitsBeyondLastPage() {
+        assertThrows(BadRequestException.class,
+                () -> visitResource.listVisits(null, LocalDate.of(2013, 1, 1), null, null, Integer.MAX_VALUE, 10));
+        Mockito.verifyNoInteractions(clinicService);
+    }
+
+    @Test
+    void testListVisitsByIdsWithDateRange() {
+        assertThrows(BadRequestException.class,
+                () -> visitResource.listVisits("1", LocalDate.of(2013, 1, 1), null, null, 0, 20));
     }
 
     @Test
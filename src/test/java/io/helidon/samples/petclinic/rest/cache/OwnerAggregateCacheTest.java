@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.PetType;
+import io.helidon.samples.petclinic.model.Visit;
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.service.CacheTags;
+import io.helidon.samples.petclinic.service.DataChanged;
+import io.helidon.samples.petclinic.service.LastKnownValues;
+import jakarta.json.Json;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class OwnerAggregateCacheTest {
+    private Caches caches;
+    private OwnerAggregateCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        caches = new Caches(Caches.TINY_LFU, Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS));
+        cache = new OwnerAggregateCache(1024 * 1024, caches, LastKnownValues.disabled());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testKeepsJson() {
+        cache.json(1, () -> owner(1));
+        var json = cache.json(1, () -> owner(1));
+
+        assertThat(Json.createReader(new ByteArrayInputStream(json)).readObject().getString("lastName"),
+                is("Franklin"));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    void testRemovesChangedOwner() {
+        cache.json(1, () -> owner(1));
+        cache.json(2, () -> owner(2));
+
+        // a new visit of a pet of owner 1
+        cache.changed(new DataChanged(Set.of(CacheTags.of(Visit.class), CacheTags.of(Visit.class, 7),
+                CacheTags.of(Pet.class, 3), CacheTags.of(Owner.class, 1))));
+        cache.json(1, () -> owner(1));
+        cache.json(2, () -> owner(2));
+
+        assertThat(loads.get(), is(3));
+    }
+
+    @Test
+    void testPetTypeChangeRemovesAll() {
+        cache.json(1, () -> owner(1));
+        cache.json(2, () -> owner(2));
+
+        cache.changed(new DataChanged(Set.of(CacheTags.of(PetType.class), CacheTags.of(PetType.class, 2))));
+        cache.json(1, () -> owner(1));
+        cache.json(2, () -> owner(2));
+
+        assertThat(loads.get(), is(4));
+    }
+
+    @Test
+    void testDoesNotKeepOwnerLoadedDuringChange() {
+        cache.json(1, () -> {
+            cache.changed(new DataChanged(Set.of(CacheTags.of(Owner.class), CacheTags.of(Owner.class, 1))));
+            return owner(1);
+        });
+        cache.json(1, () -> owner(1));
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    void testAcceptsJsonOnly() {
+        var headers = Mockito.mock(HttpHeaders.class);
+        Mockito.when(headers.getAcceptableMediaTypes()).thenReturn(List.of(MediaType.APPLICATION_JSON_TYPE));
+        assertThat(cache.accepts(headers), is(true));
+        assertThat(new OwnerAggregateCache(0, caches, LastKnownValues.disabled()).accepts(headers), is(false));
+
+        Mockito.when(headers.getAcceptableMediaTypes()).thenReturn(List.of(MediaType.valueOf("application/cbor")));
+        assertThat(cache.accepts(headers), is(false));
+    }
+
+    private OwnerDto owner(int id) {
+        loads.incrementAndGet();
+        var owner = new OwnerDto(id, List.of());
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        return owner;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.rest.PetResource;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import io.helidon.samples.petclinic.service.LastKnownValues;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ResponseCacheFilterTest {
+    private static final URI PAGE = URI.create("http://localhost:9966/petclinic/api/pets/7/visits?limit=2");
+    private static final String NEXT = "http://localhost:9966/petclinic/api/pets/7/visits?before=2013-01-01%3A1&limit=2";
+
+    private Counter misses;
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setup() throws NoSuchMethodException {
+        var resourceInfo = Mockito.mock(ResourceInfo.class);
+        Mockito.doReturn(PetResource.class).when(resourceInfo).getResourceClass();
+        Mockito.when(resourceInfo.getResourceMethod())
+                .thenReturn(PetResource.class.getMethod("listPetVisits", Integer.class, String.class, Integer.class));
+        var metrics = Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS);
+        misses = Mockito.mock(Counter.class);
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("response.cache.misses"), ArgumentMatchers.<Tag>any()))
+                .thenReturn(misses);
+        filter = new ResponseCacheFilter(new ResponseCache(10, new Caches(Caches.TINY_LFU, metrics), metrics),
+                LastKnownValues.disabled());
+        filter.resourceInfo = resourceInfo;
+    }
+
+    @Test
+    void testReplaysLinkOfCachedPage() {
+        var visits = List.of(new VisitDto(1, 7));
+
+        // first request, answered by the resource and cached
+        var request = request();
+        filter.filter(request);
+        Mockito.verify(request, Mockito.never()).abortWith(ArgumentMatchers.any());
+        var headers = new MultivaluedHashMap<String, Object>();
+        headers.add(HttpHeaders.LINK, Link.fromUri(NEXT).rel("next").build());
+        var response = Mockito.mock(ContainerResponseContext.class);
+        Mockito.when(response.getStatus()).thenReturn(200);
+        Mockito.when(response.getEntity()).thenReturn(visits);
+        Mockito.when(response.getHeaders()).thenReturn(headers);
+        filter.filter(request, response);
+        assertThat(headers.getFirst(HttpHeaders.LINK).toString(), equalTo("<" + NEXT + ">; rel=\"next\""));
+
+        // second request, answered from the cache
+        request = request();
+        filter.filter(request);
+        var cached = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(request).abortWith(cached.capture());
+        assertThat(cached.getValue().getEntity(), is(sameInstance(visits)));
+        assertThat(cached.getValue().getLink("next").getUri().toString(), equalTo(NEXT));
+    }
+
+    @Test
+    void testCountsMissOfNotFound() {
+        var request = request();
+        filter.filter(request);
+        var response = Mockito.mock(ContainerResponseContext.class);
+        Mockito.when(response.getStatus()).thenReturn(404);
+        filter.filter(request, response);
+
+        Mockito.verify(misses).inc();
+        Mockito.verify(response, Mockito.never()).getEntity();
+    }
+
+    private static ContainerRequestContext request() {
+        var properties = new HashMap<String, Object>();
+        var request = Mockito.mock(ContainerRequestContext.class);
+        var uriInfo = Mockito.mock(UriInfo.class);
+        Mockito.when(uriInfo.getRequestUri()).thenReturn(PAGE);
+        Mockito.when(request.getMethod()).thenReturn("GET");
+        Mockito.when(request.getUriInfo()).thenReturn(uriInfo);
+        Mockito.when(request.getAcceptableMediaTypes()).thenReturn(List.of(MediaType.APPLICATION_JSON_TYPE));
+        Mockito.doAnswer(invocation -> properties.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setProperty(ArgumentMatchers.anyString(), ArgumentMatchers.any());
+        Mockito.when(request.getProperty(ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> properties.get(invocation.<String>getArgument(0)));
+        return request;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ResponseCacheTest {
+    private Counter hits;
+    private Counter misses;
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setup() {
+        var metrics = Mockito.mock(MetricRegistry.class);
+        hits = Mockito.mock(Counter.class);
+        misses = Mockito.mock(Counter.class);
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("response.cache.hits"), ArgumentMatchers.<Tag>any()))
+                .thenReturn(hits);
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("response.cache.misses"), ArgumentMatchers.<Tag>any()))
+                .thenReturn(misses);
+        var caches = new Caches(Caches.LRU, Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS));
+        cache = new ResponseCache(2, caches, metrics);
+    }
+
+    @Test
+    void testGetCachedEntity() {
+        assertThat(cache.get("/owners/1", "getOwner"), nullValue());
+        cache.put("/owners/1", "getOwner", "owner 1", Set.of("Owner#1"), cache.generation());
+
+        assertThat(cache.get("/owners/1", "getOwner"), is("owner 1"));
+        Mockito.verify(misses).inc();
+        Mockito.verify(hits).inc();
+    }
+
+    @Test
+    void testCountsMissOfUncachedResponse() {
+        // a 404 is never put
+        assertThat(cache.get("/owners/42", "getOwner"), nullValue());
+        assertThat(cache.get("/owners/42", "getOwner"), nullValue());
+
+        Mockito.verify(misses, Mockito.times(2)).inc();
+        Mockito.verify(hits, Mockito.never()).inc();
+    }
+
+    @Test
+    void testInvalidateByTag() {
+        cache.put("/owners/1", "getOwner", "owner 1", Set.of("Owner#1", "Pet#1"), cache.generation());
+        cache.put("/pets/2", "getPet", "pet 2", Set.of("Pet#2"), cache.generation());
+
+        cache.invalidate(Set.of("Pet#1", "Visit"));
+        assertThat(cache.get("/owners/1", "getOwner"), nullValue());
+        assertThat(cache.get("/pets/2", "getPet"), is("pet 2"));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    void testDoesNotStoreEntityLoadedBeforeInvalidation() {
+        var generation = cache.generation();
+        cache.invalidate(Set.of("Owner#1"));
+        cache.put("/owners/1", "getOwner", "owner 1", Set.of("Owner#1"), generation);
+
+        assertThat(cache.get("/owners/1", "getOwner"), nullValue());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        cache.put("/owners/1", "getOwner", "owner 1", Set.of("Owner#1"), cache.generation());
+        cache.put("/owners/2", "getOwner", "owner 2", Set.of("Owner#2"), cache.generation());
+        cache.get("/owners/1", "getOwner");
+        cache.put("/owners/3", "getOwner", "owner 3", Set.of("Owner#3"), cache.generation());
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("/owners/2", "getOwner"), nullValue());
+        assertThat(cache.get("/owners/1", "getOwner"), is("owner 1"));
+
+        // the tags of the evicted entry are gone with it
+        cache.put("/owners/2", "getOwner", "owner 2", Set.of("Owner#1"), cache.generation());
+        cache.invalidate(Set.of("Owner#2"));
+        assertThat(cache.get("/owners/2", "getOwner"), is("owner 2"));
+    }
+}
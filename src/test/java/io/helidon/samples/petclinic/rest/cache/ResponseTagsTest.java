@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.SpecialtyDto;
+import io.helidon.samples.petclinic.rest.dto.VetDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ResponseTagsTest {
+    @Test
+    void testOwnerTags() {
+        var pet = new PetDto(3, 1, List.of(new VisitDto(7, 3)));
+        pet.setType(new PetTypeDto(2));
+        var owner = new OwnerDto(1, List.of(pet));
+
+        assertThat(ResponseTags.of(owner), containsInAnyOrder("Owner#1", "Pet#3", "Visit#7", "PetType#2"));
+    }
+
+    @Test
+    void testListTags() {
+        var vet = new VetDto(4);
+        vet.setSpecialties(List.of(new SpecialtyDto(1)));
+
+        assertThat(ResponseTags.of(List.of(vet, new VetDto(5))),
+                containsInAnyOrder("Vet", "Vet#4", "Vet#5", "Specialty#1"));
+    }
+
+    @Test
+    void testNotCacheable() {
+        assertThat(ResponseTags.of(List.of()), nullValue());
+        assertThat(ResponseTags.of(Map.of("id", 1)), nullValue());
+        assertThat(ResponseTags.of(List.of(Map.of("id", 1))), nullValue());
+        assertThat(ResponseTags.of(new byte[0]), nullValue());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.cache;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.rest.ReferencePayloads;
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.service.ClinicService;
+import io.helidon.samples.petclinic.service.LastKnownValues;
+import io.helidon.samples.petclinic.service.ReferenceDataVersion;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WarmCachesTest {
+    @TempDir
+    Path directory;
+
+    private ClinicService clinicService;
+    private Map<String, Long> counters;
+    private Caches caches;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        clinicService = Mockito.mock(ClinicService.class);
+        counters = new HashMap<>(Map.of("Owner", 0L, "Pet", 0L, "Visit", 0L, "Vet", 0L, "PetType", 0L,
+                "Specialty", 0L));
+        Mockito.when(clinicService.findChangeCounters()).thenAnswer(invocation -> Map.copyOf(counters));
+        caches = new Caches(Caches.TINY_LFU, Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testRestoresSavedCaches() throws IOException {
+        var saved = ownerAggregates();
+        saved.json(1, () -> owner(1));
+        saved.json(2, () -> owner(2));
+        warmCaches(saved, Mockito.mock(ReferencePayloads.class)).save();
+
+        var referencePayloads = Mockito.mock(ReferencePayloads.class);
+        var restored = ownerAggregates();
+        warmCaches(restored, referencePayloads).restore();
+        restored.json(1, () -> owner(1));
+        restored.json(2, () -> owner(2));
+
+        assertThat(loads.get(), is(2));
+        Mockito.verify(referencePayloads).read(ArgumentMatchers.any(), ArgumentMatchers.eq(0L));
+    }
+
+    @Test
+    void testSkipsCachesChangedSinceSaved() throws IOException {
+        var saved = ownerAggregates();
+        saved.json(1, () -> owner(1));
+        warmCaches(saved, Mockito.mock(ReferencePayloads.class)).save();
+
+        counters.put("Visit", 1L);
+        var referencePayloads = Mockito.mock(ReferencePayloads.class);
+        var restored = ownerAggregates();
+        warmCaches(restored, referencePayloads).restore();
+        restored.json(1, () -> owner(1));
+
+        assertThat(loads.get(), is(2));
+        Mockito.verify(referencePayloads).read(ArgumentMatchers.any(), ArgumentMatchers.eq(0L));
+    }
+
+    @Test
+    void testDeletesRestoredSnapshot() throws IOException {
+        var saved = ownerAggregates();
+        saved.json(1, () -> owner(1));
+        warmCaches(saved, Mockito.mock(ReferencePayloads.class)).save();
+
+        warmCaches(ownerAggregates(), Mockito.mock(ReferencePayloads.class)).restore(new Object());
+
+        assertThat(Files.exists(directory.resolve("caches.bin")), is(false));
+    }
+
+    @Test
+    void testStartsColdWithoutSnapshot() {
+        var referencePayloads = Mockito.mock(ReferencePayloads.class);
+        warmCaches(ownerAggregates(), referencePayloads).restore(new Object());
+
+        Mockito.verifyNoInteractions(referencePayloads);
+    }
+
+    private WarmCaches warmCaches(OwnerAggregateCache ownerAggregates, ReferencePayloads referencePayloads) {
+        return new WarmCaches(true, Optional.of(directory.resolve("caches.bin").toString()), clinicService,
+                referencePayloads, Mockito.mock(ReferenceDataVersion.class), ownerAggregates);
+    }
+
+    private OwnerAggregateCache ownerAggregates() {
+        return new OwnerAggregateCache(1024 * 1024, caches, LastKnownValues.disabled());
+    }
+
+    private OwnerDto owner(int id) {
+        loads.incrementAndGet();
+        var owner = new OwnerDto(id, List.of());
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        return owner;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.encoding;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class CompressingOutputStreamTest {
+    private final ContentEncodings encodings = new ContentEncodings(true, 64, 6);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final AtomicInteger compressed = new AtomicInteger();
+
+    @Test
+    void testWritesSmallResponseAsItIs() throws IOException {
+        var body = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+        try (var stream = stream()) {
+            stream.write(body);
+            stream.flush();
+        }
+        assertThat(output.toByteArray(), is(body));
+        assertThat(compressed.get(), is(0));
+    }
+
+    @Test
+    void testCompressesLargeResponse() throws IOException {
+        var element = "{\"id\":1},".getBytes(StandardCharsets.UTF_8);
+        var body = new ByteArrayOutputStream();
+        try (var stream = stream()) {
+            for (int i = 0; i < 100; i++) {
+                stream.write(element);
+                body.write(element);
+            }
+            stream.write(']');
+            body.write(']');
+        }
+        assertThat(compressed.get(), is(1));
+        assertThat(ContentEncodingsTest.decode(new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))),
+                is(body.toByteArray()));
+    }
+
+    @Test
+    void testCompressesFromMinSize() throws IOException {
+        var body = new byte[64];
+        try (var stream = stream()) {
+            stream.write(body, 0, 63);
+            assertThat(compressed.get(), is(0));
+            stream.write(body, 63, 1);
+        }
+        assertThat(compressed.get(), is(1));
+        assertThat(ContentEncodingsTest.decode(new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))),
+                is(body));
+    }
+
+    private CompressingOutputStream stream() {
+        return new CompressingOutputStream(output, encodings, ContentEncodings.GZIP, compressed::incrementAndGet);
+    }
+}
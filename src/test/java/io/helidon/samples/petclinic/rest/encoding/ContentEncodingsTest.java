@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.encoding;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ContentEncodingsTest {
+    private static final byte[] PAYLOAD = "{\"name\":\"radiology\"},".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    private final ContentEncodings encodings = new ContentEncodings(true, 1024, 6);
+
+    @Test
+    void testNegotiate() {
+        assertThat(encodings.negotiate(null), nullValue());
+        assertThat(encodings.negotiate("identity"), nullValue());
+        assertThat(encodings.negotiate("gzip, deflate, br"), is(ContentEncodings.GZIP));
+        assertThat(encodings.negotiate("deflate"), is(ContentEncodings.DEFLATE));
+        assertThat(encodings.negotiate("gzip;q=0.5, deflate"), is(ContentEncodings.DEFLATE));
+        assertThat(encodings.negotiate("GZIP ; q=0.8"), is(ContentEncodings.GZIP));
+        assertThat(encodings.negotiate("*"), is(ContentEncodings.GZIP));
+        assertThat(encodings.negotiate("gzip;q=0, *"), is(ContentEncodings.DEFLATE));
+        assertThat(encodings.negotiate("gzip;q=0, deflate;q=0"), nullValue());
+    }
+
+    @Test
+    void testNegotiateDisabled() {
+        var disabled = new ContentEncodings(false, 1024, 6);
+        assertThat(disabled.isEnabled(), is(false));
+        assertThat(disabled.negotiate("gzip"), nullValue());
+    }
+
+    @Test
+    void testInvalidLevel() {
+        assertThrows(IllegalArgumentException.class, () -> new ContentEncodings(true, 1024, 10));
+    }
+
+    @Test
+    void testEncodeGzip() throws IOException {
+        var encoded = encodings.encode(ContentEncodings.GZIP, PAYLOAD);
+        assertThat(encoded.length, lessThan(PAYLOAD.length));
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(encoded))), is(PAYLOAD));
+    }
+
+    @Test
+    void testEncodeDeflate() throws IOException {
+        var encoded = encodings.encode(ContentEncodings.DEFLATE, PAYLOAD);
+        assertThat(encoded.length, lessThan(PAYLOAD.length));
+        assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(encoded))), is(PAYLOAD));
+    }
+
+    static byte[] decode(InputStream input) throws IOException {
+        try (input) {
+            return input.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import io.helidon.samples.petclinic.rest.dto.BatchRequestDto;
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DtoCborProviderTest {
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final DtoCborProvider provider = new DtoCborProvider();
+
+    @Test
+    void testWriteOwnerLikeJson() {
+        var owners = List.of(createOwner(), Map.of("lastName", "Franklin", "pets", List.of()));
+
+        var cbor = write(owners);
+        var json = new ByteArrayOutputStream();
+        try (var generator = JsonCodecs.generator(json)) {
+            JsonCodecs.writeValue(generator, owners);
+        }
+        assertThat(readValue(new CborParser(new ByteArrayInputStream(cbor))),
+                equalTo(readValue(JsonCodecs.parser(new ByteArrayInputStream(json.toByteArray())))));
+        assertThat(cbor.length, lessThan(json.size()));
+    }
+
+    @Test
+    void testReadOwner() {
+        var owner = (OwnerDto) read(OwnerDto.class, write(createOwner()));
+        assertThat(owner.getId(), is(6));
+        assertThat(owner.getLastName(), equalTo("Coleman"));
+        var pet = owner.getPets().get(0);
+        assertThat(pet.getBirthDate(), equalTo(LocalDate.of(2020, 9, 7)));
+        assertThat(pet.getType().getName(), equalTo("dog"));
+        assertThat(pet.getVisits().get(0).getDate(), equalTo(LocalDate.of(2013, 1, 1)));
+    }
+
+    @Test
+    void testReadDefiniteLengths() {
+        // {"id": 8, "birthDate": 1004("2012-09-04"), "name": (_ "Ma", "x"), "weight": 4([-1, 55])}
+        var cbor = HexFormat.of().parseHex("a4" + "626964" + "08"
+                + "69626972746844617465" + "d903ec" + "6a323031322d30392d3034"
+                + "646e616d65" + "7f" + "624d61" + "6178" + "ff"
+                + "66776569676874" + "c4" + "82" + "20" + "1837");
+        var pet = (PetDto) read(PetDto.class, cbor);
+        assertThat(pet.getId(), is(8));
+        assertThat(pet.getBirthDate(), equalTo(LocalDate.of(2012, 9, 4)));
+        assertThat(pet.getName(), equalTo("Max"));
+
+        var value = readValue(new CborParser(new ByteArrayInputStream(cbor)));
+        assertThat(((Map<?, ?>) value).get("weight"), equalTo(new BigDecimal("5.5")));
+    }
+
+    @Test
+    void testReadInvalidBody() {
+        var owner = write(createOwner());
+        assertThrows(BadRequestException.class, () -> read(OwnerDto.class, new byte[0]));
+        assertThrows(BadRequestException.class, () -> read(OwnerDto.class, Arrays.copyOf(owner, owner.length / 2)));
+        // {1: 2}
+        assertThrows(BadRequestException.class, () -> read(OwnerDto.class, HexFormat.of().parseHex("a10102")));
+        // {"id": "6"}
+        assertThrows(BadRequestException.class, () -> read(OwnerDto.class, HexFormat.of().parseHex("a162696461" + "36")));
+    }
+
+    @Test
+    void testReadsLongStringAsItArrives() {
+        // {_ "id": text of 2 GB} with no text, fails at the end of the body instead of allocating 2 GB
+        var cbor = HexFormat.of().parseHex("bf" + "626964" + "7a7ffffff0");
+        assertThrows(BadRequestException.class, () -> read(OwnerDto.class, cbor));
+        // a big number of 2 GB
+        assertThrows(JsonParsingException.class,
+                () -> readValue(new CborParser(new ByteArrayInputStream(HexFormat.of().parseHex("c25a7ffffff0")))));
+    }
+
+    @Test
+    void testRejectsDeepNesting() {
+        var nested = new byte[100_000];
+        Arrays.fill(nested, (byte) 0x9f);
+        assertThrows(JsonParsingException.class, () -> readValue(new CborParser(new ByteArrayInputStream(nested))));
+        Arrays.fill(nested, (byte) 0xc6);
+        assertThrows(JsonParsingException.class, () -> readValue(new CborParser(new ByteArrayInputStream(nested))));
+
+        // {"operations": [{"body": [_ [_ [_ ...}]}, the free-form body of a batch operation
+        var batch = new ByteArrayOutputStream();
+        batch.writeBytes(HexFormat.of().parseHex("a1" + "6a6f7065726174696f6e73" + "81" + "a1" + "64626f6479"));
+        batch.writeBytes(nested);
+        Arrays.fill(nested, (byte) 0x9f);
+        batch.writeBytes(nested);
+        var e = assertThrows(BadRequestException.class, () -> read(BatchRequestDto.class, batch.toByteArray()));
+        assertThat(e.getMessage(), containsString("Nesting is deeper than"));
+    }
+
+    private byte[] write(Object value) {
+        var output = new ByteArrayOutputStream();
+        provider.writeTo(value, value.getClass(), value.getClass(), NO_ANNOTATIONS,
+                DtoCborProvider.APPLICATION_CBOR_TYPE, new MultivaluedHashMap<>(), output);
+        return output.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object read(Class<?> type, byte[] cbor) {
+        return provider.readFrom((Class<Object>) type, type, NO_ANNOTATIONS, DtoCborProvider.APPLICATION_CBOR_TYPE,
+                new MultivaluedHashMap<>(), new ByteArrayInputStream(cbor));
+    }
+
+    private static Object readValue(JsonParser parser) {
+        try (parser) {
+            parser.next();
+            return JsonCodecs.readValue(parser);
+        }
+    }
+
+    private static OwnerDto createOwner() {
+        var type = new PetTypeDto(2);
+        type.setName("dog");
+        var visit = new VisitDto(1, 7);
+        visit.setDate(LocalDate.of(2013, 1, 1));
+        visit.setDescription("rabies shot");
+        var visits = new ArrayList<VisitDto>();
+        visits.add(visit);
+        var pet = new PetDto(7, 6, visits);
+        pet.setName("Samantha");
+        pet.setBirthDate(LocalDate.of(2020, 9, 7));
+        pet.setType(type);
+        var pets = new ArrayList<PetDto>();
+        pets.add(pet);
+        var owner = new OwnerDto(6, pets);
+        owner.setFirstName("Jean");
+        owner.setLastName("Coleman");
+        owner.setAddress("105 N. Lake St.");
+        owner.setCity("Monona");
+        owner.setTelephone("6085552654");
+        return owner;
+    }
+}
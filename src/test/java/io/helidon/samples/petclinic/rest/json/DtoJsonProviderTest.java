@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.rest.json;
+
+import io.helidon.samples.petclinic.rest.dto.OwnerDto;
+import io.helidon.samples.petclinic.rest.dto.OwnerFieldsDto;
+import io.helidon.samples.petclinic.rest.dto.PetDto;
+import io.helidon.samples.petclinic.rest.dto.PetTypeDto;
+import io.helidon.samples.petclinic.rest.dto.VisitDto;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DtoJsonProviderTest {
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final DtoJsonProvider provider = new DtoJsonProvider();
+
+    @Test
+    void testWriteOwnerLikeJsonb() throws IOException {
+        var owners = List.of(createOwner());
+
+        assertThat(parse(write(owners)), equalTo(parse(JsonbBuilder.create().toJson(owners))));
+    }
+
+    @Test
+    void testWriteSelectedFields() throws IOException {
+        var owners = List.of(Map.of("lastName", "Franklin", "pets", createOwner().getPets()));
+
+        var owner = parse(write(owners)).asJsonArray().getJsonObject(0);
+        assertThat(owner.getString("lastName"), equalTo("Franklin"));
+        assertThat(owner.getJsonArray("pets").getJsonObject(0).getString("birthDate"), equalTo("2020-09-07"));
+    }
+
+    @Test
+    void testWriteFallsBackToJsonb() throws IOException {
+        var json = parse(write(List.of(new Named("radiology"))));
+        assertThat(json.asJsonArray().getJsonObject(0).getString("name"), equalTo("radiology"));
+    }
+
+    @Test
+    void testReadOwnerFields() {
+        var owner = (OwnerFieldsDto) read(OwnerFieldsDto.class,
+                "{\"firstName\":\"George\",\"lastName\":\"Franklin\",\"unknown\":{\"a\":[1,2]},\"city\":null}");
+        assertThat(owner.getFirstName(), equalTo("George"));
+        assertThat(owner.getLastName(), equalTo("Franklin"));
+        assertThat(owner.getCity(), nullValue());
+    }
+
+    @Test
+    void testReadPetWithReadOnlyProperties() {
+        var pet = (PetDto) read(PetDto.class, "{\"id\":8,\"name\":\"Max\",\"birthDate\":\"2012-09-04\","
+                + "\"type\":{\"id\":1,\"name\":\"cat\"},\"visits\":[{\"id\":2,\"date\":\"2013-01-02\"}]}");
+        assertThat(pet.getId(), is(8));
+        assertThat(pet.getBirthDate(), equalTo(LocalDate.of(2012, 9, 4)));
+        assertThat(pet.getType().getName(), equalTo("cat"));
+        assertThat(pet.getVisits().get(0).getDate(), equalTo(LocalDate.of(2013, 1, 2)));
+    }
+
+    @Test
+    void testReadInvalidBody() {
+        assertThrows(BadRequestException.class, () -> read(OwnerFieldsDto.class, "{\"firstName\":1}"));
+        assertThrows(BadRequestException.class, () -> read(PetDto.class, "{\"birthDate\":\"yesterday\"}"));
+        assertThrows(BadRequestException.class, () -> read(PetDto.class, "{\"name\":"));
+    }
+
+    @Test
+    void testReadableTypes() {
+        assertThat(provider.isReadable(OwnerDto.class, OwnerDto.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE),
+                is(true));
+        assertThat(provider.isReadable(Map.class, Map.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE),
+                is(false));
+    }
+
+    private String write(Object value) throws IOException {
+        var output = new ByteArrayOutputStream();
+        provider.writeTo(value, value.getClass(), value.getClass(), NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object read(Class<?> type, String json) {
+        return provider.readFrom((Class<Object>) type, type, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static JsonValue parse(String json) {
+        try (var reader = Json.createReader(new StringReader(json))) {
+            return reader.readValue();
+        }
+    }
+
+    private static OwnerDto createOwner() {
+        var type = new PetTypeDto(2);
+        type.setName("dog");
+        var visit = new VisitDto(1, 7);
+        visit.setDate(LocalDate.of(2013, 1, 1));
+        visit.setDescription("rabies shot");
+        var visits = new ArrayList<VisitDto>();
+        visits.add(visit);
+        var pet = new PetDto(7, 6, visits);
+        pet.setName("Samantha");
+        pet.setBirthDate(LocalDate.of(2020, 9, 7));
+        pet.setType(type);
+        var pets = new ArrayList<PetDto>();
+        pets.add(pet);
+        var owner = new OwnerDto(6, pets);
+        owner.setFirstName("Jean");
+        owner.setLastName("Coleman");
+        owner.setAddress("105 N. Lake St.");
+        owner.setCity("Monona");
+        owner.setTelephone("6085552654");
+        return owner;
+    }
+
+    public record Named(String name) {
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.Visit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+class ChangeCountersTest {
+
+    @Test
+    void testCountsTypesInNameOrder() {
+        var clinicService = Mockito.mock(ClinicService.class);
+        var counters = new ChangeCounters(clinicService);
+
+        // the types of two batches changing owners and visits in opposite orders, counted in the same order
+        counters.changed(new DataChanged(Set.of(CacheTags.of(Visit.class), CacheTags.of(Owner.class),
+                CacheTags.of(Owner.class, 1), CacheTags.of(Pet.class, 7))));
+        counters.changed(new DataChanged(Set.of(CacheTags.of(Pet.class, 7))));
+
+        Mockito.verify(clinicService).incrementChangeCounters(List.of("Owner", "Visit"));
+        Mockito.verifyNoMoreInteractions(clinicService);
+    }
+
+    @Test
+    void testCountingFailureDoesNotFailCommittedChange() {
+        var clinicService = Mockito.mock(ClinicService.class);
+        Mockito.doThrow(new IllegalStateException("database unavailable"))
+                .when(clinicService).incrementChangeCounters(ArgumentMatchers.any());
+
+        new ChangeCounters(clinicService).changed(new DataChanged(Set.of(CacheTags.of(Owner.class))));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -17,11 +17,23 @@
 package io.helidon.samples.petclinic.service;
 
 import io.helidon.microprofile.testing.junit5.HelidonTest;
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.Vet;
+import io.helidon.samples.petclinic.model.VisitSummary;
 import jakarta.inject.Inject;
+import jakarta.persistence.Persistence;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,9 +61,18 @@ class ClinicServiceTest {
         assertTrue(owners.isEmpty());
     }
 
+    @Test
+    void testFindOwnerByTelephone() {
+        var owner = clinicService.findOwnerByTelephone("(608) 555-1023").orElseThrow();
+        assertThat(owner.getId(), is(1));
+        assertThat(owner.getLastName(), equalTo("Franklin"));
+
+        assertTrue(clinicService.findOwnerByTelephone("0000000000").isEmpty());
+    }
+
     @Test
     void testFindSingleOwnerWithPet() {
-        var optOwner = clinicService.findOwnerById(1);
+        var optOwner = clinicService.findOwnerById(1, Set.of("pets"));
         assertTrue(optOwner.isPresent());
 
         var owner = optOwner.get();
@@ -61,6 +82,26 @@ class ClinicServiceTest {
         assertThat(owner.getPets().getFirst().getType().getName(), is("dog"));
     }
 
+    @Test
+    void testFindOwnerWithoutPets() {
+        var owner = clinicService.findOwnerById(1).orElseThrow();
+        assertFalse(Persistence.getPersistenceUtil().isLoaded(owner, "pets"));
+    }
+
+    @Test
+    void testFindPets() {
+        var luckies = clinicService.findPets("Lucky", null, null, null, 0, 20);
+        assertThat(luckies.size(), is(2));
+        assertThat(luckies.get(0).name(), equalTo("Lucky"));
+
+        var dogs = clinicService.findPets(null, 2, LocalDate.of(2010, 1, 1), LocalDate.of(2012, 12, 31), 0, 20);
+        assertThat(dogs.size(), is(3));
+        assertThat(dogs.get(0).type().getName(), equalTo("dog"));
+
+        var secondPage = clinicService.findPets(null, 2, LocalDate.of(2010, 1, 1), LocalDate.of(2012, 12, 31), 2, 2);
+        assertThat(secondPage.size(), is(1));
+    }
+
     @Test
     void testFindPetWithCorrectId() {
         var optPet7 = clinicService.findPetById(7);
@@ -83,18 +124,83 @@ class ClinicServiceTest {
         assertThat(vets.size(), is(6));
     }
 
+    @Test
+    void testFindVetsBySpecialties() {
+        var vets = clinicService.findVetsBySpecialties(Set.of("surgery", "dentistry"), true);
+        assertThat(vets.size(), is(1));
+        assertThat(vets.get(0).getLastName(), equalTo("Douglas"));
+
+        vets = clinicService.findVetsBySpecialties(Set.of("radiology", "surgery"), false);
+        assertThat(vets.stream().map(Vet::getId).toList(), contains(2, 3, 4, 5));
+    }
+
+    @Test
+    void testFindVetsBySpecialtyId() {
+        var vets = clinicService.findVetsBySpecialtyId(2);
+        assertThat(vets.stream().map(Vet::getId).toList(), contains(3, 4));
+    }
+
+    @Test
+    void testFindOwnerFields() {
+        var owners = clinicService.findOwnerFields(null, List.of("id", "lastName"));
+        assertThat(owners.size(), is(10));
+        assertThat(owners.get(0).keySet(), contains("id", "lastName"));
+        assertThat(owners.get(0).get("lastName"), equalTo("Franklin"));
+
+        var pets = clinicService.findPetFields(7, List.of("name", "ownerId"));
+        assertThat(pets.size(), is(1));
+        assertThat(pets.get(0).get("ownerId"), is(6));
+    }
+
     @Test
     void testFindVisitsByPetId() {
         var visits = clinicService.findVisitsByPetId(8);
         assertThat(visits.size(), is(2));
     }
 
+    @Test
+    void testFindVisitsInDateRange() {
+        var visits = clinicService.findVisits(LocalDate.of(2013, 1, 2), LocalDate.of(2013, 1, 4), null, 0, 10);
+        assertThat(visits.stream().map(VisitSummary::id).toList(), contains(2, 3, 4));
+
+        visits = clinicService.findVisits(LocalDate.of(2013, 1, 1), null, 2, 1, 10);
+        assertThat(visits.size(), is(1));
+        assertThat(visits.get(0).id(), is(4));
+        assertThat(visits.get(0).petId(), is(7));
+    }
+
+    @Test
+    void testFindVisitsByPetIdBeforeCursor() {
+        var visits = clinicService.findVisitsByPetId(7, null, null, 1);
+        assertThat(visits.stream().map(VisitSummary::id).toList(), contains(4));
+
+        var last = visits.get(0);
+        visits = clinicService.findVisitsByPetId(7, last.date(), last.id(), 10);
+        assertThat(visits.stream().map(VisitSummary::id).toList(), contains(1));
+    }
+
     @Test
     void testFindAllPets() {
         var pets = clinicService.findAllPets();
         assertThat(pets.size(), greaterThan(0));
     }
 
+    @Test
+    void testFindPetsByIdIn() {
+        // more ids than fit into one IN query, in descending order
+        var ids = IntStream.iterate(250, id -> id > 0, id -> id - 1).boxed().toList();
+        var petIds = clinicService.findPetsByIdIn(ids, Set.of()).stream().map(Pet::getId).toList();
+        assertThat(petIds, hasItems(7, 1));
+        assertThat(petIds, equalTo(petIds.stream().sorted(Comparator.reverseOrder()).toList()));
+    }
+
+    @Test
+    void testFindVisitsByIdIn() {
+        var visits = clinicService.findVisitsByIdIn(List.of(4, 999, 1, 4));
+        assertThat(visits.stream().map(VisitSummary::id).toList(), contains(4, 1));
+        assertThat(visits.get(0).petId(), is(7));
+    }
+
     @Test
     void testFindVisitById() {
     	var visit = clinicService.findVisitById(1).orElseThrow();
@@ -109,6 +215,12 @@ class ClinicServiceTest {
         assertThat(visits.size(), is(4));
     }
 
+    @Test
+    void testStreamAllVisits() {
+        var visitIds = clinicService.streamAllVisits().map(VisitSummary::id).toList();
+        assertThat(visitIds, contains(1, 2, 3, 4));
+    }
+
     @Test
     void testFindVetDyId() {
     	var vet = clinicService.findVetById(1).orElseThrow();
@@ -122,6 +234,14 @@ class ClinicServiceTest {
         assertThat(owners.size(), is(10));
     }
 
+    @Test
+    void testStreamAllOwners() {
+        var owners = clinicService.streamAllOwners(Set.of("pets")).toList();
+        assertThat(owners.size(), is(10));
+        assertThat(owners.stream().map(Owner::getId).toList(), contains(IntStream.rangeClosed(1, 10).boxed().toArray()));
+        assertTrue(Persistence.getPersistenceUtil().isLoaded(owners.get(0), "pets"));
+    }
+
     @Test
     void testFindPetTypeById() {
     	var petType = clinicService.findPetTypeById(1).orElseThrow();
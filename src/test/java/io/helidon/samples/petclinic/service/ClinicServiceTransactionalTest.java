@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -79,6 +80,47 @@ public class ClinicServiceTransactionalTest {
         assertThat(owners.size(), is(found + 1));
     }
 
+    @Test
+    void testFindDuplicateOwners() {
+        var owner = new Owner();
+        owner.setFirstName("Eduardo");
+        owner.setLastName("Rodriguez");
+        owner.setAddress("2693 Commerce Street");
+        owner.setCity("McFarland");
+        owner.setTelephone("6085558763");
+        clinicService.saveOwner(owner);
+
+        var duplicatesOfNew = clinicService.findDuplicatesOf(owner, DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+        assertThat(duplicatesOfNew.size(), is(1));
+        assertThat(duplicatesOfNew.get(0).duplicateOwnerId(), is(3));
+
+        // the uncommitted owner is only indexed once its transaction commits
+        var duplicates = clinicService.findDuplicateOwners(DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+        assertTrue(duplicates.stream().noneMatch(d -> d.duplicateOwnerId().equals(owner.getId())));
+
+        clinicService.deleteOwner(owner);
+    }
+
+    @Test
+    void testRolledBackDeleteKeepsDuplicateOwner() throws Exception {
+        var owner = new Owner();
+        owner.setId(100);
+        owner.setFirstName("Eduardo");
+        owner.setLastName("Rodriguez");
+        owner.setAddress("2693 Commerce Street");
+        owner.setCity("McFarland");
+        owner.setTelephone("6085558763");
+        assertThat(clinicService.findDuplicatesOf(owner, DuplicateOwnerDetector.DEFAULT_MIN_SCORE).size(), is(1));
+
+        clinicService.deleteOwner(clinicService.findOwnerById(3).orElseThrow());
+        transaction.rollback();
+        transaction.begin();
+
+        var duplicates = clinicService.findDuplicatesOf(owner, DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+        assertThat(duplicates.size(), is(1));
+        assertThat(duplicates.get(0).duplicateOwnerId(), is(3));
+    }
+
     @Test
     void testUpdateOwner() {
         var optOwner = clinicService.findOwnerById(1);
@@ -305,6 +347,18 @@ public class ClinicServiceTransactionalTest {
         assertTrue(clinicService.findSpecialtyById(1).isEmpty());
     }
 
+    @Test
+    void testRolledBackDeletesKeepVetsBySpecialty() throws Exception {
+        assertThat(vetIds(clinicService.findVetsBySpecialties(Set.of("radiology"), false)), contains(2, 5));
+
+        clinicService.deleteVet(clinicService.findVetById(5).orElseThrow());
+        clinicService.deleteSpecialty(clinicService.findSpecialtyById(1).orElseThrow());
+        transaction.rollback();
+        transaction.begin();
+
+        assertThat(vetIds(clinicService.findVetsBySpecialties(Set.of("radiology"), false)), contains(2, 5));
+    }
+
     @Test
     void testFindSpecialtiesByNameIn() {
         var specialty1 = new Specialty();
@@ -332,4 +386,8 @@ public class ClinicServiceTransactionalTest {
                     && actual.getId().equals(expected.getId())), is(true));
         }
     }
-}
\ No newline at end of file
+
+    private static List<Integer> vetIds(List<Vet> vets) {
+        return vets.stream().map(Vet::getId).toList();
+    }
+}
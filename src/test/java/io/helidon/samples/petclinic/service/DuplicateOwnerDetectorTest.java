@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.Owner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateOwnerDetectorTest {
+    private DuplicateOwnerDetector detector;
+
+    @BeforeEach
+    void setup() {
+        detector = new DuplicateOwnerDetector();
+        detector.load(DuplicateOwnerDetectorTest::rows);
+    }
+
+    @Test
+    void testSoundex() {
+        assertThat(OwnerSimilarity.soundex("Rodriquez"), equalTo("R362"));
+        assertThat(OwnerSimilarity.soundex("Rodriguez"), equalTo("R362"));
+        assertThat(OwnerSimilarity.soundex("Ashcraft"), equalTo("A261"));
+        assertThat(OwnerSimilarity.soundex("Lee"), equalTo("L000"));
+        assertThat(OwnerSimilarity.soundex("123"), equalTo(""));
+    }
+
+    @Test
+    void testJaroWinkler() {
+        assertThat(OwnerSimilarity.jaroWinkler("Martha", "Marhta"), closeTo(0.961, 0.001));
+        assertThat(OwnerSimilarity.jaroWinkler("Davis", "davis"), is(1.0));
+        assertThat(OwnerSimilarity.jaroWinkler("abc", "xyz"), is(0.0));
+    }
+
+    @Test
+    void testFindDuplicates() {
+        var duplicates = detector.findDuplicates(DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+
+        assertThat(duplicates.size(), is(1));
+        assertThat(duplicates.get(0).ownerId(), is(3));
+        assertThat(duplicates.get(0).duplicateOwnerId(), is(5));
+        assertThat(duplicates.get(0).score(), greaterThan(0.9));
+    }
+
+    @Test
+    void testFindDuplicatesOfNewOwner() {
+        var owner = new Owner();
+        owner.setId(6);
+        owner.setFirstName("Georg");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 West Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+
+        var duplicates = detector.findDuplicatesOf(owner, DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+        assertThat(duplicates.size(), is(1));
+        assertThat(duplicates.get(0).duplicateOwnerId(), is(1));
+    }
+
+    @Test
+    void testRemove() {
+        detector.remove(5);
+        assertTrue(detector.findDuplicates(DuplicateOwnerDetector.DEFAULT_MIN_SCORE).isEmpty());
+    }
+
+    @Test
+    void testAppliesCommittedChanges() {
+        var owner = new Owner();
+        owner.setId(6);
+        owner.setFirstName("Georg");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 West Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+
+        detector.changed(new DataChanged(Set.of(CacheTags.of(Owner.class), CacheTags.of(Owner.class, 5)),
+                Set.of(CacheTags.of(Owner.class, 5)), List.of(owner)));
+
+        var duplicates = detector.findDuplicates(DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+        assertThat(duplicates.size(), is(1));
+        assertThat(duplicates.get(0).ownerId(), is(1));
+        assertThat(duplicates.get(0).duplicateOwnerId(), is(6));
+    }
+
+    @Test
+    void testAppliesChangesCommittedWhileLoading() {
+        var owner = new Owner();
+        owner.setId(6);
+        owner.setFirstName("Georg");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 West Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        var loading = new DuplicateOwnerDetector();
+
+        // the rows are read before the change commits, and its event is observed before they are loaded
+        loading.load(() -> {
+            var rows = rows();
+            loading.changed(new DataChanged(Set.of(CacheTags.of(Owner.class), CacheTags.of(Owner.class, 5)),
+                    Set.of(CacheTags.of(Owner.class, 5)), List.of(owner)));
+            return rows;
+        });
+
+        var duplicates = loading.findDuplicates(DuplicateOwnerDetector.DEFAULT_MIN_SCORE);
+        assertThat(duplicates.size(), is(1));
+        assertThat(duplicates.get(0).ownerId(), is(1));
+        assertThat(duplicates.get(0).duplicateOwnerId(), is(6));
+    }
+
+    private static List<Object[]> rows() {
+        return List.of(
+                new Object[] {1, "George", "Franklin", "110 W. Liberty St.", "Madison", "6085551023"},
+                new Object[] {2, "Betty", "Davis", "638 Cardinal Ave.", "Sun Prairie", "6085551749"},
+                new Object[] {3, "Eduardo", "Rodriquez", "2693 Commerce St.", "McFarland", "6085558763"},
+                new Object[] {4, "Harold", "Davis", "563 Friendly St.", "Windsor", "6085553198"},
+                new Object[] {5, "Eduardo", "Rodriguez", "2693 Commerce Street", "McFarland", "608-555-8763"});
+    }
+}
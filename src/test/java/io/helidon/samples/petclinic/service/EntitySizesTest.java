@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.PetType;
+import io.helidon.samples.petclinic.model.Visit;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class EntitySizesTest {
+
+    @Test
+    void testEstimatesLoadedGraph() {
+        var owner = owner();
+        long alone = EntitySizes.estimate(owner);
+        var pet = new Pet();
+        pet.setName("Leo");
+        pet.setBirthDate(LocalDate.of(2010, 9, 7));
+        var type = new PetType();
+        type.setName("cat");
+        pet.setType(type);
+        owner.addPet(pet);
+        long withPet = EntitySizes.estimate(owner);
+        var visit = new Visit();
+        visit.setDescription("rabies shot");
+        pet.addVisit(visit);
+        long withVisit = EntitySizes.estimate(owner);
+
+        assertThat(alone, greaterThan(0L));
+        assertThat(withPet, greaterThan(alone));
+        assertThat(withVisit, greaterThan(withPet));
+        // the pet refers back to its owner, which is not counted again
+        assertThat(withVisit, lessThan(2 * withPet));
+    }
+
+    @Test
+    void testEstimatesContainers() {
+        var owner = owner();
+        long single = EntitySizes.estimate(owner);
+
+        assertThat(EntitySizes.estimate(Optional.of(owner)), greaterThan(single));
+        assertThat(EntitySizes.estimate(List.of(owner, owner())), greaterThan(2 * single));
+        assertThat(EntitySizes.estimate(null), is(0L));
+    }
+
+    private static Owner owner() {
+        var owner = new Owner();
+        owner.setFirstName("George");
+        owner.setLastName("Franklin");
+        owner.setAddress("110 W. Liberty St.");
+        owner.setCity("Madison");
+        owner.setTelephone("6085551023");
+        return owner;
+    }
+}
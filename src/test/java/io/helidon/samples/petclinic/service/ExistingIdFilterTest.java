@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.Owner;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.Vet;
+import io.helidon.samples.petclinic.model.Visit;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ExistingIdFilterTest {
+    private MetricRegistry metrics;
+    private Counter rejectedOwners;
+    private ExistingIdFilter filter;
+
+    @BeforeEach
+    void setup() {
+        metrics = Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS);
+        rejectedOwners = Mockito.mock(Counter.class);
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("clinic.lookups.rejected"),
+                ArgumentMatchers.eq(new Tag("entity", "Owner")))).thenReturn(rejectedOwners);
+        filter = new ExistingIdFilter(true, metrics);
+    }
+
+    @Test
+    void testRejectsMissingIds() {
+        assertThat(filter.isLoaded(Owner.class), is(false));
+        filter.load(Owner.class, List.of(1, 2, 64, 1000));
+
+        assertThat(filter.isLoaded(Owner.class), is(true));
+        assertThat(filter.mightExist(Owner.class, 64), is(true));
+        assertThat(filter.mightExist(Owner.class, 1000), is(true));
+        assertThat(filter.mightExist(Owner.class, 3), is(false));
+        assertThat(filter.mightExist(Owner.class, 1_000_000), is(false));
+        assertThat(filter.mightExist(Owner.class, -1), is(false));
+        Mockito.verify(rejectedOwners, Mockito.times(3)).inc();
+    }
+
+    @Test
+    void testAcceptsAllUntilLoaded() {
+        assertThat(filter.mightExist(Pet.class, 42), is(true));
+        filter.add(Pet.class, 7);
+        filter.load(Pet.class, List.of(1));
+
+        // an id persisted while the ids were loaded is kept
+        assertThat(filter.mightExist(Pet.class, 7), is(true));
+        assertThat(filter.mightExist(Pet.class, 42), is(false));
+    }
+
+    @Test
+    void testAddAndDelete() {
+        filter.load(Visit.class, List.of(1, 2));
+        filter.add(Visit.class, 500);
+        assertThat(filter.mightExist(Visit.class, 500), is(true));
+
+        // only deleted entities are removed, changed ones are kept
+        filter.changed(new DataChanged(Set.of(CacheTags.of(Visit.class, 1), CacheTags.of(Visit.class, 500)),
+                Set.of(CacheTags.of(Visit.class, 500))));
+        assertThat(filter.mightExist(Visit.class, 1), is(true));
+        assertThat(filter.mightExist(Visit.class, 500), is(false));
+    }
+
+    @Test
+    void testUnfilteredTypeOrDisabled() {
+        assertThat(filter.isLoaded(Vet.class), is(true));
+        assertThat(filter.mightExist(Vet.class, 42), is(true));
+
+        var disabled = new ExistingIdFilter(false, metrics);
+        assertThat(disabled.isLoaded(Owner.class), is(true));
+        assertThat(disabled.mightExist(Owner.class, 42), is(true));
+    }
+}
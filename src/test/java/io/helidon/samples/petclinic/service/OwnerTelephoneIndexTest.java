@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OwnerTelephoneIndexTest {
+
+    @Test
+    void testNormalize() {
+        assertThat(OwnerTelephoneIndex.normalize("(608) 555-1023"), equalTo("6085551023"));
+        assertThat(OwnerTelephoneIndex.normalize(null), equalTo(""));
+    }
+
+    @Test
+    void testLoadAndFind() {
+        var index = new OwnerTelephoneIndex();
+        index.load(List.of(new Object[] {1, "6085551023"}, new Object[] {2, "6085551749"}));
+
+        assertTrue(index.isLoaded());
+        assertThat(index.find("608-555-1023").getAsInt(), is(1));
+        assertThat(index.find("6085551749").getAsInt(), is(2));
+        assertTrue(index.find("6085550000").isEmpty());
+        assertTrue(index.find("").isEmpty());
+    }
+
+    @Test
+    void testLeadingZerosAreSignificant() {
+        var index = new OwnerTelephoneIndex();
+        index.put("0123", 1);
+        index.put("123", 2);
+
+        assertThat(index.find("0123").getAsInt(), is(1));
+        assertThat(index.find("123").getAsInt(), is(2));
+    }
+
+    @Test
+    void testRemoveOnlyMatchingOwner() {
+        var index = new OwnerTelephoneIndex();
+        index.put("6085551023", 1);
+
+        index.remove("6085551023", 2);
+        assertThat(index.find("6085551023").getAsInt(), is(1));
+
+        index.remove("6085551023", 1);
+        assertTrue(index.find("6085551023").isEmpty());
+    }
+
+    @Test
+    void testGrowAndRemoveKeepsProbeChains() {
+        var index = new OwnerTelephoneIndex();
+        var rows = new ArrayList<Object[]>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Object[] {i, String.valueOf(6085550000L + i)});
+        }
+        index.load(rows);
+        for (int i = 1000; i < 5000; i++) {
+            index.put(String.valueOf(6085550000L + i), i);
+        }
+        for (int i = 0; i < 5000; i += 2) {
+            index.remove(String.valueOf(6085550000L + i), i);
+        }
+        for (int i = 0; i < 5000; i++) {
+            var ownerId = index.find(String.valueOf(6085550000L + i));
+            if (i % 2 == 0) {
+                assertTrue(ownerId.isEmpty());
+            } else {
+                assertThat(ownerId.getAsInt(), is(i));
+            }
+        }
+    }
+}
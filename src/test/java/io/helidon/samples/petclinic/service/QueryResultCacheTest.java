@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import io.helidon.samples.petclinic.model.Pet;
+import io.helidon.samples.petclinic.model.Visit;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+public class QueryResultCacheTest {
+    private static final String QUERY = "findVisitsByPetId";
+
+    private MetricRegistry metrics;
+    private Counter hits;
+    private AtomicBoolean inTransaction;
+    private QueryResultCache cache;
+    private AtomicInteger runs;
+    private List<List<Integer>> lookups;
+
+    @BeforeEach
+    void setup() {
+        metrics = Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS);
+        hits = Mockito.mock(Counter.class);
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("cache.hits"),
+                ArgumentMatchers.eq(new Tag("cache", "query." + QUERY)))).thenReturn(hits);
+        inTransaction = new AtomicBoolean();
+        // room for two results of one id
+        cache = new QueryResultCache(query -> query.equals("findOwnersByLastName") ? 0 : 700,
+                new Caches(Caches.LRU, metrics), inTransaction::get);
+        runs = new AtomicInteger();
+        lookups = new ArrayList<>();
+    }
+
+    @Test
+    void testLoadsCachedResultsByIds() {
+        assertThat(visitsOfPet(7, () -> List.of(3, 1)), contains(3, 1));
+        assertThat(visitsOfPet(7, () -> List.of(2)), contains(3, 1));
+
+        assertThat(runs.get(), is(1));
+        assertThat(lookups, contains(List.of(3, 1)));
+        assertThat(cache.size(QUERY), is(1));
+        Mockito.verify(hits).inc();
+    }
+
+    @Test
+    void testInvalidatesResultsOfChangedKeys() {
+        visitsOfPet(7, () -> List.of(3, 1));
+        visitsOfPet(8, () -> List.of(4));
+        visitsOfPet(9, () -> List.of());
+
+        // a visit saved for pet 9, and visit 3 moved from pet 7 to pet 8
+        cache.changed(new DataChanged(Set.of(CacheTags.of(Visit.class), CacheTags.of(Pet.class, 9))));
+        cache.changed(new DataChanged(Set.of(CacheTags.of(Visit.class, 3), CacheTags.of(Pet.class, 8))));
+
+        assertThat(cache.size(QUERY), is(0));
+        assertThat(visitsOfPet(9, () -> List.of(5)), contains(5));
+        assertThat(runs.get(), is(4));
+    }
+
+    @Test
+    void testKeepsResultsOfOtherKeys() {
+        visitsOfPet(7, () -> List.of(3, 1));
+        visitsOfPet(8, () -> List.of(4));
+
+        cache.changed(new DataChanged(Set.of(CacheTags.of(Visit.class, 4), CacheTags.of(Pet.class, 8))));
+
+        assertThat(visitsOfPet(7, () -> List.of()), contains(3, 1));
+        assertThat(runs.get(), is(2));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        visitsOfPet(1, () -> List.of(1));
+        visitsOfPet(2, () -> List.of(2));
+        visitsOfPet(1, () -> List.of());
+        visitsOfPet(3, () -> List.of(3));
+
+        assertThat(visitsOfPet(1, () -> List.of()), contains(1));
+        assertThat(visitsOfPet(2, () -> List.of()), is(empty()));
+        assertThat(runs.get(), is(4));
+    }
+
+    @Test
+    void testDoesNotStoreResultsReadBeforeChange() {
+        visitsOfPet(7, () -> {
+            cache.invalidate(Set.of(CacheTags.of(Pet.class, 42)));
+            return List.of(3);
+        });
+
+        assertThat(cache.size(QUERY), is(0));
+    }
+
+    @Test
+    void testRunsQueryInTransactionOrWhenDisabled() {
+        inTransaction.set(true);
+        visitsOfPet(7, () -> List.of(3));
+        inTransaction.set(false);
+        assertThat(cache.size(QUERY), is(0));
+
+        for (int i = 0; i < 2; i++) {
+            cache.find("findOwnersByLastName", List.of("Davis"), Visit.class, Set.of(), id -> id,
+                    () -> {
+                        runs.incrementAndGet();
+                        return List.of(1);
+                    }, ids -> List.of());
+        }
+        assertThat(runs.get(), is(3));
+        assertThat(cache.size("findOwnersByLastName"), is(0));
+    }
+
+    private List<Integer> visitsOfPet(int petId, Supplier<List<Integer>> visitIds) {
+        return cache.find(QUERY, List.of(petId), Visit.class, Set.of(CacheTags.of(Pet.class, petId)), id -> id,
+                () -> {
+                    runs.incrementAndGet();
+                    return visitIds.get();
+                }, ids -> {
+                    lookups.add(ids);
+                    return ids;
+                });
+    }
+}
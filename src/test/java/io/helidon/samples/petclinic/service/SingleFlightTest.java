@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.cache.Caches;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightTest {
+    private static final int KEYS = 4;
+    private static final int CALLERS_PER_KEY = 50;
+
+    private TestCounter loads;
+    private TestCounter coalesced;
+    private MetricRegistry metrics;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setup() {
+        metrics = Mockito.mock(MetricRegistry.class);
+        loads = new TestCounter();
+        coalesced = new TestCounter();
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("clinic.loads"), ArgumentMatchers.<Tag>any()))
+                .thenReturn(loads);
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("clinic.loads.coalesced"), ArgumentMatchers.<Tag>any()))
+                .thenReturn(coalesced);
+        singleFlight = new SingleFlight(metrics, () -> false);
+    }
+
+    @Test
+    void testBurstLoadsOncePerKey() throws Exception {
+        var databaseCalls = new ConcurrentHashMap<Integer, AtomicInteger>();
+        // every load waits until all the other callers wait for it, so a burst is all in flight at once
+        var othersWaiting = coalesced.latch(KEYS * (CALLERS_PER_KEY - 1));
+        var results = new ArrayList<Future<Object>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < KEYS * CALLERS_PER_KEY; i++) {
+                var ownerId = i % KEYS;
+                results.add(executor.submit(() -> singleFlight.load("findOwnerById", List.of(ownerId, Set.of("pets")), () -> {
+                    databaseCalls.computeIfAbsent(ownerId, id -> new AtomicInteger()).incrementAndGet();
+                    await(othersWaiting);
+                    return new Object();
+                })));
+            }
+        }
+
+        assertThat(databaseCalls.size(), is(KEYS));
+        assertThat(databaseCalls.values().stream().map(AtomicInteger::get).toList(), everyItem(is(1)));
+        assertThat(loads.getCount(), is((long) KEYS));
+        assertThat(coalesced.getCount(), is((long) KEYS * (CALLERS_PER_KEY - 1)));
+        for (int i = KEYS; i < results.size(); i++) {
+            assertThat(results.get(i).get(), sameInstance(results.get(i % KEYS).get()));
+        }
+    }
+
+    @Test
+    void testWaitingCallersGetFailure() throws Exception {
+        var failure = new IllegalStateException("database unavailable");
+        var otherWaiting = coalesced.latch(1);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> singleFlight.load("findAllVets", List.of(), () -> {
+                await(otherWaiting);
+                throw failure;
+            }));
+            while (loads.getCount() == 0) {
+                Thread.onSpinWait();
+            }
+            var waiting = executor.submit(() -> singleFlight.load("findAllVets", List.of(), Object::new));
+
+            assertThat(assertThrows(ExecutionException.class, leader::get).getCause(), sameInstance(failure));
+            assertThat(assertThrows(ExecutionException.class, waiting::get).getCause(), sameInstance(failure));
+        }
+        assertThat(loads.getCount(), is(1L));
+    }
+
+    @Test
+    void testLoadsAgainAfterCompletion() {
+        var first = singleFlight.load("findAllPetTypes", List.of(), Object::new);
+        var second = singleFlight.load("findAllPetTypes", List.of(), Object::new);
+
+        assertThat(second, not(sameInstance(first)));
+        assertThat(loads.getCount(), is(2L));
+        assertThat(coalesced.getCount(), is(0L));
+    }
+
+    @Test
+    void testDoesNotCoalesceInTransaction() {
+        var inTransaction = new SingleFlight(Mockito.mock(MetricRegistry.class), () -> true);
+
+        assertThat(inTransaction.load("findAllSpecialties", List.of(), () -> "loaded"), is("loaded"));
+    }
+
+    @Test
+    void testServesLastKnownValueWhenLoadFails() {
+        var lastKnown = lastKnownValues(500);
+        var staleReads = new TestCounter();
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("clinic.loads.stale"), ArgumentMatchers.<Tag>any()))
+                .thenReturn(staleReads);
+        var stale = new SingleFlight(metrics, () -> false, lastKnown);
+        var loaded = stale.load("findAllVets", List.of(), Object::new);
+
+        var served = stale.load("findAllVets", List.of(), () -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        assertThat(served, sameInstance(loaded));
+        assertThat(stale.servedStale(), is(true));
+        assertThat(lastKnown.takeStaleRead().failed(), is(true));
+        assertThat(lastKnown.staleKeys(), is(1));
+        assertThat(staleReads.getCount(), is(1L));
+        assertThrows(IllegalStateException.class, () -> stale.load("findAllPetTypes", List.of(), () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+
+        stale.load("findAllVets", List.of(), Object::new);
+        assertThat(lastKnown.staleKeys(), is(0));
+        assertThat(lastKnown.takeStaleRead(), is(nullValue()));
+    }
+
+    @Test
+    void testWaitingCallerGetsLastKnownValueAfterBudget() throws Exception {
+        var lastKnown = lastKnownValues(50);
+        Mockito.when(metrics.counter(ArgumentMatchers.eq("clinic.loads.stale"), ArgumentMatchers.<Tag>any()))
+                .thenReturn(new TestCounter());
+        var stale = new SingleFlight(metrics, () -> false, lastKnown);
+        var known = stale.load("findOwnerById", 1, Object::new);
+        var slowLoad = new CountDownLatch(1);
+        var refreshed = new Object();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> stale.load("findOwnerById", 1, () -> {
+                await(slowLoad);
+                return refreshed;
+            }));
+            while (loads.getCount() < 2) {
+                Thread.onSpinWait();
+            }
+            var waiting = executor.submit(() -> {
+                var value = stale.load("findOwnerById", 1, Object::new);
+                return List.of(value, lastKnown.takeStaleRead());
+            });
+
+            assertThat(waiting.get().get(0), sameInstance(known));
+            assertThat(((LastKnownValues.StaleRead) waiting.get().get(1)).failed(), is(false));
+            slowLoad.countDown();
+            assertThat(leader.get(), sameInstance(refreshed));
+        }
+        assertThat(stale.load("findOwnerById", 1, () -> {
+            throw new IllegalStateException("database unavailable");
+        }), sameInstance(refreshed));
+        lastKnown.takeStaleRead();
+    }
+
+    private LastKnownValues lastKnownValues(long budgetMillis) {
+        var caches = new Caches(Caches.TINY_LFU, Mockito.mock(MetricRegistry.class, Mockito.RETURNS_DEEP_STUBS));
+        return new LastKnownValues(budgetMillis, 1_000_000, caches, metrics);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class TestCounter implements Counter {
+        private final AtomicLong count = new AtomicLong();
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+
+        /**
+         * Latch counted down by the increments from now on.
+         */
+        CountDownLatch latch(int increments) {
+            latch = new CountDownLatch(increments);
+            return latch;
+        }
+
+        @Override
+        public void inc() {
+            inc(1);
+        }
+
+        @Override
+        public void inc(long n) {
+            count.addAndGet(n);
+            for (int i = 0; i < n; i++) {
+                latch.countDown();
+            }
+        }
+
+        @Override
+        public long getCount() {
+            return count.get();
+        }
+    }
+}
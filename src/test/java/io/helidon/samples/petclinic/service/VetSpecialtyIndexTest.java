@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.samples.petclinic.service;
+
+import io.helidon.samples.petclinic.model.Specialty;
+import io.helidon.samples.petclinic.model.Vet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VetSpecialtyIndexTest {
+    private VetSpecialtyIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new VetSpecialtyIndex();
+        index.load(VetSpecialtyIndexTest::specialties, VetSpecialtyIndexTest::vetSpecialties);
+    }
+
+    @Test
+    void testFindVetsMatchingAll() {
+        assertThat(index.findVets(List.of("surgery", "dentistry"), true), contains(3));
+        assertThat(index.findVets(List.of("surgery"), true), contains(3, 4));
+        assertThat(index.findVets(List.of("surgery", "cardiology"), true), is(empty()));
+    }
+
+    @Test
+    void testFindVetsMatchingAny() {
+        assertThat(index.findVets(List.of("radiology", "dentistry"), false), contains(2, 3, 5));
+        assertThat(index.findVets(List.of("radiology", "cardiology"), false), contains(2, 5));
+        assertThat(index.findVets(List.of("cardiology"), false), is(empty()));
+    }
+
+    @Test
+    void testFindVetsBySpecialtyId() {
+        assertThat(index.findVets(1), contains(2, 5));
+        assertThat(index.findVets(42), is(empty()));
+    }
+
+    @Test
+    void testPutAndRemoveVet() {
+        index.putVet(1, List.of(1, 2));
+        index.putVet(3, List.of(3));
+        index.removeVet(4);
+
+        assertThat(index.findVets(List.of("radiology", "surgery"), true), contains(1));
+        assertThat(index.findVets(2), contains(1));
+        assertThat(index.findVets(3), contains(3));
+    }
+
+    @Test
+    void testRemoveSpecialtyReusesBit() {
+        index.removeSpecialty(1);
+        assertThat(index.findVets(List.of("radiology"), false), is(empty()));
+
+        index.putSpecialty(4, "cardiology");
+        index.putVet(6, List.of(4));
+        assertThat(index.findVets(List.of("cardiology"), true), contains(6));
+        assertThat(index.findVets(List.of("cardiology", "surgery"), false), contains(3, 4, 6));
+    }
+
+    @Test
+    void testRenameSpecialty() {
+        index.putSpecialty(3, "orthodontics");
+        assertThat(index.findVets(List.of("dentistry"), false), is(empty()));
+        assertThat(index.findVets(List.of("orthodontics"), false), contains(3));
+    }
+
+    @Test
+    void testMoreThanSixtyFourSpecialties() {
+        var specialtyIds = new ArrayList<Integer>();
+        IntStream.rangeClosed(10, 100).forEach(id -> {
+            index.putSpecialty(id, "specialty " + id);
+            specialtyIds.add(id);
+        });
+        index.putVet(7, specialtyIds);
+
+        assertThat(index.findVets(List.of("specialty 10", "specialty 100"), true), contains(7));
+        assertThat(index.findVets(List.of("specialty 100", "surgery"), false), contains(3, 4, 7));
+    }
+
+    @Test
+    void testAppliesCommittedChanges() {
+        var cardiology = new Specialty();
+        cardiology.setId(4);
+        cardiology.setName("cardiology");
+        var vet = new Vet();
+        vet.setId(6);
+        vet.setSpecialties(List.of(cardiology));
+
+        index.changed(new DataChanged(Set.of(CacheTags.of(Vet.class), CacheTags.of(Vet.class, 2)),
+                Set.of(CacheTags.of(Vet.class, 2), CacheTags.of(Specialty.class, 2)), List.of(vet, cardiology)));
+
+        assertThat(index.findVets(List.of("cardiology"), false), contains(6));
+        assertThat(index.findVets(List.of("radiology"), false), contains(5));
+        assertThat(index.findVets(List.of("surgery"), false), is(empty()));
+    }
+
+    @Test
+    void testAppliesChangesCommittedWhileLoading() {
+        var cardiology = new Specialty();
+        cardiology.setId(4);
+        cardiology.setName("cardiology");
+        var vet = new Vet();
+        vet.setId(6);
+        vet.setSpecialties(List.of(cardiology));
+        index = new VetSpecialtyIndex();
+
+        index.load(() -> {
+            var rows = specialties();
+            index.changed(new DataChanged(Set.of(CacheTags.of(Vet.class), CacheTags.of(Vet.class, 2)),
+                    Set.of(CacheTags.of(Vet.class, 2), CacheTags.of(Specialty.class, 2)), List.of(vet, cardiology)));
+            return rows;
+        }, VetSpecialtyIndexTest::vetSpecialties);
+
+        assertThat(index.isLoaded(), is(true));
+        assertThat(index.findVets(List.of("cardiology"), false), contains(6));
+        assertThat(index.findVets(List.of("radiology"), false), contains(5));
+        assertThat(index.findVets(List.of("surgery"), false), is(empty()));
+    }
+
+    private static List<Object[]> specialties() {
+        return List.of(new Object[] {1, "radiology"}, new Object[] {2, "surgery"}, new Object[] {3, "dentistry"});
+    }
+
+    private static List<Object[]> vetSpecialties() {
+        return List.of(new Object[] {1, null}, new Object[] {2, 1}, new Object[] {3, 2}, new Object[] {3, 3},
+                new Object[] {4, 2}, new Object[] {5, 1}, new Object[] {6, null});
+    }
+}